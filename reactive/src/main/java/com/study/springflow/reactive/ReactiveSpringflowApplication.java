@@ -0,0 +1,64 @@
+package com.study.springflow.reactive;
+
+import com.study.springflow.reactive.entity.Member;
+import com.study.springflow.reactive.service.MemberService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@SpringBootApplication
+public class ReactiveSpringflowApplication {
+
+	/**
+	 * 리액티브 변형 애플리케이션 메인 클래스
+	 * - Netty 이벤트 루프 + R2DBC로 요청을 논블로킹 처리
+	 */
+	public static void main(String[] args) {
+		log.info("\n=== SpringFlow Reactive 애플리케이션 시작 ===\n");
+		SpringApplication.run(ReactiveSpringflowApplication.class, args);
+	}
+
+	/**
+	 * 애플리케이션 구동 시 초기 데이터 설정
+	 * - 서블릿 모듈과 같은 관리자/사용자 계정 생성 (admin/admin123, user/user123)
+	 * - 구동 시점 1회 작업이므로 block()으로 완료를 기다림
+	 */
+	@Bean
+	public CommandLineRunner initData(MemberService memberService) {
+		return args -> {
+			log.info("\n=== 초기 데이터 설정 시작 ===\n");
+
+			Member admin = Member.builder()
+					.username("admin")
+					.password("admin123") // MemberService에서 암호화됨
+					.name("관리자")
+					.email("admin@example.com")
+					.role(Member.MemberRole.ADMIN)
+					.build();
+
+			Member user = Member.builder()
+					.username("user")
+					.password("user123") // MemberService에서 암호화됨
+					.name("일반 사용자")
+					.email("user@example.com")
+					.role(Member.MemberRole.USER)
+					.build();
+
+			Flux.just(admin, user)
+					.concatMap(member -> memberService.register(member)
+							.doOnNext(saved -> log.info("계정 생성 완료: {}", saved.getUsername()))
+							.onErrorResume(e -> {
+								log.error("계정 생성 실패: {}", e.getMessage());
+								return Mono.empty();
+							}))
+					.blockLast();
+
+			log.info("\n=== 초기 데이터 설정 완료 ===\n");
+		};
+	}
+}
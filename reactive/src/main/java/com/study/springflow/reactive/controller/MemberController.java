@@ -0,0 +1,151 @@
+package com.study.springflow.reactive.controller;
+
+import com.study.springflow.reactive.entity.Member;
+import com.study.springflow.reactive.security.dto.PasswordChangeRequest;
+import com.study.springflow.reactive.service.MemberService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 관리 REST 컨트롤러 (리액티브)
+ * - 서블릿 모듈 MemberController와 같은 경로와 같은 인가 규칙
+ *   ("관리자 또는 본인"은 리액티브 SpEL 제약으로 memberSecurity.isAdminOrResourceOwner 하나로 표현)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/members")
+@RequiredArgsConstructor
+@Tag(name = "회원 관리", description = "회원 정보 관리 API")
+@SecurityRequirement(name = "bearerAuth")
+public class MemberController {
+
+    private final MemberService memberService;
+
+    /**
+     * 회원 상세 조회 API (본인 또는 관리자만 접근 가능)
+     */
+    @GetMapping("/{id}")
+    @PreAuthorize("@memberSecurity.isAdminOrResourceOwner(#id, authentication)")
+    @Operation(summary = "회원 상세 조회", description = "회원 ID로 상세 정보 조회 (본인 또는 관리자만 접근 가능)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "회원 없음")
+    })
+    public Mono<ResponseEntity<Member>> getMember(@Parameter(description = "회원 ID") @PathVariable Long id) {
+        log.info("[MemberController] 회원 조회 요청: {}", id);
+        return memberService.findById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 현재 로그인한 사용자 정보 조회 API
+     */
+    @GetMapping("/me")
+    @Operation(summary = "내 정보 조회", description = "현재 로그인한 사용자 정보 조회")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "회원 없음")
+    })
+    public Mono<ResponseEntity<Member>> getCurrentMember(@AuthenticationPrincipal UserDetails userDetails) {
+        log.info("[MemberController] 현재 로그인 사용자 정보 조회: {}", userDetails.getUsername());
+        return memberService.findByUsername(userDetails.getUsername())
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 사용자명으로 회원 조회 API (관리자만 접근 가능)
+     */
+    @GetMapping("/by-username/{username}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "사용자명으로 회원 조회", description = "사용자명으로 회원 정보 조회 (관리자만 접근 가능)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "404", description = "회원 없음")
+    })
+    public Mono<ResponseEntity<Member>> getMemberByUsername(
+            @Parameter(description = "사용자명") @PathVariable String username) {
+        log.info("[MemberController] 사용자명으로 회원 조회: {}", username);
+        return memberService.findByUsername(username)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 관리자 목록 조회 API (관리자만 접근 가능)
+     */
+    @GetMapping("/admins")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "관리자 목록 조회", description = "관리자 권한을 가진 회원 목록 조회 (관리자만 접근 가능)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public Mono<ResponseEntity<List<Member>>> getAdmins() {
+        log.info("[MemberController] 관리자 목록 조회 요청");
+        return memberService.findAdmins()
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 비밀번호 변경 API (본인만 접근 가능)
+     */
+    @PutMapping("/{id}/password")
+    @PreAuthorize("@memberSecurity.isResourceOwner(#id, authentication)")
+    @Operation(summary = "비밀번호 변경", description = "회원 비밀번호 변경 (본인만 접근 가능)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "변경 성공"),
+            @ApiResponse(responseCode = "400", description = "입력값 오류"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public Mono<ResponseEntity<Map<String, String>>> changePassword(
+            @Parameter(description = "회원 ID") @PathVariable Long id,
+            @RequestBody PasswordChangeRequest request) {
+        log.info("[MemberController] 비밀번호 변경 요청: {}", id);
+        return memberService.changePassword(id, request.getCurrentPassword(), request.getNewPassword())
+                .map(updated -> ResponseEntity.ok(Map.of("message", "비밀번호가 성공적으로 변경되었습니다.")))
+                .onErrorResume(IllegalArgumentException.class,
+                        e -> Mono.just(ResponseEntity.badRequest().body(Map.of("error", e.getMessage()))));
+    }
+
+    /**
+     * 회원 삭제 API (본인 또는 관리자만 접근 가능)
+     */
+    @DeleteMapping("/{id}")
+    @PreAuthorize("@memberSecurity.isAdminOrResourceOwner(#id, authentication)")
+    @Operation(summary = "회원 삭제", description = "회원 삭제 (본인 또는 관리자만 접근 가능)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "삭제 성공"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public Mono<ResponseEntity<Map<String, String>>> deleteMember(
+            @Parameter(description = "회원 ID") @PathVariable Long id,
+            @Parameter(description = "오류 시뮬레이션 여부") @RequestParam(defaultValue = "false") boolean simulateError) {
+        log.info("[MemberController] 회원 삭제 요청: {}" + (simulateError ? " (오류 시뮬레이션)" : ""), id);
+        return memberService.delete(id, simulateError)
+                .thenReturn(ResponseEntity.ok(Map.of("message", "회원이 삭제되었습니다.")))
+                .onErrorResume(e -> Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(Map.of("error", e.getMessage()))));
+    }
+}
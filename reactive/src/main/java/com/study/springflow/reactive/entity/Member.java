@@ -0,0 +1,49 @@
+package com.study.springflow.reactive.entity;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Table("members")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Member {
+
+    /**
+     * 회원 엔티티 (R2DBC)
+     * - 서블릿 모듈의 Member와 같은 테이블/필드 구조
+     * - R2DBC는 지연 로딩, 더티 체킹이 없으므로 변경 시 save()로 명시적으로 UPDATE
+     */
+    @Id
+    private Long id;
+
+    private String username;
+
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY) // 해시된 비밀번호는 응답에 포함하지 않음
+    private String password;
+
+    private String name;
+
+    private String email;
+
+    private MemberRole role;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime lastLoginAt;
+
+    /**
+     * 회원 역할 열거형
+     */
+    public enum MemberRole {
+        USER, ADMIN
+    }
+}
@@ -0,0 +1,21 @@
+package com.study.springflow.reactive.repository;
+
+import com.study.springflow.reactive.entity.Member;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 회원 리액티브 리포지토리
+ * - 메서드 이름 기반 쿼리는 서블릿 모듈의 MemberRepository와 동일
+ */
+@Repository
+public interface MemberRepository extends ReactiveCrudRepository<Member, Long> {
+
+    Mono<Member> findByUsername(String username);
+
+    Mono<Member> findByEmail(String email);
+
+    Flux<Member> findByRole(Member.MemberRole role);
+}
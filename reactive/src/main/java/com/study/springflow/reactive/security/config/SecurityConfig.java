@@ -0,0 +1,95 @@
+package com.study.springflow.reactive.security.config;
+
+import com.study.springflow.reactive.security.jwt.JwtAuthenticationWebFilter;
+import com.study.springflow.reactive.security.jwt.JwtServerAccessDeniedHandler;
+import com.study.springflow.reactive.security.jwt.JwtServerAuthenticationEntryPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 웹플럭스 시큐리티 설정
+ * - 서블릿 모듈 SecurityConfig와 같은 규칙: JWT 무상태 인증, /api/auth/** 공개, 나머지는 인증 필요
+ * - 메서드 보안(@PreAuthorize)은 리액티브 반환 타입(Mono/Flux)에 적용
+ */
+@Configuration
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity // @PreAuthorize 활성화 (Mono<Boolean>을 반환하는 SpEL 빈 메서드 지원)
+@RequiredArgsConstructor
+public class SecurityConfig {
+
+    private final JwtAuthenticationWebFilter jwtAuthenticationWebFilter;
+    private final JwtServerAuthenticationEntryPoint authenticationEntryPoint;
+    private final JwtServerAccessDeniedHandler accessDeniedHandler;
+
+    @Value("${springflow.reactive.bcrypt.threads:4}")
+    private int bcryptThreads;
+
+    @Value("${springflow.reactive.bcrypt.queue-size:10000}")
+    private int bcryptQueueSize;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                // 세션 대신 매 요청 JWT로 인증 (서블릿 모듈의 STATELESS)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(authenticationEntryPoint)
+                        .accessDeniedHandler(accessDeniedHandler))
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers("/api/auth/**").permitAll()
+                        .pathMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html", "/webjars/**").permitAll()
+                        .pathMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                        .pathMatchers("/actuator/**").hasRole("ADMIN")
+                        .anyExchange().authenticated())
+                .addFilterAt(jwtAuthenticationWebFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    /**
+     * BCrypt 전용 스케줄러
+     * - BCrypt는 한 번에 수십~수백 ms CPU를 쓰므로 이벤트 루프(코어 수만큼)에서 실행하면 전체 처리가 멈춤
+     * - 스레드 수와 대기열을 제한하여 로그인 폭주 시에도 CPU/메모리 사용량 상한 유지 (대기열 초과 시 즉시 실패)
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordScheduler() {
+        return Schedulers.newBoundedElastic(bcryptThreads, bcryptQueueSize, "bcrypt");
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    /**
+     * 로그인 인증 매니저
+     * - 비밀번호 검증(BCrypt matches)을 passwordScheduler에서 실행
+     */
+    @Bean
+    public ReactiveAuthenticationManager reactiveAuthenticationManager(ReactiveUserDetailsService userDetailsService,
+                                                                       PasswordEncoder passwordEncoder,
+                                                                       Scheduler passwordScheduler) {
+        UserDetailsRepositoryReactiveAuthenticationManager authenticationManager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(userDetailsService);
+        authenticationManager.setPasswordEncoder(passwordEncoder);
+        authenticationManager.setScheduler(passwordScheduler);
+        return authenticationManager;
+    }
+}
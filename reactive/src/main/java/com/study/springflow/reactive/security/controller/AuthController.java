@@ -0,0 +1,99 @@
+package com.study.springflow.reactive.security.controller;
+
+import com.study.springflow.reactive.entity.Member;
+import com.study.springflow.reactive.security.dto.LoginRequest;
+import com.study.springflow.reactive.security.dto.TokenResponse;
+import com.study.springflow.reactive.security.jwt.JwtTokenProvider;
+import com.study.springflow.reactive.service.MemberService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * 인증 관련 API 컨트롤러 (리액티브)
+ * - 서블릿 모듈 AuthController와 같은 로그인/회원가입 API
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+@Tag(name = "인증", description = "인증 관련 API - 로그인, 회원가입")
+public class AuthController {
+
+    private final ReactiveAuthenticationManager authenticationManager;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final MemberService memberService;
+
+    /**
+     * 로그인 API
+     * - 인증(BCrypt 검증은 passwordScheduler) → 로그인 시간 업데이트 → JWT 토큰 발급
+     */
+    @PostMapping("/login")
+    @Operation(summary = "로그인", description = "사용자 인증 후 JWT 토큰 발급")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "로그인 성공",
+                    content = @Content(schema = @Schema(implementation = TokenResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    public Mono<ResponseEntity<?>> login(@RequestBody LoginRequest loginRequest) {
+        log.info("[AuthController] 로그인 요청: {}", loginRequest.getUsername());
+
+        return authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()))
+                .flatMap(authentication -> memberService.findByUsername(authentication.getName()))
+                .flatMap(member -> memberService.updateLastLogin(member.getId()))
+                .<ResponseEntity<?>>map(member -> {
+                    String token = jwtTokenProvider.createToken(member.getUsername(), member.getRole().name());
+                    log.info("[AuthController] 로그인 성공: {}", member.getUsername());
+                    return ResponseEntity.ok(TokenResponse.builder()
+                            .token(token)
+                            .username(member.getUsername())
+                            .role(member.getRole().name())
+                            .build());
+                })
+                .onErrorResume(AuthenticationException.class, e -> {
+                    log.info("[AuthController] 로그인 실패: {}", loginRequest.getUsername());
+                    return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                            .body(Map.of("error", "아이디 또는 비밀번호가 올바르지 않습니다.")));
+                });
+    }
+
+    /**
+     * 회원가입 API
+     */
+    @PostMapping("/register")
+    @Operation(summary = "회원가입", description = "새 회원 등록")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "회원가입 성공",
+                    content = @Content(schema = @Schema(implementation = Member.class))),
+            @ApiResponse(responseCode = "400", description = "입력값 오류 또는 중복된 사용자")
+    })
+    public Mono<ResponseEntity<?>> register(@RequestBody Member member) {
+        log.info("[AuthController] 회원가입 요청: {}", member.getUsername());
+
+        return memberService.register(member)
+                .<ResponseEntity<?>>map(registered -> {
+                    log.info("[AuthController] 회원가입 성공: {}", registered.getUsername());
+                    return ResponseEntity.ok(registered);
+                })
+                .onErrorResume(IllegalArgumentException.class,
+                        e -> Mono.just(ResponseEntity.badRequest().body(Map.of("error", e.getMessage()))));
+    }
+}
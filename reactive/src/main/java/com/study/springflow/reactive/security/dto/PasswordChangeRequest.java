@@ -0,0 +1,18 @@
+package com.study.springflow.reactive.security.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비밀번호 변경 요청을 위한 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PasswordChangeRequest {
+    private String currentPassword;
+    private String newPassword;
+}
@@ -0,0 +1,41 @@
+package com.study.springflow.reactive.security.jwt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * JWT 인증 웹 필터
+ * - 서블릿 모듈 JwtAuthenticationFilter의 리액티브 버전
+ * - 유효한 토큰이면 인증 정보를 리액티브 컨텍스트(ReactiveSecurityContextHolder)에 넣고 다음 필터 실행
+ * - 토큰이 없거나 유효하지 않으면 인증 없이 진행 → 인가 단계에서 401
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = jwtTokenProvider.resolveToken(exchange.getRequest());
+        log.debug("[JwtAuthenticationWebFilter] URI: {}, JWT 토큰 존재 여부: {}",
+                exchange.getRequest().getPath(), token != null);
+
+        if (token == null || !jwtTokenProvider.validateToken(token)) {
+            return chain.filter(exchange);
+        }
+        // chain.filter()는 빈 Mono로 끝나므로 switchIfEmpty로 분기하면 체인이 두 번 실행됨 → 컨텍스트만 분기
+        return jwtTokenProvider.getAuthentication(token)
+                .map(ReactiveSecurityContextHolder::withAuthentication)
+                .defaultIfEmpty(Context.empty())
+                .flatMap(context -> chain.filter(exchange).contextWrite(context));
+    }
+}
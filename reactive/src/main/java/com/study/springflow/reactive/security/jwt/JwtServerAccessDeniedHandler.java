@@ -0,0 +1,24 @@
+package com.study.springflow.reactive.security.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증은 되었지만 권한이 없는 리소스에 접근할 때 처리
+ * - 서블릿 모듈 JwtAccessDeniedHandler와 같은 403 JSON 응답
+ */
+@Slf4j
+@Component
+public class JwtServerAccessDeniedHandler implements ServerAccessDeniedHandler {
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, AccessDeniedException deniedException) {
+        log.error("[JwtServerAccessDeniedHandler] 접근 거부: {}", deniedException.getMessage());
+        return JsonErrorWriter.write(exchange, HttpStatus.FORBIDDEN, "접근 권한이 없습니다.", deniedException.getMessage());
+    }
+}
@@ -0,0 +1,24 @@
+package com.study.springflow.reactive.security.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증되지 않은 사용자가 보호된 리소스에 접근할 때 처리
+ * - 서블릿 모듈 JwtAuthenticationEntryPoint와 같은 401 JSON 응답
+ */
+@Slf4j
+@Component
+public class JwtServerAuthenticationEntryPoint implements ServerAuthenticationEntryPoint {
+
+    @Override
+    public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException authException) {
+        log.error("[JwtServerAuthenticationEntryPoint] 인증 실패: {}", authException.getMessage());
+        return JsonErrorWriter.write(exchange, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.", authException.getMessage());
+    }
+}
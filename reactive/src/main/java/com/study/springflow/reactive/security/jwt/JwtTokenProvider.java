@@ -0,0 +1,118 @@
+package com.study.springflow.reactive.security.jwt;
+
+import io.jsonwebtoken.*;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+
+/**
+ * JWT 토큰 생성 및 검증 (리액티브)
+ * - 서블릿 모듈 JwtTokenProvider와 같은 규칙: HS256, subject = 사용자명, "role" 클레임, 같은 키/만료 시간
+ * - 토큰 파싱은 짧은 CPU 작업이므로 이벤트 루프에서 바로 처리하고, 사용자 조회만 리액티브로 연결
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtTokenProvider {
+
+    @Value("${security.jwt.token.secret-key}")
+    private String secretKey;
+
+    @Value("${security.jwt.token.expire-length}")
+    private long validityInMilliseconds;
+
+    private Key key;
+
+    private final ReactiveUserDetailsService userDetailsService;
+
+    @PostConstruct
+    protected void init() {
+        log.info("[JwtTokenProvider] JWT 시크릿 키 초기화");
+        this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * JWT 토큰 생성
+     * @param username 사용자 아이디
+     * @param role 사용자 권한
+     * @return 생성된 JWT 토큰
+     */
+    public String createToken(String username, String role) {
+        log.info("[JwtTokenProvider] '{}' 사용자를 위한 JWT 토큰 생성", username);
+
+        Claims claims = Jwts.claims().setSubject(username);
+        claims.put("role", role);
+
+        Date now = new Date();
+        Date validity = new Date(now.getTime() + validityInMilliseconds);
+
+        return Jwts.builder()
+                .setClaims(claims)
+                .setIssuedAt(now)
+                .setExpiration(validity)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * 토큰에서 인증 정보 추출
+     * - 서블릿 모듈과 같이 매 요청마다 DB에서 사용자를 다시 조회 (삭제/권한 변경 즉시 반영)
+     */
+    public Mono<Authentication> getAuthentication(String token) {
+        return userDetailsService.findByUsername(getUsername(token))
+                .map(userDetails -> new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities()));
+    }
+
+    public String getUsername(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    /**
+     * HTTP 요청 헤더에서 토큰 추출
+     * @return 추출된 토큰 (없으면 null)
+     */
+    public String resolveToken(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+
+    /**
+     * 토큰 유효성 검증
+     */
+    public boolean validateToken(String token) {
+        try {
+            Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token);
+            return true;
+        } catch (ExpiredJwtException e) {
+            log.error("[JwtTokenProvider] 만료된 JWT 토큰: {}", e.getMessage());
+            return false;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("[JwtTokenProvider] 유효하지 않은 JWT 토큰: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.study.springflow.reactive.security.service;
+
+import com.study.springflow.reactive.entity.Member;
+import com.study.springflow.reactive.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+
+/**
+ * 리액티브 사용자 상세 서비스 구현
+ * - 서블릿 모듈 UserDetailsServiceImpl과 같이 "ROLE_" + 역할 권한 부여
+ * - 사용자가 없으면 빈 Mono (인증 매니저가 BadCredentialsException으로 처리)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveUserDetailsServiceImpl implements ReactiveUserDetailsService {
+
+    private final MemberRepository memberRepository;
+
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+        log.info("[ReactiveUserDetailsService] 사용자 인증 정보 조회: {}", username);
+        return memberRepository.findByUsername(username)
+                .map(this::createUserDetails);
+    }
+
+    private UserDetails createUserDetails(Member member) {
+        SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + member.getRole().name());
+
+        return User.builder()
+                .username(member.getUsername())
+                .password(member.getPassword())
+                .authorities(Collections.singleton(authority))
+                .build();
+    }
+}
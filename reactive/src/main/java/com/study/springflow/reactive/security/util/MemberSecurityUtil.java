@@ -0,0 +1,51 @@
+package com.study.springflow.reactive.security.util;
+
+import com.study.springflow.reactive.service.MemberService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리소스 소유자 확인 (리액티브)
+ * - @PreAuthorize("@memberSecurity.isResourceOwner(#id, authentication)")에서 사용
+ * - 리액티브 메서드 보안은 Mono<Boolean> 결과를 구독하여 판단
+ * - SpEL에서 Mono<Boolean>은 식 전체의 결과로만 쓸 수 있으므로(or/and 조합 불가)
+ *   "관리자 또는 본인" 규칙은 isAdminOrResourceOwner 하나로 제공
+ */
+@Slf4j
+@Component("memberSecurity")
+@RequiredArgsConstructor
+public class MemberSecurityUtil {
+
+    private final MemberService memberService;
+
+    /**
+     * 관리자이거나 리소스 소유자인지 확인
+     * - 서블릿 모듈의 "hasRole('ADMIN') or @memberSecurity.isResourceOwner(#id, authentication)"과 같은 규칙
+     */
+    public Mono<Boolean> isAdminOrResourceOwner(Long resourceId, Authentication authentication) {
+        if (authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()))) {
+            return Mono.just(true);
+        }
+        return isResourceOwner(resourceId, authentication);
+    }
+
+    /**
+     * 현재 인증된 사용자가 리소스 소유자인지 확인
+     */
+    public Mono<Boolean> isResourceOwner(Long resourceId, Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return Mono.just(false);
+        }
+
+        String username = authentication.getName();
+        log.debug("[MemberSecurity] 리소스({}) 소유자 확인: {}", resourceId, username);
+
+        return memberService.findByUsername(username)
+                .map(member -> member.getId().equals(resourceId))
+                .defaultIfEmpty(false);
+    }
+}
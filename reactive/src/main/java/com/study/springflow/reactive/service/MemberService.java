@@ -0,0 +1,128 @@
+package com.study.springflow.reactive.service;
+
+import com.study.springflow.reactive.entity.Member;
+import com.study.springflow.reactive.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 서비스 (리액티브)
+ * - 서블릿 모듈 MemberService와 같은 비즈니스 규칙
+ * - BCrypt 해싱/검증은 CPU를 오래 점유하므로 passwordScheduler(크기 제한 스케줄러)에서 실행
+ *   → 이벤트 루프 스레드는 다른 요청의 I/O 처리를 계속할 수 있음
+ * - @Transactional은 R2dbcTransactionManager가 리액티브 컨텍스트 기반으로 처리
+ *   (단건 조회는 트랜잭션 없이 실행, r2dbc-h2는 트랜잭션 단위 readOnly 옵션을 지원하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberService {
+
+    private final MemberRepository memberRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler passwordScheduler;
+
+    /**
+     * 회원 가입 서비스
+     * - 중복 검증 → 비밀번호 암호화(passwordScheduler) → 저장
+     */
+    @Transactional
+    public Mono<Member> register(Member member) {
+        log.info("[MemberService] 회원 가입 시작: {}", member.getUsername());
+
+        return memberRepository.findByUsername(member.getUsername())
+                .flatMap(existing -> Mono.<Member>error(
+                        new IllegalArgumentException("이미 존재하는 사용자명입니다: " + member.getUsername())))
+                .switchIfEmpty(Mono.defer(() -> memberRepository.findByEmail(member.getEmail())))
+                .flatMap(existing -> Mono.<Member>error(
+                        new IllegalArgumentException("이미 사용 중인 이메일입니다: " + member.getEmail())))
+                .switchIfEmpty(Mono.defer(() -> encode(member.getPassword())
+                        .flatMap(encoded -> {
+                            member.setId(null);
+                            member.setPassword(encoded);
+                            member.setCreatedAt(LocalDateTime.now());
+                            return memberRepository.save(member);
+                        })))
+                .doOnNext(saved -> log.info("[MemberService] 회원 가입 완료: {}", saved.getId()));
+    }
+
+    public Mono<Member> findById(Long id) {
+        log.info("[MemberService] ID로 회원 조회: {}", id);
+        return memberRepository.findById(id);
+    }
+
+    public Mono<Member> findByUsername(String username) {
+        log.info("[MemberService] 사용자명으로 회원 조회: {}", username);
+        return memberRepository.findByUsername(username);
+    }
+
+    public Flux<Member> findAdmins() {
+        log.info("[MemberService] 관리자 목록 조회");
+        return memberRepository.findByRole(Member.MemberRole.ADMIN);
+    }
+
+    @Transactional
+    public Mono<Member> updateLastLogin(Long memberId) {
+        log.info("[MemberService] 로그인 시간 업데이트: {}", memberId);
+        return memberRepository.findById(memberId)
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("회원을 찾을 수 없습니다: " + memberId)))
+                .flatMap(member -> {
+                    member.setLastLoginAt(LocalDateTime.now());
+                    return memberRepository.save(member);
+                });
+    }
+
+    /**
+     * 회원 정보 삭제
+     * - simulateError=true면 삭제 후 예외를 발생시켜 트랜잭션 롤백 확인
+     */
+    @Transactional
+    public Mono<Void> delete(Long memberId, boolean simulateError) {
+        log.info("[MemberService] 회원 삭제 시작: {}", memberId);
+        return memberRepository.deleteById(memberId)
+                .then(Mono.defer(() -> {
+                    if (simulateError) {
+                        log.info("[MemberService] 의도적 예외 발생 (트랜잭션 롤백 테스트)");
+                        return Mono.<Void>error(new RuntimeException("회원 삭제 중 의도적 오류 발생 (롤백 테스트)"));
+                    }
+                    log.info("[MemberService] 회원 삭제 완료: {}", memberId);
+                    return Mono.<Void>empty();
+                }));
+    }
+
+    /**
+     * 회원 비밀번호 변경
+     * - 현재 비밀번호 확인, 새 비밀번호 암호화 모두 passwordScheduler에서 실행
+     */
+    @Transactional
+    public Mono<Member> changePassword(Long memberId, String currentPassword, String newPassword) {
+        log.info("[MemberService] 비밀번호 변경 시작: {}", memberId);
+        return memberRepository.findById(memberId)
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("회원을 찾을 수 없습니다: " + memberId)))
+                .flatMap(member -> matches(currentPassword, member.getPassword())
+                        .flatMap(matched -> matched
+                                ? encode(newPassword)
+                                : Mono.error(new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.")))
+                        .flatMap(encoded -> {
+                            member.setPassword(encoded);
+                            return memberRepository.save(member);
+                        }))
+                .doOnNext(updated -> log.info("[MemberService] 비밀번호 변경 완료: {}", memberId));
+    }
+
+    private Mono<String> encode(String rawPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.encode(rawPassword)).subscribeOn(passwordScheduler);
+    }
+
+    private Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword)).subscribeOn(passwordScheduler);
+    }
+}
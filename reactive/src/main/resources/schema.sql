@@ -0,0 +1,11 @@
+-- 서블릿 모듈의 Member 엔티티(members 테이블)와 같은 구조
+CREATE TABLE IF NOT EXISTS members (
+    id            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    username      VARCHAR(255) NOT NULL UNIQUE,
+    password      VARCHAR(255) NOT NULL,
+    name          VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    role          VARCHAR(255) NOT NULL,
+    created_at    TIMESTAMP    NOT NULL,
+    last_login_at TIMESTAMP
+);
@@ -0,0 +1,75 @@
+package com.study.springflow.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+class ReactiveSpringflowApplicationTests {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void 로그인_후_토큰으로_내_정보를_조회한다() {
+		String token = login("user", "user123");
+
+		webTestClient.get().uri("/api/members/me")
+				.header("Authorization", "Bearer " + token)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.username").isEqualTo("user")
+				.jsonPath("$.password").doesNotExist();
+	}
+
+	@Test
+	void 서블릿_모듈과_같은_인가_규칙을_적용한다() {
+		String userToken = login("user", "user123");
+		String adminToken = login("admin", "admin123");
+
+		webTestClient.get().uri("/api/members/admins").exchange().expectStatus().isUnauthorized();
+		webTestClient.get().uri("/api/members/admins")
+				.header("Authorization", "Bearer " + userToken)
+				.exchange().expectStatus().isForbidden();
+		webTestClient.get().uri("/api/members/admins")
+				.header("Authorization", "Bearer " + adminToken)
+				.exchange().expectStatus().isOk();
+
+		// 본인이 아닌 회원 조회는 거부 (관리자 id = 1)
+		webTestClient.get().uri("/api/members/1")
+				.header("Authorization", "Bearer " + userToken)
+				.exchange().expectStatus().isForbidden();
+	}
+
+	@Test
+	void 잘못된_비밀번호는_401을_반환한다() {
+		webTestClient.post().uri("/api/auth/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(Map.of("username", "user", "password", "wrong"))
+				.exchange()
+				.expectStatus().isUnauthorized();
+	}
+
+	@SuppressWarnings("unchecked")
+	private String login(String username, String password) {
+		Map<String, String> body = webTestClient.post().uri("/api/auth/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(Map.of("username", username, "password", password))
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(Map.class)
+				.returnResult()
+				.getResponseBody();
+		assertThat(body).containsKey("token");
+		return body.get("token");
+	}
+}
@@ -0,0 +1,98 @@
+package com.study.springflow.aop;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.study.springflow.controller.HelloController;
+import com.study.springflow.repository.MemberStore;
+import com.study.springflow.service.MemberService;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+/**
+ * 애스펙트 디스패치 비용 벤치마크 (프록시 vs 컴파일 타임 위빙)
+ * - 같은 JVM에서 위빙된 클래스와 위빙되지 않은 클래스를 동시에 쓸 수 없으므로 두 번 실행하여 비교
+ *
+ *   ./gradlew jmh -PjmhInclude=AspectDispatch            → *Direct = 어드바이스 없음(기준선), *Proxied = CGLIB 프록시 + 어드바이스
+ *   ./gradlew jmh -PjmhInclude=AspectDispatch -Paop=ctw  → *Direct = 위빙된 어드바이스 (프록시 없음)
+ *
+ * - 프록시 오버헤드 = (proxy 빌드의 *Proxied) - (ctw 빌드의 *Direct)
+ * - 어드바이스 본문의 System.out 출력과 로깅은 측정에서 제외하기 위해 버림
+ */
+@State(Scope.Benchmark)
+public class AspectDispatchBenchmark {
+
+    private final PrintStream originalOut = System.out;
+
+    private HelloController helloController;
+    private HelloController proxiedHelloController;
+    private MemberService memberService;
+    private MemberService proxiedMemberService;
+
+    @Setup
+    public void setUp() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.OFF);
+
+        helloController = new HelloController();
+        memberService = new MemberService(emptyMemberStore(), null, null);
+
+        if (AspectWeaving.isCompileTimeWoven()) {
+            // ajc로 위빙된 애스펙트는 Spring AOP 프록시에 다시 적용하지 않음 (spring.aop.ajc.ignore)
+            proxiedHelloController = helloController;
+            proxiedMemberService = memberService;
+            originalOut.println("[AspectDispatchBenchmark] 컴파일 타임 위빙 빌드: *Proxied는 *Direct와 동일");
+        } else {
+            proxiedHelloController = proxy(helloController, new LogAspect());
+            proxiedMemberService = proxy(memberService, new TransactionLogAspect());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public String controllerDirect() {
+        return helloController.hello();
+    }
+
+    @Benchmark
+    public String controllerProxied() {
+        return proxiedHelloController.hello();
+    }
+
+    @Benchmark
+    public Object serviceDirect() {
+        return memberService.findById(1L);
+    }
+
+    @Benchmark
+    public Object serviceProxied() {
+        return proxiedMemberService.findById(1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+
+    /**
+     * DB 없이 findById만 Optional.empty()를 돌려주는 저장소
+     */
+    private static MemberStore emptyMemberStore() {
+        return (MemberStore) Proxy.newProxyInstance(
+                MemberStore.class.getClassLoader(),
+                new Class<?>[]{MemberStore.class},
+                (proxy, method, args) -> method.getName().equals("findById") ? Optional.empty() : null);
+    }
+}
@@ -0,0 +1,92 @@
+package com.study.springflow.repository;
+
+import com.study.springflow.SpringflowApplication;
+import com.study.springflow.entity.Member;
+import com.study.springflow.security.jwt.JwtTokenProvider;
+import com.study.springflow.service.MemberService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+
+/**
+ * 2차 캐시 + natural-id 캐시 효과 벤치마크 (로그인 / 내 정보 조회 경로)
+ *
+ *   ./gradlew jmh -PjmhInclude=MemberCache
+ *
+ * - secondLevelCache=true/false로 애플리케이션 컨텍스트를 각각 띄워 같은 경로를 반복 호출
+ * - 지연 시간과 함께 Hibernate 통계의 "호출 1회당 실행 SQL 수"를 출력 (= 같은 처리량에서의 DB 쿼리율)
+ * - me: JWT 필터의 사용자 조회 + /me 응답 조회
+ * - login: 인증 시 사용자 조회 + 로그인 회원 조회 + lastLoginAt 갱신 (BCrypt 검증은 캐시와 무관하므로 제외)
+ */
+@State(Scope.Benchmark)
+public class MemberCacheBenchmark {
+
+    @Param({"true", "false"})
+    public boolean secondLevelCache;
+
+
+    private ConfigurableApplicationContext context;
+    private JwtTokenProvider jwtTokenProvider;
+    private UserDetailsService userDetailsService;
+    private MemberService memberService;
+    private Statistics statistics;
+    private String token;
+
+    private long invocations;
+    private long statementsBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(SpringflowApplication.class,
+                "--server.port=0",
+                "--logging.level.root=OFF",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache);
+        jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+        userDetailsService = context.getBean(UserDetailsService.class);
+        memberService = context.getBean(MemberService.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        token = jwtTokenProvider.createToken("user", Member.MemberRole.USER.name());
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        invocations = 0;
+        statementsBefore = statistics.getPrepareStatementCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportStatements(BenchmarkParams params) {
+        long statements = statistics.getPrepareStatementCount() - statementsBefore;
+        String benchmark = params.getBenchmark().substring(params.getBenchmark().lastIndexOf('.') + 1);
+        System.out.printf("%n[MemberCacheBenchmark] %s secondLevelCache=%s: SQL %.2f회/호출 (%d / %d)%n",
+                benchmark, secondLevelCache, invocations == 0 ? 0.0 : (double) statements / invocations,
+                statements, invocations);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object me() {
+        invocations++;
+        jwtTokenProvider.getAuthentication(token);
+        return memberService.findDetailByUsername("user");
+    }
+
+    @Benchmark
+    public Object login() {
+        invocations++;
+        userDetailsService.loadUserByUsername("user");
+        Member member = memberService.findByUsername("user").orElseThrow();
+        return memberService.updateLastLogin(member.getId());
+    }
+}
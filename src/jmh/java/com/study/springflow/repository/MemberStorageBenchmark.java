@@ -0,0 +1,166 @@
+package com.study.springflow.repository;
+
+import com.study.springflow.SpringflowApplication;
+import com.study.springflow.entity.Member;
+import jakarta.persistence.SequenceGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 저장 방식별 MemberRepository 처리량 + 재시작 시간 벤치마크
+ *
+ *   ./gradlew jmh -PjmhInclude=MemberStorage
+ *
+ * - storage: mem(기본 메모리 DB) / file, nioMapped(h2file 프로필, 임시 디렉터리에 생성)
+ * - rows: 측정 전에 SYSTEM_RANGE로 적재하는 회원 수 (10M은 적재만 수 분, 파일 DB는 수 GB 디스크 사용)
+ * - insert / findById / findByUsername 처리량(ops/s), 2차 캐시는 꺼서 저장소 접근 비용만 측정
+ * - 파일 DB는 적재 후 컨텍스트를 닫고 다시 띄우는 시간(= 재시작 시간)을 출력
+ *   (mem은 재시작하면 데이터가 사라지므로 해당 없음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g") // mem 10M 행은 힙에 모두 올라감
+public class MemberStorageBenchmark {
+
+    private static final long FIRST_ID = 1_000;
+    private static final int LOAD_CHUNK = 100_000;
+    // BCrypt 비용은 저장소와 무관하므로 미리 인코딩된 값처럼 고정 문자열 사용
+    private static final String ENCODED_PASSWORD = "{noop}password";
+
+    @Param({"1000000", "10000000"})
+    public int rows;
+
+    @Param({"mem", "file", "nioMapped"})
+    public String storage;
+
+    private final AtomicLong inserted = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private Path dataDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if (!storage.equals("mem")) {
+            dataDirectory = Files.createTempDirectory("springflow-h2-");
+        }
+
+        context = start();
+        long loadStart = System.nanoTime();
+        load(context.getBean(JdbcTemplate.class));
+        report("적재 %,d행: %,d ms", rows, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loadStart));
+
+        if (dataDirectory != null) {
+            context.close();
+            long restartStart = System.nanoTime();
+            context = start();
+            report("재시작: %,d ms (파일 %,d MB)", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - restartStart),
+                    directorySize() / (1024 * 1024));
+        }
+        memberRepository = context.getBean(MemberRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        if (dataDirectory != null) {
+            try (Stream<Path> files = Files.walk(dataDirectory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Member insert() {
+        long n = inserted.incrementAndGet();
+        return memberRepository.save(Member.builder()
+                .username("new" + n)
+                .password(ENCODED_PASSWORD)
+                .name("신규 회원 " + n)
+                .email("new" + n + "@example.com")
+                .role(Member.MemberRole.USER)
+                .build());
+    }
+
+    @Benchmark
+    public Object findById() {
+        return memberRepository.findById(randomId());
+    }
+
+    @Benchmark
+    public Object findByUsername() {
+        return memberRepository.findByUsername("bench" + (randomId() - FIRST_ID));
+    }
+
+    private long randomId() {
+        return FIRST_ID + ThreadLocalRandom.current().nextLong(1, rows + 1L);
+    }
+
+    private ConfigurableApplicationContext start() {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--logging.level.root=OFF",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false"));
+        if (dataDirectory != null) {
+            args.add("--spring.profiles.active=h2file");
+            args.add("--springflow.h2file.path=" + dataDirectory.resolve("springflow"));
+            args.add("--springflow.h2file.file-system=" + storage);
+        }
+        return SpringApplication.run(SpringflowApplication.class, args.toArray(String[]::new));
+    }
+
+    /**
+     * 청크 단위 INSERT ... SELECT (한 트랜잭션이 너무 커지지 않도록) 후 시퀀스를 적재한 ID 뒤로 이동
+     * - pooled 최적화기는 시퀀스 값 hi를 받아 (hi - allocationSize + 1) ~ hi를 쓰므로
+     *   마지막 ID + allocationSize에서 다시 시작해야 적재한 ID와 겹치지 않음
+     */
+    private void load(JdbcTemplate jdbcTemplate) {
+        for (long from = 1; from <= rows; from += LOAD_CHUNK) {
+            long to = Math.min(rows, from + LOAD_CHUNK - 1);
+            jdbcTemplate.update("INSERT INTO members (id, username, password, name, email, role, created_at, version) " +
+                            // H2는 SELECT 목록의 바인드 파라미터 타입을 추론하지 못하므로 상수는 직접 기입
+                            "SELECT " + FIRST_ID + " + X, 'bench' || X, '" + ENCODED_PASSWORD + "', 'name' || X, " +
+                            "'bench' || X || '@example.com', CASEWHEN(MOD(X, 100) = 0, 'ADMIN', 'USER'), " +
+                            "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), 0 " +
+                            "FROM SYSTEM_RANGE(?, ?)",
+                    from, to);
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE members_seq RESTART WITH " + (FIRST_ID + rows + idAllocationSize()));
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static int idAllocationSize() {
+        try {
+            return Member.class.getDeclaredField("id").getAnnotation(SequenceGenerator.class).allocationSize();
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long directorySize() throws IOException {
+        try (Stream<Path> files = Files.walk(dataDirectory)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    private void report(String format, Object... args) {
+        System.out.printf("%n[MemberStorageBenchmark] storage=%s rows=%,d: %s%n", storage, rows, String.format(format, args));
+    }
+}
@@ -0,0 +1,196 @@
+package com.study.springflow.repository;
+
+import com.study.springflow.SpringflowApplication;
+import com.study.springflow.entity.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 컬럼만 바꾸는 갱신(updateLastLogin / changePassword)의 flush 비용 + UPDATE 문 크기 벤치마크
+ *
+ *   ./gradlew jmh -PjmhInclude=MemberUpdate                  (바이트코드 향상 on, 기본)
+ *   ./gradlew jmh -PjmhInclude=MemberUpdate -Penhance=false  (향상 off → 스냅샷 비교)
+ *
+ * - 트랜잭션 하나에서 회원 managed명을 조회한 뒤 한 명의 한 컬럼만 변경하고 flush
+ *   (managed가 클수록 향상 없는 flush의 "영속성 컨텍스트 전체 스냅샷 비교" 비용이 드러남)
+ * - dynamicUpdate=false는 @DynamicUpdate를 매핑 단계에서 꺼서 변경 전의 전체 컬럼 UPDATE를 재현
+ * - 점수는 트랜잭션 전체, 반복마다 flush만의 평균 시간과 UPDATE 문 평균 길이를 따로 출력
+ * - 2차 캐시는 꺼서 조회 경로를 매번 같게 유지
+ */
+@State(Scope.Benchmark)
+public class MemberUpdateBenchmark {
+
+    private static final long FIRST_ID = 1_000;
+
+    @Param({"true", "false"})
+    public boolean dynamicUpdate;
+
+    @Param({"1", "500"})
+    public int managed;
+
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+
+    private long flushes;
+    private long flushNanos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(SpringflowApplication.class,
+                "--server.port=0",
+                "--logging.level.root=OFF",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--spring.jpa.properties.hibernate.session_factory.statement_inspector=" + UpdateStatementRecorder.class.getName(),
+                "--spring.jpa.properties.hibernate.integrator_provider="
+                        + (dynamicUpdate ? NoIntegrators.class : FullRowUpdate.class).getName());
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        // H2는 SELECT 목록의 바인드 파라미터 타입을 추론하지 못하므로 상수는 직접 기입
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO members (id, username, password, name, email, role, created_at, version) " +
+                "SELECT " + FIRST_ID + " + X, 'bench' || X, '{noop}password', 'name' || X, " +
+                "'bench' || X || '@example.com', 'USER', CURRENT_TIMESTAMP, 0 FROM SYSTEM_RANGE(1, ?)", managed);
+
+        System.out.printf("%n[MemberUpdateBenchmark] 바이트코드 향상: %s%n",
+                PersistentAttributeInterceptable.class.isAssignableFrom(Member.class) ? "on" : "off");
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        flushes = 0;
+        flushNanos = 0;
+        UpdateStatementRecorder.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report(BenchmarkParams params) {
+        String benchmark = params.getBenchmark().substring(params.getBenchmark().lastIndexOf('.') + 1);
+        long updates = UpdateStatementRecorder.COUNT.get();
+        System.out.printf("%n[MemberUpdateBenchmark] %s dynamicUpdate=%s managed=%d: flush %,d ns/회, UPDATE %d bytes/문 (%d / %d)%n  %s%n",
+                benchmark, dynamicUpdate, managed, flushes == 0 ? 0 : flushNanos / flushes,
+                updates == 0 ? 0 : UpdateStatementRecorder.BYTES.get() / updates, updates, flushes,
+                UpdateStatementRecorder.lastStatement);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object updateLastLogin() {
+        return transactionTemplate.execute(status -> {
+            Member member = loadAndPick();
+            member.setLastLoginAt(LocalDateTime.now());
+            return flush(member);
+        });
+    }
+
+    @Benchmark
+    public Object changePassword() {
+        return transactionTemplate.execute(status -> {
+            Member member = loadAndPick();
+            // 해시 계산은 flush와 무관하므로 제외, 매번 다른 값이라 항상 UPDATE 발생
+            member.setPassword("{noop}password" + flushes);
+            return flush(member);
+        });
+    }
+
+    private Member loadAndPick() {
+        List<Member> members = entityManager
+                .createQuery("select m from Member m where m.id between :from and :to", Member.class)
+                .setParameter("from", FIRST_ID + 1)
+                .setParameter("to", FIRST_ID + managed)
+                .getResultList();
+        return members.get(ThreadLocalRandom.current().nextInt(members.size()));
+    }
+
+    private Member flush(Member member) {
+        long start = System.nanoTime();
+        entityManager.flush();
+        flushNanos += System.nanoTime() - start;
+        flushes++;
+        return member;
+    }
+
+    /**
+     * 실행되는 UPDATE 문 수 / 길이 기록 (hibernate.session_factory.statement_inspector)
+     */
+    public static class UpdateStatementRecorder implements StatementInspector {
+
+        static final AtomicLong COUNT = new AtomicLong();
+        static final AtomicLong BYTES = new AtomicLong();
+        static volatile String lastStatement = "";
+
+        static void reset() {
+            COUNT.set(0);
+            BYTES.set(0);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.regionMatches(true, 0, "update", 0, 6)) {
+                COUNT.incrementAndGet();
+                BYTES.addAndGet(sql.length());
+                lastStatement = sql;
+            }
+            return sql;
+        }
+    }
+
+    /**
+     * 변경 전 매핑 재현: Member의 @DynamicUpdate를 끄고 모든 컬럼을 UPDATE
+     * - Integrator는 엔티티 퍼시스터 생성 전에 호출되므로 부트 메타모델 수정이 반영됨
+     */
+    public static class FullRowUpdate implements IntegratorProvider {
+
+        @Override
+        public List<Integrator> getIntegrators() {
+            return List.of(new Integrator() {
+                @Override
+                public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                                      SessionFactoryImplementor sessionFactory) {
+                    metadata.getEntityBinding(Member.class.getName()).setDynamicUpdate(false);
+                }
+
+                @Override
+                public void disintegrate(SessionFactoryImplementor sessionFactory,
+                                         SessionFactoryServiceRegistry serviceRegistry) {
+                }
+            });
+        }
+    }
+
+    public static class NoIntegrators implements IntegratorProvider {
+
+        @Override
+        public List<Integrator> getIntegrators() {
+            return List.of();
+        }
+    }
+}
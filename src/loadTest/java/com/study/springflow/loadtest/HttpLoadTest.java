@@ -0,0 +1,172 @@
+package com.study.springflow.loadtest;
+
+import com.study.springflow.monitoring.ConcurrentHistogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP 부하 테스트 클라이언트 (closed-loop)
+ * - concurrency 개의 가상 사용자가 각자 응답을 받자마자 다음 요청을 보냄 → 동시 접속 수가 항상 concurrency로 유지
+ * - 요청은 HttpClient.sendAsync로 보내므로 클라이언트 스레드 수와 무관하게 1만 개 이상의 동시 연결 가능
+ * - 같은 옵션으로 플랫폼 스레드 모드 / virtual 프로필 / 리액티브 모듈을 번갈아 띄워 처리량과 지연 분포 비교
+ *
+ *   ./gradlew bootRun                                                          (플랫폼 스레드, Tomcat 최대 200)
+ *   ./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=virtual' (가상 스레드)
+ *   ./gradlew loadTest -PloadTestArgs='--concurrency 10000 --duration 30'
+ */
+public class HttpLoadTest {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpClient client;
+    private final HttpRequest request;
+    private final ConcurrentHistogram latencyMicros = new ConcurrentHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> errorsByType = new ConcurrentHashMap<>();
+    private volatile boolean measuring;
+    private volatile boolean stopped;
+
+    private HttpLoadTest(HttpClient client, HttpRequest request) {
+        this.client = client;
+        this.request = request;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String url = options.getOrDefault("url", "http://localhost:8080");
+        String path = options.getOrDefault("path", "/api/members/me");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "10000"));
+        long rampUpSeconds = Long.parseLong(options.getOrDefault("ramp-up", "5"));
+        long warmupSeconds = Long.parseLong(options.getOrDefault("warmup", "5"));
+        long durationSeconds = Long.parseLong(options.getOrDefault("duration", "30"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(executor)
+                .build();
+
+        String token = login(client, url, options.getOrDefault("username", "admin"),
+                options.getOrDefault("password", "admin123"));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        System.out.printf("[HttpLoadTest] 대상: GET %s%s, 동시 접속: %d, 램프업 %ds, 워밍업 %ds, 측정 %ds%n",
+                url, path, concurrency, rampUpSeconds, warmupSeconds, durationSeconds);
+
+        HttpLoadTest test = new HttpLoadTest(client, request);
+        CountDownLatch finished = new CountDownLatch(concurrency);
+        long rampUpNanosPerUser = TimeUnit.SECONDS.toNanos(rampUpSeconds) / Math.max(1, concurrency);
+        long rampUpStart = System.nanoTime();
+        for (int i = 0; i < concurrency; i++) {
+            // 접속을 한꺼번에 열면 accept 큐가 넘치므로 램프업 구간에 고르게 분산
+            long due = rampUpStart + rampUpNanosPerUser * i;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            test.next(finished);
+        }
+
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        test.measuring = true;
+        long measureStart = System.nanoTime();
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        test.measuring = false;
+        long measuredNanos = System.nanoTime() - measureStart;
+        test.stopped = true;
+
+        finished.await(60, TimeUnit.SECONDS);
+        test.print(concurrency, measuredNanos);
+        executor.shutdownNow();
+    }
+
+    /**
+     * 가상 사용자 하나의 다음 요청 (응답 콜백에서 다시 호출)
+     */
+    private void next(CountDownLatch finished) {
+        if (stopped) {
+            finished.countDown();
+            return;
+        }
+        long start = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    if (measuring) {
+                        if (failure != null) {
+                            recordError(failure.getClass().getSimpleName());
+                        } else if (response.statusCode() >= 400) {
+                            recordError("HTTP " + response.statusCode());
+                        } else {
+                            latencyMicros.record((System.nanoTime() - start) / 1_000);
+                        }
+                    }
+                    next(finished);
+                });
+    }
+
+    private void recordError(String type) {
+        errors.increment();
+        errorsByType.computeIfAbsent(type, key -> new LongAdder()).increment();
+    }
+
+    private void print(int concurrency, long measuredNanos) {
+        double seconds = measuredNanos / 1_000_000_000.0;
+        System.out.println("[HttpLoadTest] ===== 결과 =====");
+        System.out.printf("동시 접속: %d%n", concurrency);
+        System.out.printf("성공 요청: %d, 실패 요청: %d %s%n", latencyMicros.count(), errors.sum(), errorsByType);
+        System.out.printf("처리량: %.1f req/s%n", latencyMicros.count() / seconds);
+        System.out.printf("지연(ms): mean %.1f, p50 %.1f, p90 %.1f, p99 %.1f, max %.1f%n",
+                latencyMicros.mean() / 1_000,
+                latencyMicros.percentile(50) / 1_000.0,
+                latencyMicros.percentile(90) / 1_000.0,
+                latencyMicros.percentile(99) / 1_000.0,
+                latencyMicros.max() / 1_000.0);
+    }
+
+    private static String login(HttpClient client, String url, String username, String password) throws Exception {
+        HttpRequest login = HttpRequest.newBuilder(URI.create(url + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .build();
+        HttpResponse<String> response = client.send(login, HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("로그인 실패: HTTP " + response.statusCode() + " " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    /**
+     * "--key value" 형식의 옵션 파싱
+     */
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("잘못된 옵션: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+}
@@ -1,6 +1,7 @@
 package com.study.springflow;
 
 import com.study.springflow.entity.Member;
+import com.study.springflow.service.DuplicateMemberException;
 import com.study.springflow.service.MemberService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -44,6 +45,9 @@ public class SpringflowApplication {
 
 				memberService.register(admin);
 				log.info("관리자 계정 생성 완료: {}", admin.getUsername());
+			} catch (DuplicateMemberException e) {
+				// 파일 DB(h2file 프로필)는 재시작해도 계정이 남아 있음
+				log.info("관리자 계정 이미 존재: admin");
 			} catch (Exception e) {
 				log.error("관리자 계정 생성 실패: {}", e.getMessage());
 			}
@@ -60,6 +64,8 @@ public class SpringflowApplication {
 
 				memberService.register(user);
 				log.info("사용자 계정 생성 완료: {}", user.getUsername());
+			} catch (DuplicateMemberException e) {
+				log.info("사용자 계정 이미 존재: user");
 			} catch (Exception e) {
 				log.error("사용자 계정 생성 실패: {}", e.getMessage());
 			}
@@ -0,0 +1,186 @@
+package com.study.springflow.aop;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.PatternMatchUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 애스펙트 런타임 스위치
+ * - 애스펙트별 기본값 + "패키지.클래스.메서드" 패턴 규칙(나중에 추가된 규칙이 우선)으로 어드바이스 실행 여부 결정
+ * - 어드바이스가 처음 만나는 Method마다 슬롯(Slot)을 부여하고, 슬롯별 결정을 미리 계산한 표를 volatile로 게시
+ *   → 어드바이스는 조인 포인트마다 슬롯을 한 번만 얻어 캐시(JoinPointSwitches)하고,
+ *     호출 시에는 표의 한 칸만 읽으므로 꺼진 어드바이스의 비용이 거의 없음
+ * - 규칙이 바뀌면 알려진 모든 Method의 결정을 다시 계산해 새 표로 교체 (copy-on-write)
+ *
+ * 예) 평소에는 LOG를 끄고, 장애 시 특정 엔드포인트만 켜기
+ *     PUT  /api/admin/aop/switches/defaults/LOG?enabled=false
+ *     POST /api/admin/aop/switches/rules {"aspect":"LOG","pattern":"*.MemberController.getMember","enabled":true}
+ */
+@Slf4j
+@Component
+public class AspectSwitchRegistry {
+
+    private final ConcurrentHashMap<Method, Slot> slots = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+
+    // lock으로 보호 (쓰기 전용)
+    private final EnumMap<SwitchableAspect, Boolean> defaults = new EnumMap<>(SwitchableAspect.class);
+    private final List<AspectSwitchRule> rules = new ArrayList<>();
+    private Method[] methodsBySlot = new Method[0];
+
+    /**
+     * [애스펙트 ordinal][메서드 슬롯] → 실행 여부
+     */
+    private volatile boolean[][] decisions = new boolean[SwitchableAspect.values().length][0];
+
+    public AspectSwitchRegistry(@Value("${springflow.aop.switches.log:true}") boolean logEnabled,
+                                @Value("${springflow.aop.switches.transaction-log:true}") boolean transactionLogEnabled) {
+        defaults.put(SwitchableAspect.LOG, logEnabled);
+        defaults.put(SwitchableAspect.TRANSACTION_LOG, transactionLogEnabled);
+    }
+
+    /**
+     * Method의 슬롯 (처음 보는 Method면 등록)
+     * - 슬롯은 규칙이 바뀌어도 그대로이므로 호출하는 쪽에서 캐시해 두고 계속 사용 가능
+     */
+    public Slot slotOf(Method method) {
+        Slot slot = slots.get(method);
+        return slot != null ? slot : register(method);
+    }
+
+    /**
+     * 어드바이스 실행 여부 (슬롯을 캐시하지 않는 호출용)
+     */
+    public boolean isEnabled(SwitchableAspect aspect, Method method) {
+        return slotOf(method).isEnabled(aspect);
+    }
+
+    public void setDefault(SwitchableAspect aspect, boolean enabled) {
+        synchronized (lock) {
+            defaults.put(aspect, enabled);
+            rebuild();
+        }
+        log.info("[AspectSwitchRegistry] {} 기본값 변경: {}", aspect, enabled);
+    }
+
+    public void addRule(AspectSwitchRule rule) {
+        if (rule.aspect() == null || rule.pattern() == null || rule.pattern().isBlank()) {
+            throw new IllegalArgumentException("aspect와 pattern은 필수입니다.");
+        }
+        synchronized (lock) {
+            rules.add(rule);
+            rebuild();
+        }
+        log.info("[AspectSwitchRegistry] 규칙 추가: {}", rule);
+    }
+
+    public void clearRules() {
+        synchronized (lock) {
+            rules.clear();
+            rebuild();
+        }
+        log.info("[AspectSwitchRegistry] 규칙 초기화");
+    }
+
+    /**
+     * 현재 기본값 / 규칙 / 메서드별 결정 스냅샷
+     */
+    public Map<String, Object> snapshot() {
+        synchronized (lock) {
+            boolean[][] table = decisions;
+            Map<String, Map<SwitchableAspect, Boolean>> methods = new LinkedHashMap<>();
+            for (int slot = 0; slot < methodsBySlot.length; slot++) {
+                Map<SwitchableAspect, Boolean> row = new EnumMap<>(SwitchableAspect.class);
+                for (SwitchableAspect aspect : SwitchableAspect.values()) {
+                    row.put(aspect, table[aspect.ordinal()][slot]);
+                }
+                methods.put(qualifiedName(methodsBySlot[slot]), row);
+            }
+
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("defaults", new EnumMap<>(defaults));
+            snapshot.put("rules", List.copyOf(rules));
+            snapshot.put("methods", methods);
+            return snapshot;
+        }
+    }
+
+    /**
+     * 처음 보는 Method에 슬롯을 부여하고 결정 표를 한 칸 늘려 게시
+     */
+    private Slot register(Method method) {
+        synchronized (lock) {
+            Slot existing = slots.get(method);
+            if (existing != null) {
+                return existing;
+            }
+            int slot = methodsBySlot.length;
+            methodsBySlot = Arrays.copyOf(methodsBySlot, slot + 1);
+            methodsBySlot[slot] = method;
+
+            boolean[][] current = decisions;
+            boolean[][] next = new boolean[current.length][];
+            for (SwitchableAspect aspect : SwitchableAspect.values()) {
+                next[aspect.ordinal()] = Arrays.copyOf(current[aspect.ordinal()], slot + 1);
+                next[aspect.ordinal()][slot] = decide(aspect, method);
+            }
+            // 표를 먼저 게시한 뒤 슬롯을 공개해야 다른 스레드가 범위를 벗어난 슬롯을 읽지 않음
+            decisions = next;
+            Slot registered = new Slot(slot);
+            slots.put(method, registered);
+            return registered;
+        }
+    }
+
+    private void rebuild() {
+        boolean[][] next = new boolean[SwitchableAspect.values().length][methodsBySlot.length];
+        for (SwitchableAspect aspect : SwitchableAspect.values()) {
+            for (int slot = 0; slot < methodsBySlot.length; slot++) {
+                next[aspect.ordinal()][slot] = decide(aspect, methodsBySlot[slot]);
+            }
+        }
+        decisions = next;
+    }
+
+    private boolean decide(SwitchableAspect aspect, Method method) {
+        String name = qualifiedName(method);
+        boolean enabled = defaults.getOrDefault(aspect, true);
+        for (AspectSwitchRule rule : rules) {
+            if (rule.aspect() == aspect && PatternMatchUtils.simpleMatch(rule.pattern(), name)) {
+                enabled = rule.enabled();
+            }
+        }
+        return enabled;
+    }
+
+    private static String qualifiedName(Method method) {
+        return method.getDeclaringClass().getName() + "." + method.getName();
+    }
+
+    /**
+     * Method 하나의 결정 위치
+     * - 매번 현재 게시된 표를 읽으므로 규칙/기본값 변경이 바로 반영됨
+     */
+    public final class Slot {
+
+        private final int index;
+
+        private Slot(int index) {
+            this.index = index;
+        }
+
+        public boolean isEnabled(SwitchableAspect aspect) {
+            return decisions[aspect.ordinal()][index];
+        }
+    }
+}
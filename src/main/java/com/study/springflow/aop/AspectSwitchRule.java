@@ -0,0 +1,10 @@
+package com.study.springflow.aop;
+
+/**
+ * 애스펙트 on/off 규칙
+ * @param aspect 대상 애스펙트
+ * @param pattern "패키지.클래스.메서드" 패턴 (* 와일드카드, 예: "com.study.springflow.controller.MemberController.get*")
+ * @param enabled 매칭된 메서드에서 어드바이스 실행 여부
+ */
+public record AspectSwitchRule(SwitchableAspect aspect, String pattern, boolean enabled) {
+}
@@ -0,0 +1,48 @@
+package com.study.springflow.aop;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import java.lang.reflect.Field;
+
+/**
+ * 애스펙트 위빙 방식 판별
+ * - ajc로 컴파일(위빙)된 애스펙트 클래스에는 "ajc$" 로 시작하는 필드가 추가됨
+ *   (Spring의 AbstractAspectJAdvisorFactory와 같은 판별 방식)
+ * - 빌드 옵션(-Paop=ctw)과 런타임 설정이 어긋나지 않도록 프로필 대신 클래스 자체를 보고 판단
+ */
+public final class AspectWeaving {
+
+    private AspectWeaving() {
+    }
+
+    public static boolean isCompileTimeWoven() {
+        for (Field field : LogAspect.class.getDeclaredFields()) {
+            if (field.getName().startsWith("ajc$")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 프록시 모드(기본 빌드): @Component 애스펙트를 Spring AOP가 프록시로 적용
+     */
+    public static class ProxyMode implements Condition {
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return !isCompileTimeWoven();
+        }
+    }
+
+    /**
+     * 컴파일 타임 위빙 모드(-Paop=ctw 빌드): AspectJ가 만든 싱글톤 애스펙트를 빈으로 노출
+     */
+    public static class CompileTimeMode implements Condition {
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return isCompileTimeWoven();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.study.springflow.aop;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 어드바이스 쪽 슬롯 캐시 (애스펙트 인스턴스마다 하나)
+ * - 조인 포인트마다 AspectSwitchRegistry의 슬롯을 한 번만 얻고, 이후 호출은 캐시된 슬롯으로 표 한 칸만 읽음
+ * - 키는 조인 포인트의 정적 부분(StaticPart)
+ *   ctw 빌드: 위빙 위치마다 상수로 만들어지는 객체이고 equals/hashCode가 식별자 기준이라 Method 비교 없이 찾음
+ *   프록시 모드: Spring AOP는 호출마다 JoinPoint를 새로 만들고 getStaticPart()로 자기 자신을 돌려주므로
+ *   그대로 키로 쓰면 호출마다 항목이 늘어남 → 프록시 클래스가 재사용하는 Method 객체를 대신 키로 사용
+ */
+final class JoinPointSwitches {
+
+    private final AspectSwitchRegistry registry;
+    private final ConcurrentHashMap<Object, AspectSwitchRegistry.Slot> slots = new ConcurrentHashMap<>();
+
+    JoinPointSwitches(AspectSwitchRegistry registry) {
+        this.registry = registry;
+    }
+
+    boolean isEnabled(SwitchableAspect aspect, JoinPoint joinPoint) {
+        JoinPoint.StaticPart staticPart = joinPoint.getStaticPart();
+        Object key = staticPart != joinPoint ? staticPart : method(joinPoint);
+        AspectSwitchRegistry.Slot slot = slots.get(key);
+        if (slot == null) {
+            slot = slots.computeIfAbsent(key, ignored -> registry.slotOf(method(joinPoint)));
+        }
+        return slot.isEnabled(aspect);
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    private static Method method(JoinPoint joinPoint) {
+        return ((MethodSignature) joinPoint.getSignature()).getMethod();
+    }
+}
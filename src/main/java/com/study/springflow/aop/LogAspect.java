@@ -1,39 +1,61 @@
 package com.study.springflow.aop;
 
+import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Aspect
 @Component
+@Conditional(AspectWeaving.ProxyMode.class) // -Paop=ctw 빌드에서는 AopConfig가 위빙된 인스턴스를 빈으로 등록
 public class LogAspect {
 
+    /**
+     * 런타임 스위치
+     * - ctw 빌드에서는 AspectJ가 기본 생성자로 인스턴스를 만들기 때문에 생성자 주입 대신 세터 주입 사용
+     * - 주입 전(또는 벤치마크처럼 직접 생성한 경우)에는 항상 실행
+     * - 조인 포인트별 슬롯은 JoinPointSwitches에 캐시
+     */
+    private volatile JoinPointSwitches switches;
+
+    @Autowired
+    public void setSwitches(AspectSwitchRegistry switches) {
+        this.switches = new JoinPointSwitches(switches);
+    }
+
     /**
      * AOP를 활용한 로깅
      * - 컨트롤러 메서드 실행 전/후 로깅
      * - 메서드 실행 시간 측정
      * - 포인트컷 표현식을 통해 어떤 메서드에 적용할지 지정
+     * - 실행 전 로그도 @Around 안에서 남김 → 스위치 확인은 호출당 한 번
+     * - System.out(PrintStream)은 synchronized로 출력하므로 가상 스레드에서 캐리어 스레드를 고정(pinning)시킴
+     *   → 락 기반(ReentrantLock) 어펜더를 쓰는 SLF4J/Logback으로 출력
      */
-    @Before("execution(* com.study.springflow.controller.*.*(..))")
-    public void logBefore(JoinPoint joinPoint) {
-        System.out.println("[LogAspect] 컨트롤러 메서드 실행 전: " +
-                joinPoint.getSignature().getDeclaringTypeName() + "." +
-                joinPoint.getSignature().getName());
-    }
-
     @Around("execution(* com.study.springflow.controller.*.*(..))")
     public Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!isEnabled(joinPoint)) {
+            return joinPoint.proceed();
+        }
+        log.info("[LogAspect] 컨트롤러 메서드 실행 전: {}.{}",
+                joinPoint.getSignature().getDeclaringTypeName(), joinPoint.getSignature().getName());
         long start = System.currentTimeMillis();
 
         Object result = joinPoint.proceed();
 
         long end = System.currentTimeMillis();
-        System.out.println("[LogAspect] " + joinPoint.getSignature().getName() +
-                " 메서드 실행 시간: " + (end - start) + "ms");
+        log.info("[LogAspect] {} 메서드 실행 시간: {}ms", joinPoint.getSignature().getName(), end - start);
 
         return result;
     }
+
+    private boolean isEnabled(JoinPoint joinPoint) {
+        JoinPointSwitches current = switches;
+        return current == null || current.isEnabled(SwitchableAspect.LOG, joinPoint);
+    }
 }
\ No newline at end of file
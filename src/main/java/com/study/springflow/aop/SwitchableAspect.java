@@ -0,0 +1,17 @@
+package com.study.springflow.aop;
+
+/**
+ * 런타임에 켜고 끌 수 있는 애스펙트 목록
+ */
+public enum SwitchableAspect {
+
+    /**
+     * 컨트롤러 메서드 실행 전 로그 / 실행 시간 로그 (LogAspect)
+     */
+    LOG,
+
+    /**
+     * 서비스 트랜잭션 시작/커밋/롤백 로그 (TransactionLogAspect)
+     */
+    TRANSACTION_LOG
+}
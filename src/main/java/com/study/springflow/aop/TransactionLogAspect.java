@@ -1,33 +1,51 @@
 package com.study.springflow.aop;
 
+import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Aspect
 @Component
+@Conditional(AspectWeaving.ProxyMode.class) // -Paop=ctw 빌드에서는 AopConfig가 위빙된 인스턴스를 빈으로 등록
 @Order(1) // 다른 어드바이스보다 먼저 실행
 public class TransactionLogAspect {
 
+    /**
+     * 런타임 스위치 (LogAspect와 같은 이유로 세터 주입, 주입 전에는 항상 실행)
+     */
+    private volatile JoinPointSwitches switches;
+
+    @Autowired
+    public void setSwitches(AspectSwitchRegistry switches) {
+        this.switches = new JoinPointSwitches(switches);
+    }
+
     /**
      * 트랜잭션 로깅 관점(Aspect)
      * - @Transactional이 적용된 메서드의 트랜잭션 시작/종료/롤백 로깅
      * - AOP와 트랜잭션의 연동 방식 이해를 위한 예시
+     * - 가상 스레드 pinning을 피하기 위해 System.out 대신 SLF4J로 출력
      */
     @Around("execution(* com.study.springflow.service..*(..)) && @annotation(transactional)")
     public Object logTransaction(ProceedingJoinPoint joinPoint, Transactional transactional) throws Throwable {
+        JoinPointSwitches current = switches;
+        if (current != null && !current.isEnabled(SwitchableAspect.TRANSACTION_LOG, joinPoint)) {
+            return joinPoint.proceed();
+        }
+
         String methodName = joinPoint.getSignature().getName();
         String className = joinPoint.getTarget().getClass().getSimpleName();
         boolean readOnly = transactional.readOnly();
 
-        System.out.println("\n=== 트랜잭션 시작 ===");
-        System.out.println("클래스: " + className);
-        System.out.println("메서드: " + methodName);
-        System.out.println("읽기전용: " + readOnly);
-        System.out.println("전파속성: " + transactional.propagation());
+        log.info("[TransactionLogAspect] === 트랜잭션 시작 === 클래스: {}, 메서드: {}, 읽기전용: {}, 전파속성: {}",
+                className, methodName, readOnly, transactional.propagation());
 
         long startTime = System.currentTimeMillis();
 
@@ -36,15 +54,14 @@ public class TransactionLogAspect {
             Object result = joinPoint.proceed();
 
             long endTime = System.currentTimeMillis();
-            System.out.println("=== 트랜잭션 커밋 ===");
-            System.out.println("실행시간: " + (endTime - startTime) + "ms");
+            log.info("[TransactionLogAspect] === 트랜잭션 커밋 === {}.{}, 실행시간: {}ms",
+                    className, methodName, endTime - startTime);
 
             return result;
         } catch (Exception e) {
             long endTime = System.currentTimeMillis();
-            System.out.println("=== 트랜잭션 롤백 ===");
-            System.out.println("예외: " + e.getClass().getSimpleName() + " - " + e.getMessage());
-            System.out.println("실행시간: " + (endTime - startTime) + "ms");
+            log.info("[TransactionLogAspect] === 트랜잭션 롤백 === {}.{}, 예외: {} - {}, 실행시간: {}ms",
+                    className, methodName, e.getClass().getSimpleName(), e.getMessage(), endTime - startTime);
 
             throw e;
         }
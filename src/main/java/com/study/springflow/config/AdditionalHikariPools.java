@@ -0,0 +1,31 @@
+package com.study.springflow.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+/**
+ * 빈으로 등록하지 않는 추가 커넥션 풀 생성 (복제본 replica-N, 샤드 shard-N)
+ * - 계정/드라이버는 spring.datasource 설정을 그대로 사용하고 URL/이름/크기만 다르게 지정
+ * - 빈이 아니므로 Actuator의 Hikari 메트릭 자동 등록 대상이 아님 → Micrometer를 직접 연결
+ * - 풀 종료는 풀을 받은 쪽(ReplicaRoutingDataSource, ShardedMemberRepository)이 담당
+ */
+final class AdditionalHikariPools {
+
+    private AdditionalHikariPools() {
+    }
+
+    static HikariDataSource create(DataSourceProperties properties, String url, String name,
+                                   int poolSize, MeterRegistry registry) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setUsername(properties.determineUsername());
+        pool.setPassword(properties.determinePassword());
+        pool.setDriverClassName(properties.determineDriverClassName());
+        pool.setMaximumPoolSize(poolSize);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return pool;
+    }
+}
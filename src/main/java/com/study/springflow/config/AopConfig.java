@@ -1,5 +1,11 @@
 package com.study.springflow.config;
 
+import com.study.springflow.aop.AspectWeaving;
+import com.study.springflow.aop.LogAspect;
+import com.study.springflow.aop.TransactionLogAspect;
+import org.aspectj.lang.Aspects;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 
@@ -70,6 +76,8 @@ public class AopConfig {
      * 4. 다양한 weaving 방식:
      *    - Compile-time weaving: AspectJ 컴파일러를 사용하여 컴파일 시점에 aspect 코드 삽입
      *      (ajc 컴파일러 + 메이븐/그래들 플러그인 필요)
+     *      → 이 프로젝트는 ./gradlew bootRun -Paop=ctw 로 post-compile weaving 빌드를 지원
+     *        (LogAspect / TransactionLogAspect만 위빙, @Transactional / @PreAuthorize 등은 여전히 프록시)
      *    - Load-time weaving: 클래스 로딩 시점에 바이트코드 변환
      *      spring.aop.auto=false
      *      spring.aop.proxy-target-class=false
@@ -105,4 +113,26 @@ public class AopConfig {
      *    @Order(2)
      *    public class LoggingAspect { ... }
      */
+
+    /**
+     * ✅ 컴파일 타임 위빙(-Paop=ctw) 빌드용 애스펙트 빈 등록
+     * - ajc가 위빙한 애스펙트는 AspectJ 런타임이 싱글톤(aspectOf())으로 관리
+     * - 그 인스턴스를 그대로 빈으로 노출해야 Spring 설정/주입이 실제로 실행되는 어드바이스에 반영됨
+     * - spring.properties의 spring.aop.ajc.ignore=true 설정으로 Spring AOP는 이 애스펙트로 프록시를 만들지 않음
+     *   (어드바이스 중복 실행 방지)
+     */
+    @Configuration
+    @Conditional(AspectWeaving.CompileTimeMode.class)
+    static class CompileTimeWeavingConfig {
+
+        @Bean
+        public LogAspect logAspect() {
+            return Aspects.aspectOf(LogAspect.class);
+        }
+
+        @Bean
+        public TransactionLogAspect transactionLogAspect() {
+            return Aspects.aspectOf(TransactionLogAspect.class);
+        }
+    }
 }
\ No newline at end of file
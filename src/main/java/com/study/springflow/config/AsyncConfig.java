@@ -0,0 +1,22 @@
+package com.study.springflow.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * ✅ 비동기 실행 설정
+     * - @Async 메서드는 Spring Boot가 등록하는 applicationTaskExecutor에서 실행됨
+     * - 기본: ThreadPoolTaskExecutor (플랫폼 스레드 풀)
+     * - virtual 프로필(spring.threads.virtual.enabled=true, Java 21 이상):
+     *   SimpleAsyncTaskExecutor가 작업마다 가상 스레드를 생성 → 풀 크기 제한 없이 블로킹 작업 실행
+     *
+     * 🔍 주의 사항:
+     * - 가상 스레드는 synchronized 블록 안에서 블로킹되면 캐리어 스레드에 고정(pinning)됨
+     *   → ReentrantLock 사용, pinning 여부는 /api/admin/monitoring/virtual-threads/pinning 에서 확인
+     * - 풀 크기가 사라지는 만큼 DB 커넥션 풀 등 하위 자원이 실제 동시성 상한이 됨
+     */
+}
@@ -1,6 +1,8 @@
 package com.study.springflow.config;
 
 import com.study.springflow.filter.LoggingFilter;
+import com.study.springflow.monitoring.InflightRequestRegistry;
+import com.study.springflow.monitoring.RequestCostRecorder;
 import jakarta.servlet.Filter;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -192,9 +194,10 @@ public class FilterConfig {
      *      필터1 - 종료
      */
     @Bean
-    public FilterRegistrationBean<Filter> loggingFilter() {
+    public FilterRegistrationBean<Filter> loggingFilter(InflightRequestRegistry inflightRequestRegistry,
+                                                        RequestCostRecorder requestCostRecorder) {
         FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>();
-        registration.setFilter(new LoggingFilter());
+        registration.setFilter(new LoggingFilter(inflightRequestRegistry, requestCostRecorder));
         registration.addUrlPatterns("/*");                // 전체 경로에 적용
         registration.setOrder(1);                         // 실행 순서
         registration.setName("LoggingFilter");
@@ -0,0 +1,25 @@
+package com.study.springflow.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * ✅ Micrometer 메트릭 설정
+     * - Actuator가 JVM(GC, 메모리 할당), Hikari 풀, Tomcat 스레드 풀 메트릭을 자동 등록
+     * - TimedAspect를 등록해야 @Timed 어노테이션이 실제 Timer로 기록됨
+     *   (MemberService 클래스 레벨 @Timed → springflow.member.service{class, method, exception})
+     *
+     * 🔍 확인 방법:
+     * - GET /actuator/prometheus (허용된 IP 또는 ADMIN 토큰 필요)
+     * - GET /actuator/metrics/springflow.auth.bcrypt
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,102 @@
+package com.study.springflow.config;
+
+import com.study.springflow.datasource.H2ReplicationSimulator;
+import com.study.springflow.datasource.ReplicaRoutingDataSource;
+import com.study.springflow.datasource.ReplicaSelectionStrategy;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@Profile("replica")
+public class ReplicaRoutingConfig {
+
+    /**
+     * ✅ 읽기/쓰기 DataSource 분리 (replica 프로필)
+     * - @Primary DataSource = LazyConnectionDataSourceProxy(primary)
+     *   → 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 실제 커넥션을 얻음
+     *   → 그때 커넥션에 readOnly 플래그가 있으면(@Transactional(readOnly = true)) readOnlyDataSource에서 얻음
+     * - readOnlyDataSource = ReplicaRoutingDataSource
+     *   → 복제 지연이 허용 범위 안인 복제본 중 ROUND_ROBIN / LEAST_LOADED 로 선택, 없으면 primary
+     * - 쓰기 트랜잭션과 readOnly가 아닌 트랜잭션은 항상 primary
+     *
+     * 🔍 주의 사항:
+     * - 로컬(H2 메모리 DB)에는 복제가 없으므로 기본 설정은 별도 H2 DB(replica0)를 H2ReplicationSimulator가 주기적으로 채우는 "복제본"
+     *   → 라우팅/지연 측정/대체 경로 확인용, 실제 복제본은 urls에 복제 서버 주소를 지정하고 simulation 설정은 제거
+     * - 복제본에서 읽은 엔티티도 2차 캐시에 들어감 → 지연 허용치(max-lag-ms)만큼 오래된 값이 캐시될 수 있음
+     * - 방금 쓴 데이터를 바로 읽어야 하는 경로(회원가입 직후 조회 등)는 readOnly가 아닌 트랜잭션으로 primary에서 읽음
+     * - 확인: GET /actuator/metrics/springflow.datasource.routing, springflow.datasource.replica.lag,
+     *   hikaricp.connections.acquire{pool=replica-N}
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            MeterRegistry registry,
+            @Value("${springflow.datasource.replicas.urls}") List<String> urls,
+            @Value("${springflow.datasource.replicas.strategy:ROUND_ROBIN}") ReplicaSelectionStrategy strategy,
+            @Value("${springflow.datasource.replicas.max-lag-ms:2000}") long maxLagMillis,
+            @Value("${springflow.datasource.replicas.heartbeat-interval-ms:500}") long heartbeatIntervalMillis,
+            @Value("${springflow.datasource.replicas.pool-size:10}") int poolSize) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = AdditionalHikariPools.create(properties, urls.get(i).trim(), "replica-" + i, poolSize, registry);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, strategy,
+                maxLagMillis, heartbeatIntervalMillis, registry);
+    }
+
+    /**
+     * ✅ 로컬 복제 시뮬레이션 (springflow.datasource.replicas.simulation.sync-interval-ms가 있을 때만)
+     * - primary 전체를 주기마다 각 복제본 URL의 H2 DB로 복사 → 복사 사이에는 복제본이 primary보다 뒤처짐
+     *
+     * 🔍 주의 사항:
+     * - sync-interval-ms > max-lag-ms로 실행하면 지연 초과로 primary에 대체되는 경로를 확인할 수 있음
+     * - 확인: springflow.datasource.replica.lag (복사 직후 0에 가깝고 다음 복사까지 증가)
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty("springflow.datasource.replicas.simulation.sync-interval-ms")
+    public H2ReplicationSimulator h2ReplicationSimulator(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${springflow.datasource.replicas.urls}") List<String> urls,
+            @Value("${springflow.datasource.replicas.simulation.sync-interval-ms}") long syncIntervalMillis) {
+        // 복제본 풀은 읽기 전용이므로 복사는 별도 커넥션으로
+        List<DataSource> replicas = urls.stream()
+                .<DataSource>map(url -> new DriverManagerDataSource(url.trim(),
+                        properties.determineUsername(), properties.determinePassword()))
+                .toList();
+        return new H2ReplicationSimulator(primaryDataSource, replicas, syncIntervalMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaRoutingDataSource);
+        return proxy;
+    }
+}
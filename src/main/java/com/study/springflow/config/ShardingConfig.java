@@ -0,0 +1,57 @@
+package com.study.springflow.config;
+
+import com.study.springflow.repository.MemberStore;
+import com.study.springflow.repository.sharding.ShardedMemberRepository;
+import com.study.springflow.repository.sharding.ShardedMemberStore;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@Profile("sharded")
+public class ShardingConfig {
+
+    /**
+     * ✅ 해시 샤딩 회원 저장소 (sharded 프로필)
+     * - springflow.sharding.urls에 나열한 DB 수만큼 샤드 풀(shard-N)을 만들고 ShardedMemberRepository로 묶음
+     * - 사용자명 → 샤드 디렉터리는 기본 DataSource(spring.datasource)에 둠
+     * - ID 하위 10비트가 샤드 번호 → ID 조회는 샤드 하나, 역할/이름 조회는 모든 샤드 병렬 조회
+     *
+     * 🔍 주의 사항:
+     * - 샤드 수를 바꾸면 사용자명 해시 배치가 달라짐 → 기존 회원은 디렉터리/ID 기준으로 계속 찾을 수 있으나
+     *   재배치(리밸런싱)는 별도 작업 필요
+     * - MemberService / UserDetailsServiceImpl은 MemberStore(ShardedMemberStore)로 이 저장소를 사용
+     *   (2차 캐시를 거치지 않음, 샤드 간 트랜잭션/조인 없음)
+     * - 확인: hikaricp.connections.acquire{pool=shard-N}
+     */
+    @Bean(initMethod = "initializeSchema", destroyMethod = "close")
+    public ShardedMemberRepository shardedMemberRepository(
+            DataSource dataSource,
+            DataSourceProperties properties,
+            MeterRegistry registry,
+            @Value("${springflow.sharding.urls}") List<String> urls,
+            @Value("${springflow.sharding.pool-size:10}") int poolSize) {
+        List<HikariDataSource> shards = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            shards.add(AdditionalHikariPools.create(properties, urls.get(i).trim(), "shard-" + i, poolSize, registry));
+        }
+        return new ShardedMemberRepository(dataSource, shards);
+    }
+
+    /**
+     * ✅ 회원 저장소 구현 선택 (기본 프로필의 JpaMemberStore 대신)
+     */
+    @Bean
+    public MemberStore memberStore(ShardedMemberRepository shardedMemberRepository, ApplicationEventPublisher eventPublisher) {
+        return new ShardedMemberStore(shardedMemberRepository, eventPublisher);
+    }
+}
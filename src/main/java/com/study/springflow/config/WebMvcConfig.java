@@ -1,6 +1,7 @@
 package com.study.springflow.config;
 
 import com.study.springflow.interceptor.AuthInterceptor;
+import com.study.springflow.interceptor.InflightRouteInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -152,6 +153,11 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .addPathPatterns("/**")
                 .excludePathPatterns("/static/**", "/error")
                 .order(1);
+
+        // 처리 중인 요청에 매핑된 URI 패턴(라우트) 기록
+        registry.addInterceptor(new InflightRouteInterceptor())
+                .addPathPatterns("/**")
+                .order(0);
     }
 
     /**
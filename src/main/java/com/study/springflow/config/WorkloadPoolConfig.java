@@ -0,0 +1,110 @@
+package com.study.springflow.config;
+
+import com.study.springflow.datasource.Workload;
+import com.study.springflow.datasource.WorkloadClass;
+import com.study.springflow.datasource.WorkloadInterceptor;
+import com.study.springflow.datasource.WorkloadRoutingDataSource;
+import com.study.springflow.filter.WorkloadRouteFilter;
+import com.study.springflow.monitoring.ConnectionPoolWaitRecorder;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.Map;
+
+@Configuration
+@Profile("workload")
+public class WorkloadPoolConfig {
+
+    /**
+     * ✅ 작업 부하별 커넥션 풀 분리 (workload 프로필)
+     * - auth / api / admin 세 Hikari 풀을 만들고 WorkloadRoutingDataSource로 묶어 @Primary DataSource로 등록
+     * - 풀 선택: 요청 경로(WorkloadRouteFilter) → 서비스 메서드의 @Workload가 있으면 그 값으로 덮어씀
+     * - 풀마다 크기와 connectionTimeout이 달라 관리자 내보내기/대량 작업이 admin 풀을 다 써도
+     *   로그인/JWT 사용자 조회는 auth 풀에서 바로 커넥션을 얻음
+     *
+     * 🔍 주의 사항:
+     * - 세 풀의 최대 크기 합이 DB가 허용하는 커넥션 수 안에 있어야 함
+     * - replica 프로필과 함께 쓰지 않음 (둘 다 @Primary DataSource를 등록)
+     * - 확인: GET /api/admin/monitoring/connection-pools (풀별 대기 시간 백분위),
+     *   hikaricp.connections.acquire{pool=auth|api|admin} (Prometheus 히스토그램)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource authPool, HikariDataSource apiPool, HikariDataSource adminPool) {
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                WorkloadClass.AUTH, authPool,
+                WorkloadClass.API, apiPool,
+                WorkloadClass.ADMIN, adminPool));
+        routing.setDefaultTargetDataSource(apiPool);
+        return routing;
+    }
+
+    @Bean
+    public HikariDataSource authPool(DataSourceProperties properties, Environment environment,
+                                     ConnectionPoolWaitRecorder recorder) {
+        return pool(WorkloadClass.AUTH, 10, 1_000, properties, environment, recorder);
+    }
+
+    @Bean
+    public HikariDataSource apiPool(DataSourceProperties properties, Environment environment,
+                                    ConnectionPoolWaitRecorder recorder) {
+        return pool(WorkloadClass.API, 20, 3_000, properties, environment, recorder);
+    }
+
+    @Bean
+    public HikariDataSource adminPool(DataSourceProperties properties, Environment environment,
+                                      ConnectionPoolWaitRecorder recorder) {
+        return pool(WorkloadClass.ADMIN, 4, 30_000, properties, environment, recorder);
+    }
+
+    /**
+     * ✅ @Workload 어드바이저
+     * - @Aspect 대신 수동 Advisor로 등록 → -Paop=ctw 빌드에서도 ajc 위빙 대상이 아니고 항상 프록시로 적용
+     * - 트랜잭션 어드바이저(LOWEST_PRECEDENCE)보다 바깥에서 실행되어야 트랜잭션 시작 시 지정한 풀의 커넥션을 얻음
+     */
+    @Bean
+    public DefaultPointcutAdvisor workloadAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(null, Workload.class, true))
+                .union(new AnnotationMatchingPointcut(Workload.class, true));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new WorkloadInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    public FilterRegistrationBean<WorkloadRouteFilter> workloadRouteFilter() {
+        FilterRegistrationBean<WorkloadRouteFilter> registration = new FilterRegistrationBean<>(new WorkloadRouteFilter());
+        registration.addUrlPatterns("/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10); // 시큐리티 필터 체인(JWT 인증)보다 먼저
+        registration.setName("WorkloadRouteFilter");
+        return registration;
+    }
+
+    private static HikariDataSource pool(WorkloadClass workload, int defaultSize, long defaultTimeoutMillis,
+                                         DataSourceProperties properties, Environment environment,
+                                         ConnectionPoolWaitRecorder recorder) {
+        String name = workload.name().toLowerCase(Locale.ROOT);
+        String prefix = "springflow.datasource.workloads." + name + ".";
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(environment.getProperty(prefix + "pool-size", Integer.class, defaultSize));
+        pool.setConnectionTimeout(environment.getProperty(prefix + "connection-timeout-ms", Long.class, defaultTimeoutMillis));
+        // Micrometer 메트릭(hikaricp.*) + 관리자 API용 대기 시간 분포를 함께 기록
+        pool.setMetricsTrackerFactory(recorder.metricsTrackerFactory());
+        return pool;
+    }
+}
@@ -0,0 +1,43 @@
+package com.study.springflow.config;
+
+import com.study.springflow.service.MemberService;
+import com.study.springflow.service.MemberWriteCoalescer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@Profile("coalesce")
+public class WriteCoalescingConfig {
+
+    /**
+     * ✅ 회원 쓰기 묶음 커밋 (coalesce 프로필)
+     * - 회원가입 / 로그인 시간 갱신을 MemberWriteCoalescer가 모아 트랜잭션 한 번 + JDBC 배치로 커밋
+     * - AuthController는 이 빈이 있으면 MemberService 대신 여기로 요청을 넘기고 결과를 기다림
+     * - 가입 캠페인처럼 동시 쓰기가 몰릴 때 커밋/커넥션 획득 횟수를 배치 수만큼으로 줄임
+     *
+     * 🔍 주의 사항:
+     * - 요청마다 최대 max-wait-ms만큼 응답이 늦어짐 (동시 요청이 적으면 이득 없이 지연만 생김)
+     * - 쓰기 스레드가 await-timeout-ms 안에 처리하지 못하면 요청은 실패(500)로 끝남 → max-wait-ms보다 충분히 크게
+     * - 배치 안의 요청 하나가 실패하면 배치 전체를 롤백하고 요청별로 다시 실행 → 중복 가입이 잦으면 재실행 비용이 큼
+     * - 확인: springflow.member.write.batch.size (배치 크기 분포), springflow.member.write.batches{result=committed|split},
+     *   springflow.member.write.queue (대기 요청 수)
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public MemberWriteCoalescer memberWriteCoalescer(
+            MemberService memberService,
+            PasswordEncoder passwordEncoder,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry registry,
+            @Value("${springflow.write-coalescer.max-wait-ms:5}") long maxWaitMs,
+            @Value("${springflow.write-coalescer.max-batch:200}") int maxBatch,
+            @Value("${springflow.write-coalescer.queue-capacity:10000}") int queueCapacity,
+            @Value("${springflow.write-coalescer.await-timeout-ms:30000}") long awaitTimeoutMs) {
+        return new MemberWriteCoalescer(memberService, passwordEncoder, transactionManager, registry,
+                maxWaitMs, maxBatch, queueCapacity, awaitTimeoutMs);
+    }
+}
@@ -0,0 +1,94 @@
+package com.study.springflow.controller;
+
+import com.study.springflow.aop.AspectSwitchRegistry;
+import com.study.springflow.aop.AspectSwitchRule;
+import com.study.springflow.aop.SwitchableAspect;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 애스펙트 런타임 스위치 관리자 API
+ * - 재배포 없이 애스펙트별 / 패키지·메서드 패턴별로 어드바이스 on/off
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/aop/switches")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "AOP 스위치", description = "애스펙트 런타임 on/off API (관리자 전용)")
+@SecurityRequirement(name = "bearerAuth")
+public class AopSwitchController {
+
+    private final AspectSwitchRegistry aspectSwitchRegistry;
+
+    /**
+     * 스위치 상태 조회 API
+     * - 애스펙트별 기본값, 규칙 목록, 지금까지 호출된 메서드별 결정
+     */
+    @GetMapping
+    @Operation(summary = "스위치 상태 조회", description = "애스펙트별 기본값, 규칙, 메서드별 실행 여부 조회")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<Map<String, Object>> getSwitches() {
+        return ResponseEntity.ok(aspectSwitchRegistry.snapshot());
+    }
+
+    /**
+     * 애스펙트 기본값 변경 API
+     * - 규칙에 매칭되지 않는 모든 메서드에 적용
+     */
+    @PutMapping("/defaults/{aspect}")
+    @Operation(summary = "기본값 변경", description = "규칙에 매칭되지 않는 메서드에서의 애스펙트 실행 여부 변경")
+    public ResponseEntity<Map<String, String>> setDefault(
+            @Parameter(description = "애스펙트 (LOG, TRANSACTION_LOG)") @PathVariable SwitchableAspect aspect,
+            @Parameter(description = "실행 여부") @RequestParam boolean enabled) {
+        log.info("[AopSwitchController] 기본값 변경: {} → {}", aspect, enabled);
+        aspectSwitchRegistry.setDefault(aspect, enabled);
+        return ResponseEntity.ok(Map.of("message", aspect + " 기본값이 " + enabled + "(으)로 변경되었습니다."));
+    }
+
+    /**
+     * 규칙 추가 API
+     * - 나중에 추가된 규칙이 우선
+     */
+    @PostMapping("/rules")
+    @Operation(
+            summary = "규칙 추가",
+            description = "\"패키지.클래스.메서드\" 패턴(* 와일드카드)에 매칭되는 메서드의 애스펙트 실행 여부 지정"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "추가 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 규칙")
+    })
+    public ResponseEntity<Map<String, String>> addRule(@RequestBody AspectSwitchRule rule) {
+        try {
+            aspectSwitchRegistry.addRule(rule);
+            return ResponseEntity.ok(Map.of("message", "규칙이 추가되었습니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 규칙 초기화 API
+     */
+    @DeleteMapping("/rules")
+    @Operation(summary = "규칙 초기화", description = "모든 규칙 삭제 (기본값만 적용)")
+    public ResponseEntity<Map<String, String>> clearRules() {
+        aspectSwitchRegistry.clearRules();
+        return ResponseEntity.ok(Map.of("message", "규칙이 초기화되었습니다."));
+    }
+}
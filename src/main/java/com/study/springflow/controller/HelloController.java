@@ -1,8 +1,10 @@
 package com.study.springflow.controller;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+@Slf4j
 @RestController
 public class HelloController {
 
@@ -12,7 +14,7 @@ public class HelloController {
      */
     @GetMapping("/hello")
     public String hello() {
-        System.out.println("[HelloController] hello() 메서드 실행");
+        log.info("[HelloController] hello() 메서드 실행");
         return "Hello, SpringFlow!";
     }
 
@@ -21,7 +23,7 @@ public class HelloController {
      */
     @GetMapping("/error-test")
     public String errorTest() {
-        System.out.println("[HelloController] errorTest() 메서드 실행");
+        log.info("[HelloController] errorTest() 메서드 실행");
         throw new RuntimeException("테스트 예외 발생");
     }
 }
\ No newline at end of file
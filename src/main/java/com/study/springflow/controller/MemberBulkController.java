@@ -0,0 +1,113 @@
+package com.study.springflow.controller;
+
+import com.study.springflow.dto.BulkChangeResponse;
+import com.study.springflow.dto.BulkMemberChangeRequest;
+import com.study.springflow.dto.BulkRegisterResponse;
+import com.study.springflow.service.MemberBulkService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * 회원 대량 처리 관리자 API
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/members")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "회원 대량 처리", description = "회원 대량 등록 / 일괄 삭제 / 역할 일괄 변경 API (관리자 전용)")
+@SecurityRequirement(name = "bearerAuth")
+public class MemberBulkController {
+
+    private final MemberBulkService memberBulkService;
+
+    /**
+     * 회원 대량 등록 API
+     * - 본문: [{"username","password","name","email","role"}, ...] (role 생략 시 USER)
+     * - @RequestBody로 바인딩하지 않고 InputStream을 직접 받아 스트리밍 파싱
+     * - 항목별 결과(CREATED / DUPLICATE / INVALID / FAILED)를 요청 순서대로 반환
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "회원 대량 등록", description = "JSON 배열로 여러 회원을 한 번에 등록 (배치 INSERT + BCrypt 병렬 처리)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "처리 완료 (항목별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "본문이 JSON 배열이 아님"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<?> registerAll(InputStream body) throws IOException {
+        log.info("[MemberBulkController] 회원 대량 등록 요청");
+
+        try {
+            BulkRegisterResponse response = memberBulkService.registerAll(body);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 회원 일괄 삭제 API
+     * - 본문: {"ids":[...]} 또는 {"role":"USER","createdBefore":"...","lastLoginBefore":"..."}
+     * - 요청한 관리자 본인은 삭제 대상에서 제외
+     */
+    @PostMapping("/bulk/delete")
+    @Operation(summary = "회원 일괄 삭제", description = "ID 목록 또는 필터 조건으로 회원을 청크 단위 DELETE ... WHERE id IN 으로 삭제")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "삭제 완료 (삭제 건수 포함)"),
+            @ApiResponse(responseCode = "400", description = "대상 조건 없음"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<?> deleteAll(@RequestBody BulkMemberChangeRequest request,
+                                       @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("[MemberBulkController] 회원 일괄 삭제 요청: {}", userDetails.getUsername());
+
+        try {
+            BulkChangeResponse response = memberBulkService.deleteAll(request, userDetails.getUsername());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 회원 역할 일괄 변경 API
+     * - 본문: 일괄 삭제와 같은 대상 조건 + {"newRole":"ADMIN"}
+     * - 요청한 관리자 본인은 변경 대상에서 제외
+     */
+    @PostMapping("/bulk/role")
+    @Operation(summary = "회원 역할 일괄 변경", description = "ID 목록 또는 필터 조건으로 회원 역할을 청크 단위 UPDATE ... WHERE id IN 으로 변경")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "변경 완료 (변경 건수 포함)"),
+            @ApiResponse(responseCode = "400", description = "대상 조건 또는 newRole 없음"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<?> changeRole(@RequestBody BulkMemberChangeRequest request,
+                                        @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("[MemberBulkController] 회원 역할 일괄 변경 요청: {} → {}", userDetails.getUsername(), request.getNewRole());
+
+        try {
+            BulkChangeResponse response = memberBulkService.changeRole(request, userDetails.getUsername());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package com.study.springflow.controller;
 
+import com.study.springflow.dto.MemberPageResponse;
+import com.study.springflow.dto.MemberSearchResponse;
 import com.study.springflow.entity.Member;
+import com.study.springflow.repository.projection.MemberDetail;
+import com.study.springflow.search.MemberNameIndex;
+import com.study.springflow.search.MemberSuggestIndex;
+import com.study.springflow.search.RadixTrie;
 import com.study.springflow.security.dto.PasswordChangeRequest;
 import com.study.springflow.service.MemberService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,13 +19,17 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +38,9 @@ import java.util.Map;
  * - HTTP 요청 처리 및 서비스 연동
  * - Spring Security의 @PreAuthorize를 사용한 메서드 레벨 보안
  * - @AuthenticationPrincipal을 통한 현재 로그인한 사용자 정보 접근
+ * - 조회 API는 ETag로 조건부 GET 지원: If-None-Match가 현재 버전과 같으면 직렬화 없이 304 응답
+ *   (단건은 2차 캐시에서 버전을 확인하므로 캐시 적중 시 SQL 없음, 목록은 버전 컬럼만 조회)
+ * - 조회 응답은 엔티티 대신 읽기 모델(MemberDetail)을 반환 (비밀번호 해시 제외)
  */
 @Slf4j
 @RestController
@@ -38,6 +51,11 @@ import java.util.Map;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberNameIndex memberNameIndex;
+    private final MemberSuggestIndex memberSuggestIndex;
+
+    // 캐시에 저장하되 사용할 때마다 ETag로 재검증 (개인 정보이므로 공유 캐시 금지)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
 
     /**
      * 회원 상세 조회 API (본인 또는 관리자만 접근 가능)
@@ -51,15 +69,20 @@ public class MemberController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
             @ApiResponse(responseCode = "404", description = "회원 없음")
     })
-    public ResponseEntity<Member> getMember(
-            @Parameter(description = "회원 ID") @PathVariable Long id) {
+    public ResponseEntity<MemberDetail> getMember(
+            @Parameter(description = "회원 ID") @PathVariable Long id,
+            WebRequest webRequest) {
         log.info("[MemberController] 회원 조회 요청: {}", id);
-        return memberService.findById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+
+        MemberDetail member = memberService.findDetailById(id).orElse(null);
+        if (member == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return conditional(member, webRequest);
     }
 
     /**
@@ -73,14 +96,18 @@ public class MemberController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "회원 없음")
     })
-    public ResponseEntity<Member> getCurrentMember(@AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<MemberDetail> getCurrentMember(@AuthenticationPrincipal UserDetails userDetails,
+                                                   WebRequest webRequest) {
         log.info("[MemberController] 현재 로그인 사용자 정보 조회: {}", userDetails.getUsername());
 
-        return memberService.findByUsername(userDetails.getUsername())
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        MemberDetail member = memberService.findDetailByUsername(userDetails.getUsername()).orElse(null);
+        if (member == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return conditional(member, webRequest);
     }
 
     /**
@@ -97,15 +124,110 @@ public class MemberController {
             @ApiResponse(responseCode = "403", description = "권한 없음"),
             @ApiResponse(responseCode = "404", description = "회원 없음")
     })
-    public ResponseEntity<Member> getMemberByUsername(
+    public ResponseEntity<MemberDetail> getMemberByUsername(
             @Parameter(description = "사용자명") @PathVariable String username) {
         log.info("[MemberController] 사용자명으로 회원 조회: {}", username);
 
-        return memberService.findByUsername(username)
+        return memberService.findDetailByUsername(username)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * 회원 목록 조회 API (관리자만 접근 가능)
+     * - 키셋 페이지네이션: 응답의 nextCursor를 다음 요청 cursor로 전달
+     * - 엔티티 대신 목록용 프로젝션(MemberSummary)만 조회
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "회원 목록 조회",
+            description = "역할/가입일 범위로 필터링한 회원 목록을 가입일 최신순으로 커서 기반 페이지 조회 (관리자만 접근 가능)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 파라미터"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<?> getMembers(
+            @Parameter(description = "역할 필터") @RequestParam(required = false) Member.MemberRole role,
+            @Parameter(description = "가입일 시작 (포함, ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "가입일 끝 (미포함, ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)") @RequestParam(defaultValue = "20") int size) {
+        log.info("[MemberController] 회원 목록 조회 요청: role={}, size={}, cursor={}", role, size, cursor != null);
+
+        try {
+            MemberPageResponse page = memberService.findPage(role, createdFrom, createdTo, cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 회원 이름 검색 API (관리자만 접근 가능)
+     * - 3글자 이상이면 메모리 트라이그램 인덱스에서 검색 (DB 접근 없음)
+     * - 인덱스 구축 전이거나 검색어가 짧으면 DB LIKE 검색으로 대체
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "회원 이름 검색",
+            description = "이름 부분 문자열 검색 (정확히 일치 → 접두사 일치 → 짧은 이름 순, 관리자만 접근 가능)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "검색어 없음"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<?> searchMembers(
+            @Parameter(description = "검색어 (이름 일부)") @RequestParam String q,
+            @Parameter(description = "최대 결과 수 (1~100)") @RequestParam(defaultValue = "20") int limit) {
+        if (q.isBlank() || limit < 1 || limit > MemberService.MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body(Map.of("error", "검색어와 1~" + MemberService.MAX_PAGE_SIZE + " 범위의 limit이 필요합니다."));
+        }
+
+        MemberSearchResponse response = memberNameIndex.search(q, limit)
+                .map(items -> MemberSearchResponse.builder().source("index").items(items).build())
+                .orElseGet(() -> memberService.searchByNameInDb(q, limit));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 사용자명/이메일 자동완성 API (관리자만 접근 가능)
+     * - 메모리 radix trie에서 접두사로 시작하는 키를 사전순으로 limit개만 조회 (DB 접근 없음)
+     */
+    @GetMapping("/suggest")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "사용자명/이메일 자동완성",
+            description = "접두사로 시작하는 사용자명 또는 이메일을 사전순으로 조회 (대소문자 무시, 관리자만 접근 가능)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "접두사 없음"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "503", description = "인덱스 구축 중")
+    })
+    public ResponseEntity<?> suggest(
+            @Parameter(description = "접두사") @RequestParam String prefix,
+            @Parameter(description = "최대 결과 수 (1~50)") @RequestParam(defaultValue = "10") int limit) {
+        if (prefix.isEmpty() || limit < 1 || limit > 50) {
+            return ResponseEntity.badRequest().body(Map.of("error", "접두사와 1~50 범위의 limit이 필요합니다."));
+        }
+        if (!memberSuggestIndex.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "5")
+                    .body(Map.of("error", "자동완성 인덱스를 구축하고 있습니다."));
+        }
+
+        List<RadixTrie.Match> matches = memberSuggestIndex.suggest(prefix, limit);
+        return ResponseEntity.ok(matches);
+    }
+
     /**
      * 관리자 목록 조회 API (관리자만 접근 가능)
      */
@@ -117,12 +239,31 @@ public class MemberController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "403", description = "권한 없음")
     })
-    public ResponseEntity<List<Member>> getAdmins() {
+    public ResponseEntity<List<MemberDetail>> getAdmins(WebRequest webRequest) {
         log.info("[MemberController] 관리자 목록 조회 요청");
-        List<Member> admins = memberService.findAdmins();
-        return ResponseEntity.ok(admins);
+
+        // 목록 ETag: 버전 조회 한 번으로 계산해 304 판단과 200 응답에 같은 값 사용
+        // (그 사이 목록이 바뀌어도 본문이 ETag보다 새로울 뿐 → 다음 요청은 304가 아닌 200)
+        String eTag = MemberETags.ofList("admins", memberService.findAdminVersions());
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 응답이 이미 설정됨
+        }
+
+        List<MemberDetail> admins = memberService.findAdmins();
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(admins);
+    }
+
+    /**
+     * 단건 조건부 응답: If-None-Match가 현재 ETag와 같으면 본문 없이 304
+     */
+    private ResponseEntity<MemberDetail> conditional(MemberDetail member, WebRequest webRequest) {
+        if (webRequest.checkNotModified(MemberETags.of(member))) {
+            return null; // 304 응답이 이미 설정됨
+        }
+        return ResponseEntity.ok().eTag(MemberETags.of(member)).cacheControl(REVALIDATE).body(member);
     }
 
     /**
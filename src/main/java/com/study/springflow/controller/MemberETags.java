@@ -0,0 +1,46 @@
+package com.study.springflow.controller;
+
+import com.study.springflow.repository.projection.MemberDetail;
+import com.study.springflow.repository.projection.MemberVersion;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 회원 리소스 ETag 생성
+ * - 단건: "id-version-로그인시각" (강한 ETag)
+ *   → 프로필 수정은 @Version이 증가, 로그인 시간 갱신은 낙관적 락에서 제외되어 버전 대신 lastLoginAt이 바뀜
+ * - 목록: 포함된 (id, version, lastLoginAt) 전체의 64비트 해시 → 충돌 가능성이 있으므로 약한 ETag(W/)
+ */
+final class MemberETags {
+
+    private MemberETags() {
+    }
+
+    static String of(Long id, Long version, LocalDateTime lastLoginAt) {
+        return "\"" + id + "-" + version + "-" + Long.toHexString(loginStamp(lastLoginAt)) + "\"";
+    }
+
+    static String of(MemberDetail member) {
+        return of(member.id(), member.version(), member.lastLoginAt());
+    }
+
+    static String ofList(String name, List<MemberVersion> versions) {
+        long hash = 1125899906842597L;
+        for (MemberVersion version : versions) {
+            hash = 31 * hash + version.getId();
+            hash = 31 * hash + version.getVersion();
+            hash = 31 * hash + loginStamp(version.getLastLoginAt());
+        }
+        return "W/\"" + name + "-" + versions.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    // 로그인 시각을 나노초 단위 정수로 (로그인한 적 없으면 0)
+    private static long loginStamp(LocalDateTime lastLoginAt) {
+        if (lastLoginAt == null) {
+            return 0;
+        }
+        return lastLoginAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + lastLoginAt.getNano();
+    }
+}
@@ -0,0 +1,92 @@
+package com.study.springflow.controller;
+
+import com.study.springflow.service.MemberExportFormat;
+import com.study.springflow.service.MemberExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 회원 내보내기 관리자 API
+ * - StreamingResponseBody로 요청 스레드를 반납하고, MVC 비동기 실행기에서 DB 커서 → 응답 스트림으로 직접 출력
+ * - 응답 크기를 미리 알 수 없으므로 chunked 전송
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/members")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "회원 내보내기", description = "회원 전체 스트리밍 내보내기 API (관리자 전용)")
+@SecurityRequirement(name = "bearerAuth")
+public class MemberExportController {
+
+    private final MemberExportService memberExportService;
+
+    /**
+     * 회원 전체 내보내기 API
+     * - gzip=true면 Content-Encoding: gzip으로 압축 전송 (curl은 --compressed 필요)
+     */
+    @GetMapping("/export")
+    @Operation(summary = "회원 내보내기", description = "회원 전체를 NDJSON 또는 CSV로 스트리밍 (고정 메모리)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 시작"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "형식 (ndjson, csv)") @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "gzip 압축 여부") @RequestParam(defaultValue = "false") boolean gzip) {
+
+        MemberExportFormat exportFormat = MemberExportFormat.from(format);
+        log.info("[MemberExportController] 회원 내보내기 요청: format={}, gzip={}", exportFormat, gzip);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                memberExportService.export(exportFormat, gzipOut);
+                gzipOut.finish();
+            } else {
+                memberExportService.export(exportFormat, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("members." + exportFormat.extension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * 잘못된 형식 파라미터 → 400
+     * (반환 타입이 ResponseEntity<StreamingResponseBody>여야 스트리밍 처리되므로 오류 응답은 여기서 만듦)
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+}
@@ -0,0 +1,180 @@
+package com.study.springflow.controller;
+
+import com.study.springflow.monitoring.ConnectionPoolWaitRecorder;
+import com.study.springflow.monitoring.ConnectionPoolWaitReport;
+import com.study.springflow.monitoring.RequestCostRecorder;
+import com.study.springflow.monitoring.RouteCostReport;
+import com.study.springflow.monitoring.SlowRequestReport;
+import com.study.springflow.monitoring.SlowRequestSampler;
+import com.study.springflow.monitoring.VirtualThreadPinningMonitor;
+import com.study.springflow.monitoring.VirtualThreadPinningReport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운영 진단용 관리자 API
+ * - 느린/멈춘 요청과 라우트별 누적 스택 조회
+ * - 라우트별 요청당 CPU 시간 / 힙 할당량 조회
+ * - 가상 스레드 pinning 스택 조회
+ * - 커넥션 풀별 획득 대기 시간 조회
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/monitoring")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "운영 진단", description = "요청 지연/비용 진단 API (관리자 전용)")
+@SecurityRequirement(name = "bearerAuth")
+public class MonitoringController {
+
+    private final SlowRequestSampler slowRequestSampler;
+    private final RequestCostRecorder requestCostRecorder;
+    private final VirtualThreadPinningMonitor virtualThreadPinningMonitor;
+    private final ConnectionPoolWaitRecorder connectionPoolWaitRecorder;
+
+    /**
+     * 느린 요청 조회 API
+     * - 현재 임계값을 넘긴 처리 중 요청 + 라우트별 상위 스택
+     */
+    @GetMapping("/slow-requests")
+    @Operation(
+            summary = "느린 요청 조회",
+            description = "임계값을 넘겨 처리 중인 요청과 라우트별로 누적된 스택 샘플 조회"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<SlowRequestReport> getSlowRequests(
+            @Parameter(description = "라우트별 상위 스택 개수") @RequestParam(defaultValue = "10") int top) {
+        log.info("[MonitoringController] 느린 요청 조회");
+        return ResponseEntity.ok(slowRequestSampler.report(top));
+    }
+
+    /**
+     * 누적 스택 collapsed 포맷 조회 API
+     * - flamegraph.pl, speedscope 등에 그대로 입력 가능
+     */
+    @GetMapping(value = "/slow-requests/collapsed", produces = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(
+            summary = "누적 스택 (collapsed)",
+            description = "라우트별 누적 스택을 flame graph 입력용 collapsed 포맷으로 조회"
+    )
+    public ResponseEntity<String> getCollapsedStacks() {
+        return ResponseEntity.ok(slowRequestSampler.collapsed());
+    }
+
+    /**
+     * 누적 스택 초기화 API
+     */
+    @DeleteMapping("/slow-requests")
+    @Operation(summary = "누적 스택 초기화", description = "라우트별로 누적된 스택 샘플 삭제")
+    public ResponseEntity<Map<String, String>> resetSlowRequests() {
+        log.info("[MonitoringController] 느린 요청 누적 스택 초기화");
+        slowRequestSampler.reset();
+        return ResponseEntity.ok(Map.of("message", "누적 스택이 초기화되었습니다."));
+    }
+
+    /**
+     * 라우트별 요청 비용 조회 API
+     * - 요청당 CPU 시간(µs)과 힙 할당량(bytes)의 평균/백분위
+     * - 코드 변경 전후로 비교하여 할당량 회귀를 잡는 용도
+     */
+    @GetMapping("/route-costs")
+    @Operation(
+            summary = "라우트별 요청 비용",
+            description = "라우트별 요청당 CPU 시간(µs)과 힙 할당량(bytes) 분포 조회 (총 CPU 시간 내림차순)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<List<RouteCostReport>> getRouteCosts() {
+        log.info("[MonitoringController] 라우트별 요청 비용 조회");
+        return ResponseEntity.ok(requestCostRecorder.report());
+    }
+
+    /**
+     * 라우트별 요청 비용 초기화 API
+     */
+    @DeleteMapping("/route-costs")
+    @Operation(summary = "라우트별 요청 비용 초기화", description = "누적된 CPU 시간 / 할당량 분포 삭제")
+    public ResponseEntity<Map<String, String>> resetRouteCosts() {
+        log.info("[MonitoringController] 라우트별 요청 비용 초기화");
+        requestCostRecorder.reset();
+        return ResponseEntity.ok(Map.of("message", "라우트별 요청 비용이 초기화되었습니다."));
+    }
+
+    /**
+     * 가상 스레드 pinning 조회 API
+     * - synchronized / 네이티브 프레임 안에서 블로킹되어 캐리어 스레드를 붙잡은 스택
+     */
+    @GetMapping("/virtual-threads/pinning")
+    @Operation(
+            summary = "가상 스레드 pinning 조회",
+            description = "jdk.VirtualThreadPinned 이벤트를 스택별로 집계한 결과 조회 (virtual 프로필 + Java 21 이상)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<VirtualThreadPinningReport> getPinning(
+            @Parameter(description = "상위 스택 개수") @RequestParam(defaultValue = "20") int top) {
+        log.info("[MonitoringController] 가상 스레드 pinning 조회");
+        return ResponseEntity.ok(virtualThreadPinningMonitor.report(top));
+    }
+
+    /**
+     * 가상 스레드 pinning 집계 초기화 API
+     */
+    @DeleteMapping("/virtual-threads/pinning")
+    @Operation(summary = "가상 스레드 pinning 초기화", description = "누적된 pinning 스택 삭제")
+    public ResponseEntity<Map<String, String>> resetPinning() {
+        log.info("[MonitoringController] 가상 스레드 pinning 초기화");
+        virtualThreadPinningMonitor.reset();
+        return ResponseEntity.ok(Map.of("message", "pinning 집계가 초기화되었습니다."));
+    }
+
+    /**
+     * 커넥션 풀별 대기 시간 조회 API
+     * - 풀 상태(사용 중/유휴/대기 스레드)와 커넥션 획득 대기 시간(µs) 분포
+     * - workload 프로필의 auth / api / admin 풀이 대상 (그 밖의 실행 모드에서는 빈 목록)
+     */
+    @GetMapping("/connection-pools")
+    @Operation(
+            summary = "커넥션 풀별 대기 시간",
+            description = "작업 부하별 커넥션 풀의 상태와 커넥션 획득 대기 시간(µs) 분포 조회 (누적 대기 시간 내림차순)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    public ResponseEntity<List<ConnectionPoolWaitReport>> getConnectionPools() {
+        log.info("[MonitoringController] 커넥션 풀별 대기 시간 조회");
+        return ResponseEntity.ok(connectionPoolWaitRecorder.report());
+    }
+
+    /**
+     * 커넥션 풀별 대기 시간 초기화 API
+     */
+    @DeleteMapping("/connection-pools")
+    @Operation(summary = "커넥션 풀별 대기 시간 초기화", description = "누적된 커넥션 획득 대기 시간 분포와 타임아웃 횟수 삭제")
+    public ResponseEntity<Map<String, String>> resetConnectionPools() {
+        log.info("[MonitoringController] 커넥션 풀별 대기 시간 초기화");
+        connectionPoolWaitRecorder.reset();
+        return ResponseEntity.ok(Map.of("message", "커넥션 풀별 대기 시간이 초기화되었습니다."));
+    }
+}
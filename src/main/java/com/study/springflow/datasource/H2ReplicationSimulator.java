@@ -0,0 +1,152 @@
+package com.study.springflow.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 복제 시뮬레이션 (replica 프로필, H2 전용)
+ * - primary와 다른 H2 DB를 복제본으로 두고 sync-interval마다 primary의 테이블 전체를 복제본에 복사 (스냅샷 복제)
+ *   → 복제본은 마지막 복사 시점의 데이터만 보이므로 복사 사이에는 primary보다 뒤처짐
+ *   → heartbeat 행도 함께 복사되므로 ReplicaLagMonitor가 재는 지연 = 마지막 복사 이후 경과 시간
+ * - sync-interval을 max-lag-ms보다 길게 잡으면 복사 사이 구간마다 지연이 허용치를 넘어 primary로 대체됨
+ * - 테이블 구성이 primary와 다르면(시작 시 JPA 스키마 생성 등) 복제본 스키마를 SCRIPT NODATA로 다시 만듦
+ * - 매번 전체를 복사하므로 로컬의 작은 데이터에서만 사용 (실제 복제를 대신하지 않음)
+ */
+@Slf4j
+public class H2ReplicationSimulator implements AutoCloseable {
+
+    private static final int INSERT_BATCH = 500;
+
+    private final DataSource primary;
+    private final List<? extends DataSource> replicas;
+    private final long syncIntervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public H2ReplicationSimulator(DataSource primary, List<? extends DataSource> replicas, long syncIntervalMillis) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.syncIntervalMillis = syncIntervalMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::sync, 0, syncIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("[H2ReplicationSimulator] 복제 시뮬레이션 시작: 복제본 {}개, 복사 주기 {}ms", replicas.size(), syncIntervalMillis);
+    }
+
+    void sync() {
+        for (int i = 0; i < replicas.size(); i++) {
+            try {
+                copy(replicas.get(i));
+            } catch (SQLException e) {
+                // 복사하지 못하면 복제본이 그만큼 더 뒤처짐 → 지연 측정에 그대로 드러남
+                log.warn("[H2ReplicationSimulator] replica-{} 복사 실패: {}", i, e.getMessage());
+            }
+        }
+    }
+
+    private void copy(DataSource replica) throws SQLException {
+        try (Connection source = primary.getConnection(); Connection target = replica.getConnection()) {
+            List<String> tables = tables(source);
+            if (!tables.equals(tables(target))) {
+                recreateSchema(source, target);
+            }
+            // 복제본은 한 트랜잭션으로 교체 → 복제본을 읽는 쪽은 복사 도중의 절반만 바뀐 상태를 보지 않음
+            target.setAutoCommit(false);
+            try {
+                for (String table : tables) {
+                    copyTable(source, target, table);
+                }
+                target.commit();
+            } catch (SQLException e) {
+                target.rollback();
+                throw e;
+            } finally {
+                target.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static List<String> tables(Connection connection) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES " +
+                     "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE' ORDER BY TABLE_NAME")) {
+            while (rs.next()) {
+                tables.add(rs.getString(1));
+            }
+        }
+        return tables;
+    }
+
+    // primary의 스키마(테이블, 인덱스, 제약, 시퀀스)만 복제본에 다시 생성
+    private static void recreateSchema(Connection source, Connection target) throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Statement statement = source.createStatement();
+             ResultSet rs = statement.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS")) {
+            while (rs.next()) {
+                String sql = rs.getString(1);
+                if (!sql.startsWith("--")) {
+                    script.add(sql);
+                }
+            }
+        }
+        try (Statement statement = target.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : script) {
+                statement.execute(sql);
+            }
+        }
+        log.info("[H2ReplicationSimulator] 복제본 스키마 생성: {}문장", script.size());
+    }
+
+    private static void copyTable(Connection source, Connection target, String table) throws SQLException {
+        String name = "\"" + table + "\"";
+        try (Statement delete = target.createStatement()) {
+            delete.executeUpdate("DELETE FROM " + name);
+        }
+        try (Statement select = source.createStatement();
+             ResultSet rs = select.executeQuery("SELECT * FROM " + name)) {
+            int columns = rs.getMetaData().getColumnCount();
+            String placeholders = String.join(", ", Collections.nCopies(columns, "?"));
+            try (PreparedStatement insert = target.prepareStatement(
+                    "INSERT INTO " + name + " VALUES (" + placeholders + ")")) {
+                int pending = 0;
+                while (rs.next()) {
+                    for (int column = 1; column <= columns; column++) {
+                        insert.setObject(column, rs.getObject(column));
+                    }
+                    insert.addBatch();
+                    if (++pending == INSERT_BATCH) {
+                        insert.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
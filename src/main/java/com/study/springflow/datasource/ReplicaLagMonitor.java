@@ -0,0 +1,110 @@
+package com.study.springflow.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 복제 지연 측정 (heartbeat 방식)
+ * - 주기마다 primary의 replication_heartbeat 행을 현재 시각으로 갱신하고,
+ *   각 복제본에서 같은 행을 읽어 "지금 - 복제본에 보이는 마지막 heartbeat"를 지연 시간으로 기록
+ * - 복제본이 응답하지 않거나 아직 heartbeat가 복제되지 않았으면 지연을 알 수 없음(-1) → 비정상으로 취급
+ * - 지연 측정 정밀도는 heartbeat 주기만큼 (정상 복제본도 최대 주기만큼의 지연으로 보임)
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final long UNKNOWN = -1;
+
+    private final JdbcTemplate primary;
+    private final List<JdbcTemplate> replicas;
+    private final long maxLagMillis;
+    private final AtomicLongArray lagMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(DataSource primary, List<? extends DataSource> replicas, List<String> replicaNames,
+                             long maxLagMillis, long intervalMillis, MeterRegistry registry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = replicas.stream().map(JdbcTemplate::new).toList();
+        this.maxLagMillis = maxLagMillis;
+        this.lagMillis = new AtomicLongArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            lagMillis.set(i, UNKNOWN);
+            int index = i;
+            Gauge.builder("springflow.datasource.replica.lag", lagMillis, lags -> lags.get(index) < 0 ? Double.NaN : lags.get(index))
+                    .description("복제본 지연 시간 (ms, 알 수 없으면 NaN)")
+                    .baseUnit("milliseconds")
+                    .tag("replica", replicaNames.get(i))
+                    .register(registry);
+        }
+
+        this.primary.execute("CREATE TABLE IF NOT EXISTS replication_heartbeat (id INT PRIMARY KEY, beat_at TIMESTAMP(3) NOT NULL)");
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 첫 측정은 바로 실행 (측정 전까지 모든 복제본은 비정상 → primary로 대체)
+        scheduler.scheduleWithFixedDelay(this::check, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("[ReplicaLagMonitor] 복제 지연 측정 시작: 복제본 {}개, 허용 지연 {}ms, 주기 {}ms",
+                replicas.size(), maxLagMillis, intervalMillis);
+    }
+
+    /**
+     * 지연 시간이 허용 범위 안인지 (모르면 false)
+     */
+    public boolean isHealthy(int replica) {
+        long lag = lagMillis.get(replica);
+        return lag >= 0 && lag <= maxLagMillis;
+    }
+
+    public long lagMillis(int replica) {
+        return lagMillis.get(replica);
+    }
+
+    void check() {
+        try {
+            beat();
+        } catch (Exception e) {
+            // primary에 쓸 수 없으면 지연을 새로 측정할 수 없음 → 마지막 heartbeat 기준으로 지연이 계속 늘어남
+            log.warn("[ReplicaLagMonitor] heartbeat 기록 실패: {}", e.getMessage());
+        }
+        for (int i = 0; i < replicas.size(); i++) {
+            lagMillis.set(i, measure(replicas.get(i)));
+        }
+    }
+
+    private void beat() {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        if (primary.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", now) == 0) {
+            primary.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", now);
+        }
+    }
+
+    private long measure(JdbcTemplate replica) {
+        try {
+            List<Timestamp> beats = replica.queryForList("SELECT beat_at FROM replication_heartbeat WHERE id = 1", Timestamp.class);
+            if (beats.isEmpty()) {
+                return UNKNOWN;
+            }
+            return Math.max(0, System.currentTimeMillis() - beats.get(0).getTime());
+        } catch (Exception e) {
+            log.debug("[ReplicaLagMonitor] 복제본 지연 측정 실패: {}", e.getMessage());
+            return UNKNOWN;
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
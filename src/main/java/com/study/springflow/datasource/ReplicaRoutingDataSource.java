@@ -0,0 +1,115 @@
+package com.study.springflow.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 커넥션 라우터 (LazyConnectionDataSourceProxy의 readOnlyDataSource로 사용)
+ * - 커넥션 요청마다 지연이 허용 범위 안인 복제본 중 하나를 전략에 따라 선택
+ * - 정상 복제본이 없으면 primary로 대체 → 복제가 밀려도 읽기 요청은 실패하지 않고 최신 데이터를 읽음
+ * - 선택 결과는 springflow.datasource.routing{target=replica|primary_fallback}로 기록
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final ReplicaSelectionStrategy strategy;
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter routedToReplica;
+    private final Counter fellBackToPrimary;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas, ReplicaSelectionStrategy strategy,
+                                    long maxLagMillis, long heartbeatIntervalMillis, MeterRegistry registry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+        this.lagMonitor = new ReplicaLagMonitor(primary, this.replicas,
+                this.replicas.stream().map(HikariDataSource::getPoolName).toList(),
+                maxLagMillis, heartbeatIntervalMillis, registry);
+        this.routedToReplica = routingCounter(registry, "replica");
+        this.fellBackToPrimary = routingCounter(registry, "primary_fallback");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return select().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return select().getConnection(username, password);
+    }
+
+    private DataSource select() {
+        int replica = switch (strategy) {
+            case ROUND_ROBIN -> nextHealthy();
+            case LEAST_LOADED -> leastLoadedHealthy();
+        };
+        if (replica < 0) {
+            fellBackToPrimary.increment();
+            return primary;
+        }
+        routedToReplica.increment();
+        return replicas.get(replica);
+    }
+
+    private int nextHealthy() {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int candidate = (start + i) % replicas.size();
+            if (lagMonitor.isHealthy(candidate)) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    private int leastLoadedHealthy() {
+        int best = -1;
+        int bestActive = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            if (!lagMonitor.isHealthy(i)) {
+                continue;
+            }
+            int active = activeConnections(replicas.get(i));
+            if (active < bestActive) {
+                best = i;
+                bestActive = active;
+            }
+        }
+        return best;
+    }
+
+    private static int activeConnections(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        // 아직 커넥션을 한 번도 요청하지 않은 풀은 MXBean이 없음 (= 사용 중 0)
+        return mxBean == null ? 0 : mxBean.getActiveConnections();
+    }
+
+    private static Counter routingCounter(MeterRegistry registry, String target) {
+        return Counter.builder("springflow.datasource.routing")
+                .description("읽기 전용 커넥션 라우팅 결과")
+                .tag("target", target)
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        lagMonitor.close();
+        replicas.forEach(HikariDataSource::close);
+        log.info("[ReplicaRoutingDataSource] 복제본 풀 종료");
+    }
+}
@@ -0,0 +1,17 @@
+package com.study.springflow.datasource;
+
+/**
+ * 읽기 전용 트랜잭션을 보낼 복제본 선택 방식
+ */
+public enum ReplicaSelectionStrategy {
+
+    /**
+     * 정상 복제본을 차례대로 순환
+     */
+    ROUND_ROBIN,
+
+    /**
+     * 정상 복제본 중 사용 중(active) 커넥션이 가장 적은 풀
+     */
+    LEAST_LOADED
+}
@@ -0,0 +1,21 @@
+package com.study.springflow.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드(또는 클래스 전체)가 사용할 커넥션 풀 분류 지정
+ * - 요청 경로로 정한 분류보다 우선 (예: API 경로에서 호출된 백그라운드 재구축도 ADMIN 풀 사용)
+ * - 커넥션은 트랜잭션 시작 시 얻으므로 트랜잭션을 여는 바깥 메서드에 붙여야 효과가 있음
+ *   (이미 커넥션을 잡은 트랜잭션 안에서 호출되면 기존 커넥션을 그대로 사용)
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Workload {
+
+    WorkloadClass value();
+}
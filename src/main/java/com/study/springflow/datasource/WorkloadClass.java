@@ -0,0 +1,23 @@
+package com.study.springflow.datasource;
+
+/**
+ * 커넥션 풀을 나누는 작업 부하 분류
+ * - 각 분류가 자기 Hikari 풀(크기/타임아웃 별도)을 사용 → 한 분류의 커넥션 고갈이 다른 분류로 번지지 않음
+ */
+public enum WorkloadClass {
+
+    /**
+     * 로그인, JWT 인증 시 사용자 조회, 회원가입 (짧고 지연에 민감)
+     */
+    AUTH,
+
+    /**
+     * 일반 API 요청 (기본값)
+     */
+    API,
+
+    /**
+     * 관리자 API, 내보내기, 대량 작업, 백그라운드 재구축 (길고 처리량 위주)
+     */
+    ADMIN
+}
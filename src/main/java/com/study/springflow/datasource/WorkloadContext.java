@@ -0,0 +1,39 @@
+package com.study.springflow.datasource;
+
+/**
+ * 현재 스레드의 작업 부하 분류 (WorkloadRoutingDataSource가 커넥션을 얻을 때 참조)
+ * - 요청 경로 필터와 @Workload 인터셉터가 설정하고, 끝나면 이전 값으로 되돌림
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    /**
+     * 현재 분류 (설정되지 않았으면 API)
+     */
+    public static WorkloadClass current() {
+        WorkloadClass workload = CURRENT.get();
+        return workload == null ? WorkloadClass.API : workload;
+    }
+
+    /**
+     * 분류 설정
+     * @return 이전 값 (restore()에 그대로 넘김, 설정된 적 없으면 null)
+     */
+    public static WorkloadClass set(WorkloadClass workload) {
+        WorkloadClass previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    public static void restore(WorkloadClass previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.study.springflow.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * @Workload 메서드 실행 동안 WorkloadContext 설정
+ * - 트랜잭션 인터셉터보다 먼저(바깥에서) 실행되어야 트랜잭션 시작 시 얻는 커넥션이 지정한 풀에서 나옴
+ */
+public class WorkloadInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Workload workload = findWorkload(invocation);
+        if (workload == null) {
+            return invocation.proceed();
+        }
+
+        WorkloadClass previous = WorkloadContext.set(workload.value());
+        try {
+            return invocation.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    private static Workload findWorkload(MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(method, Workload.class);
+        if (workload == null && targetClass != null) {
+            workload = AnnotatedElementUtils.findMergedAnnotation(targetClass, Workload.class);
+        }
+        return workload;
+    }
+}
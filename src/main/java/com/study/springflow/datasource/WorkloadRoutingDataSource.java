@@ -0,0 +1,15 @@
+package com.study.springflow.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * 작업 부하 분류별 풀 라우터
+ * - 커넥션을 요청하는 시점의 WorkloadContext 값으로 풀을 고름 (없는 분류는 기본 풀 = API)
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+}
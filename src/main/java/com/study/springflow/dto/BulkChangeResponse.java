@@ -0,0 +1,19 @@
+package com.study.springflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 일괄 삭제 / 역할 변경 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkChangeResponse {
+    private int affected; // 실제로 삭제/변경된 행 수
+    private int chunks; // 실행한 DML(트랜잭션) 수
+    private long elapsedMs;
+}
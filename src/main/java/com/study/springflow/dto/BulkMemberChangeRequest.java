@@ -0,0 +1,31 @@
+package com.study.springflow.dto;
+
+import com.study.springflow.entity.Member;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 회원 일괄 삭제 / 역할 변경 요청 DTO
+ * - ids를 주면 해당 회원만, 없으면 필터 조건(role, createdBefore, lastLoginBefore)에 맞는 회원 전체가 대상
+ * - 실수로 전체 회원을 건드리지 않도록 ids 또는 필터 조건 중 하나는 반드시 있어야 함
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkMemberChangeRequest {
+    private List<Long> ids;
+    private Member.MemberRole role; // 현재 역할 필터
+    private LocalDateTime createdBefore; // 가입일이 이 시각 이전
+    private LocalDateTime lastLoginBefore; // 마지막 로그인이 이 시각 이전 (로그인 기록 없음 포함)
+    private Member.MemberRole newRole; // 역할 변경 시 바꿀 역할
+
+    public boolean hasFilter() {
+        return role != null || createdBefore != null || lastLoginBefore != null;
+    }
+}
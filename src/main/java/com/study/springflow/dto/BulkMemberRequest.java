@@ -0,0 +1,22 @@
+package com.study.springflow.dto;
+
+import com.study.springflow.entity.Member;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 회원 등록 요청 항목 DTO (JSON 배열의 원소 하나)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkMemberRequest {
+    private String username;
+    private String password;
+    private String name;
+    private String email;
+    private Member.MemberRole role; // 생략 시 USER
+}
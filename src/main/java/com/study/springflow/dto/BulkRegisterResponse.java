@@ -0,0 +1,24 @@
+package com.study.springflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대량 회원 등록 응답 DTO
+ * - error: 요청 본문을 끝까지 읽지 못한 경우 사유 (그 전까지 처리된 항목은 results에 포함되고 이미 저장됨)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRegisterResponse {
+    private int total;
+    private int created;
+    private int failed;
+    private String error;
+    private List<BulkRegisterResult> results;
+}
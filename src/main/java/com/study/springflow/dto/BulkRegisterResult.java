@@ -0,0 +1,26 @@
+package com.study.springflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 회원 등록 항목별 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRegisterResult {
+
+    public enum Status {
+        CREATED, DUPLICATE, INVALID, FAILED
+    }
+
+    private int index; // 요청 배열에서의 위치
+    private String username;
+    private Status status;
+    private Long id; // CREATED일 때만
+    private String message; // 실패 사유
+}
@@ -0,0 +1,24 @@
+package com.study.springflow.dto;
+
+import com.study.springflow.repository.projection.MemberSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 회원 목록 페이지 응답 DTO
+ * - nextCursor를 다음 요청의 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberPageResponse {
+    private List<MemberSummary> items;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
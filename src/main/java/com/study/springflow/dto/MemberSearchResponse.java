@@ -0,0 +1,22 @@
+package com.study.springflow.dto;
+
+import com.study.springflow.search.TrigramIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 회원 이름 검색 응답 DTO
+ * - source: index(트라이그램 인덱스) 또는 db(LIKE 검색 대체 경로)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberSearchResponse {
+    private String source;
+    private List<TrigramIndex.Match> items;
+}
@@ -5,27 +5,65 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Entity
-@Table(name = "members")
+@Table(name = "members", indexes = {
+        // 회원 목록 키셋 페이지네이션 정렬 키 (createdAt DESC, id DESC) 역방향 스캔용
+        @Index(name = "idx_members_created_at_id", columnList = "createdAt, id"),
+        // 역할별 조회 + 역할별 최신순 정렬/키셋 (선두 컬럼 role이 역할 단독 조회도 처리 → 별도 role 인덱스 불필요)
+        // 오름차순 + 역방향 스캔: H2는 DESC 컬럼의 범위 조건(커서 위치)을 탐색 시작점으로 쓰지 못함
+        @Index(name = "idx_members_role_created_at", columnList = "role, createdAt, id")
+}, uniqueConstraints = {
+        // 회원가입은 사전 조회 없이 INSERT하고, 위반된 제약 이름으로 중복 필드를 판별 (MemberService.register)
+        @UniqueConstraint(name = Member.UK_USERNAME, columnNames = "username"),
+        // 이메일은 저장 시 소문자로 정규화하므로 일반 유니크 인덱스로 대소문자 무시 중복을 막음
+        @UniqueConstraint(name = Member.UK_EMAIL, columnNames = "email")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(MemberEntityListener.class)
+// 2차 캐시: 커밋 시 캐시를 갱신하고 갱신 중인 항목은 잠가 오래된 값을 읽지 않음 (read-write)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
+@NaturalIdCache(region = "member-natural-id")
+// 변경된 컬럼만 UPDATE (updateLastLogin, changePassword는 한 컬럼 + version만 기록)
+// - 바이트코드 향상(build.gradle)의 dirty tracking과 함께 쓰면 flush 때 스냅샷 비교 없이 변경 컬럼을 알 수 있음
+@DynamicUpdate
 public class Member {
 
+    public static final String UK_USERNAME = "uk_members_username";
+    public static final String UK_EMAIL = "uk_members_email";
+
     /**
      * 회원 엔티티 예시
      * - JPA 영속성 테스트를 위한 기본 엔티티
      * - 트랜잭션 테스트에 활용
+     *
+     * 시퀀스 기반 ID (pooled 옵티마이저)
+     * - IDENTITY는 INSERT를 실행해야 ID를 알 수 있어 Hibernate가 INSERT 배치를 끔
+     * - 시퀀스를 50씩 미리 할당받아 메모리에서 ID를 부여 → hibernate.jdbc.batch_size 단위로 INSERT 배치 가능
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "members_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    /**
+     * 사용자명 (자연 키, 변경 불가)
+     * - natural-id 캐시로 username → id를 풀고, 엔티티는 2차 캐시에서 읽음
+     */
+    @NaturalId
+    @Column(nullable = false)
     private String username;
 
     @Column(nullable = false)
@@ -34,6 +72,9 @@ public class Member {
     @Column(nullable = false)
     private String name;
 
+    /**
+     * 이메일 (저장 전 {@link #normalizeEmail(String)}로 정규화)
+     */
     @Column(nullable = false)
     private String email;
 
@@ -44,9 +85,25 @@ public class Member {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * 마지막 로그인 시간
+     * - 지연 로딩(@Basic(fetch = LAZY))하지 않음: 2차 캐시 항목에 미로딩 상태로 남아
+     *   캐시에서 읽는 상세 조회(MemberDetail)마다 이 컬럼만 다시 SELECT하게 됨
+     * - 낙관적 락 제외(@OptimisticLock(excluded = true)): 로그인마다 version이 올라가면
+     *   같은 계정의 동시 로그인끼리 충돌함 → 이 컬럼만 바뀐 UPDATE는 version을 올리지 않음
+     */
     @Column
+    @OptimisticLock(excluded = true)
     private LocalDateTime lastLoginAt;
 
+    /**
+     * 낙관적 락 버전
+     * - 엔티티가 변경될 때마다 Hibernate가 1씩 증가시킴
+     * - 조건부 GET의 ETag("id-version")로도 사용 → 버전만 조회해서 304 판단 가능
+     */
+    @Version
+    private Long version;
+
     /**
      * 회원 역할 열거형
      */
@@ -60,5 +117,23 @@ public class Member {
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
+        this.email = normalizeEmail(this.email);
+    }
+
+    /**
+     * 엔티티 수정 전 이메일 정규화
+     */
+    @PreUpdate
+    public void preUpdate() {
+        this.email = normalizeEmail(this.email);
+    }
+
+    /**
+     * 이메일 정규화 (앞뒤 공백 제거 + 소문자)
+     * - H2는 함수 기반 인덱스(LOWER(email))가 없어 정규화한 값을 그대로 저장하고 일반 인덱스로 조회
+     * - 이메일로 조회할 때도 같은 함수로 정규화한 값을 넘겨야 인덱스를 탐
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
     }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.study.springflow.entity;
+
+import com.study.springflow.service.event.MemberChangeEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 회원 엔티티 변경 → 애플리케이션 이벤트 변환
+ * - Spring Boot가 Hibernate에 SpringBeanContainer를 설정하므로 엔티티 리스너도 생성자 주입을 받음
+ * - 벌크 DML(MemberRepository.deleteByIdIn 등)은 엔티티 콜백을 거치지 않음 → MemberBulkChangeEvent로 별도 발행
+ */
+@RequiredArgsConstructor
+public class MemberEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void postPersist(Member member) {
+        publish(MemberChangeEvent.Type.CREATED, member);
+    }
+
+    @PostUpdate
+    public void postUpdate(Member member) {
+        publish(MemberChangeEvent.Type.UPDATED, member);
+    }
+
+    @PostRemove
+    public void postRemove(Member member) {
+        publish(MemberChangeEvent.Type.DELETED, member);
+    }
+
+    private void publish(MemberChangeEvent.Type type, Member member) {
+        eventPublisher.publishEvent(new MemberChangeEvent(
+                type, member.getId(), member.getUsername(), member.getName(), member.getEmail()));
+    }
+}
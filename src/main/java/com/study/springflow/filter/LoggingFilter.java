@@ -1,18 +1,28 @@
 package com.study.springflow.filter;
 
+import com.study.springflow.monitoring.InflightRequest;
+import com.study.springflow.monitoring.InflightRequestRegistry;
+import com.study.springflow.monitoring.RequestCostRecorder;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 
 @Slf4j
+@RequiredArgsConstructor
 public class LoggingFilter implements Filter {
 
+    private final InflightRequestRegistry inflightRequestRegistry;
+    private final RequestCostRecorder requestCostRecorder;
+
     /**
      * ✅ 로깅 필터
      * - 모든 HTTP 요청에 대한 기본 정보를 로깅
      * - Filter 인터페이스의 생명주기 메서드(init, doFilter, destroy) 구현
+     * - 처리 중인 요청을 InflightRequestRegistry에 등록 (느린 요청 스택 샘플링에 사용)
+     * - 요청 처리 스레드의 CPU 시간 / 힙 할당량을 라우트별로 집계 (RequestCostRecorder)
      *
      * 🔍 추가 활용 옵션:
      * 1. 요청/응답 본문 로깅:
@@ -237,7 +247,16 @@ public class LoggingFilter implements Filter {
 
         log.info("[LoggingFilter] ▶️ 요청: [{}] {} from {}", method, uri, clientIp);
 
-        chain.doFilter(request, response);
+        InflightRequest inflightRequest = inflightRequestRegistry.begin(method, uri);
+        request.setAttribute(InflightRequest.ATTRIBUTE, inflightRequest);
+        long startCpuNanos = requestCostRecorder.currentThreadCpuNanos();
+        long startAllocatedBytes = requestCostRecorder.currentThreadAllocatedBytes();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            inflightRequestRegistry.end(inflightRequest);
+            requestCostRecorder.record(inflightRequest.getRoute(), startCpuNanos, startAllocatedBytes);
+        }
 
         log.info("[LoggingFilter] ⏹️ 응답 완료: [{}] {}", method, uri);
     }
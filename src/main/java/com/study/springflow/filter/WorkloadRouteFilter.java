@@ -0,0 +1,41 @@
+package com.study.springflow.filter;
+
+import com.study.springflow.datasource.WorkloadClass;
+import com.study.springflow.datasource.WorkloadContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * ✅ 요청 경로 → 작업 부하 분류 필터 (workload 프로필)
+ * - /api/auth/** → AUTH, /api/admin/**, /actuator/** → ADMIN, 그 밖의 경로 → API
+ * - 시큐리티 필터 체인보다 먼저 실행 → JWT 인증 시 사용자 조회도 요청 경로의 풀을 사용
+ * - 서비스 메서드의 @Workload가 있으면 그 값이 우선
+ */
+public class WorkloadRouteFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        WorkloadClass previous = WorkloadContext.set(classify(request.getRequestURI()));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    static WorkloadClass classify(String uri) {
+        if (uri.startsWith("/api/auth/")) {
+            return WorkloadClass.AUTH;
+        }
+        if (uri.startsWith("/api/admin/") || uri.startsWith("/actuator/")) {
+            return WorkloadClass.ADMIN;
+        }
+        return WorkloadClass.API;
+    }
+}
@@ -2,8 +2,10 @@ package com.study.springflow.interceptor;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+@Slf4j
 public class AuthInterceptor implements HandlerInterceptor {
 
     /**
@@ -267,7 +269,7 @@ public class AuthInterceptor implements HandlerInterceptor {
     // ✅ 요청 전 처리
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        System.out.println("[AuthInterceptor] 요청 URL: " + request.getRequestURI());
+        log.info("[AuthInterceptor] 요청 URL: {}", request.getRequestURI());
         return true; // false일 경우 컨트롤러로 요청이 전달되지 않음
     }
 
@@ -0,0 +1,26 @@
+package com.study.springflow.interceptor;
+
+import com.study.springflow.monitoring.InflightRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 처리 중인 요청의 라우트 기록 인터셉터
+ * - 필터 단계에서는 어떤 핸들러로 매핑될지 알 수 없으므로
+ *   HandlerMapping 이후 preHandle()에서 매칭된 URI 패턴을 InflightRequest에 기록
+ * - "/api/members/1", "/api/members/2"가 모두 "GET /api/members/{id}" 하나로 집계됨
+ */
+public class InflightRouteInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object inflight = request.getAttribute(InflightRequest.ATTRIBUTE);
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (inflight instanceof InflightRequest inflightRequest && pattern != null) {
+            inflightRequest.setRoutePattern(pattern.toString());
+        }
+        return true;
+    }
+}
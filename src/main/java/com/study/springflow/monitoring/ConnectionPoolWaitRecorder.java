@@ -0,0 +1,116 @@
+package com.study.springflow.monitoring;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 풀별 커넥션 획득 대기 시간 집계기
+ * - Hikari 메트릭 트래커를 감싸 Micrometer 메트릭(hikaricp.*)은 그대로 기록하면서
+ *   획득 대기 시간을 풀별 ConcurrentHistogram에도 기록 → 관리자 API에서 백분위로 바로 조회
+ * - 이 팩토리(metricsTrackerFactory())를 설정한 풀만 집계됨 (workload 프로필의 auth/api/admin 풀)
+ */
+@Component
+public class ConnectionPoolWaitRecorder {
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, PoolWait> pools = new ConcurrentHashMap<>();
+
+    public ConnectionPoolWaitRecorder(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Hikari 풀에 설정할 메트릭 트래커 팩토리 (풀이 시작될 때 풀마다 create() 호출)
+     */
+    public MetricsTrackerFactory metricsTrackerFactory() {
+        MicrometerMetricsTrackerFactory micrometer = new MicrometerMetricsTrackerFactory(registry);
+        return (poolName, poolStats) -> {
+            PoolWait wait = new PoolWait(poolStats);
+            pools.put(poolName, wait);
+            return new RecordingTracker(micrometer.create(poolName, poolStats), wait);
+        };
+    }
+
+    /**
+     * 풀별 대기 시간 스냅샷 (누적 대기 시간 내림차순)
+     */
+    public List<ConnectionPoolWaitReport> report() {
+        return pools.entrySet().stream()
+                .map(entry -> entry.getValue().report(entry.getKey()))
+                .sorted(Comparator.comparingLong((ConnectionPoolWaitReport report) -> report.waitMicros().total()).reversed())
+                .toList();
+    }
+
+    /**
+     * 누적 분포 초기화 (풀 상태 값은 현재 값이므로 유지)
+     */
+    public void reset() {
+        pools.values().forEach(PoolWait::reset);
+    }
+
+    private static class PoolWait {
+        private final PoolStats stats;
+        private volatile ConcurrentHistogram waitMicros = new ConcurrentHistogram();
+        private final LongAdder timeouts = new LongAdder();
+
+        private PoolWait(PoolStats stats) {
+            this.stats = stats;
+        }
+
+        private ConnectionPoolWaitReport report(String pool) {
+            ConcurrentHistogram histogram = waitMicros;
+            return new ConnectionPoolWaitReport(pool,
+                    stats.getMaxConnections(),
+                    stats.getActiveConnections(),
+                    stats.getIdleConnections(),
+                    stats.getPendingThreads(),
+                    histogram.count(),
+                    timeouts.sum(),
+                    RouteCostReport.Distribution.of(histogram));
+        }
+
+        private void reset() {
+            waitMicros = new ConcurrentHistogram();
+            timeouts.reset();
+        }
+    }
+
+    private record RecordingTracker(IMetricsTracker delegate, PoolWait pool) implements IMetricsTracker {
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            pool.waitMicros.record(elapsedAcquiredNanos / 1_000);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            delegate.recordConnectionTimeout();
+            pool.timeouts.increment();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
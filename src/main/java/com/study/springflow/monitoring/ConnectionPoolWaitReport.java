@@ -0,0 +1,22 @@
+package com.study.springflow.monitoring;
+
+/**
+ * 커넥션 풀 하나의 상태와 커넥션 획득 대기 시간 분포 (관리자 API 응답)
+ * @param pool 풀 이름 (예: "auth")
+ * @param maxConnections 최대 커넥션 수
+ * @param active 사용 중 커넥션 수
+ * @param idle 유휴 커넥션 수
+ * @param pending 커넥션을 기다리는 스레드 수
+ * @param acquisitions 커넥션 획득 횟수
+ * @param timeouts connectionTimeout 안에 커넥션을 얻지 못한 횟수
+ * @param waitMicros 커넥션 획득 대기 시간 (µs, total = 누적 대기 시간)
+ */
+public record ConnectionPoolWaitReport(String pool,
+                                       int maxConnections,
+                                       int active,
+                                       int idle,
+                                       int pending,
+                                       long acquisitions,
+                                       long timeouts,
+                                       RouteCostReport.Distribution waitMicros) {
+}
@@ -0,0 +1,83 @@
+package com.study.springflow.monitoring;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 처리 중인 요청 1건의 정보
+ * - LoggingFilter가 요청 시작 시 생성하고, 종료 시 finish() 호출
+ * - 처리 스레드와 시작 시각을 보관하여 샘플러가 오래 걸리는 요청의 스택을 수집할 수 있게 함
+ * - route는 핸들러 매핑 이후(InflightRouteInterceptor)에 URI 패턴으로 갱신됨
+ *   매핑되지 않은 요청(404 등)은 "METHOD (unmatched)"로 묶어 라우트 수가 URI 수만큼 늘어나지 않게 함
+ */
+@Getter
+public class InflightRequest {
+
+    /**
+     * 요청 속성 키 (인터셉터 등에서 현재 요청의 InflightRequest를 꺼낼 때 사용)
+     */
+    public static final String ATTRIBUTE = InflightRequest.class.getName();
+
+    private static final String UNMATCHED_ROUTE = "(unmatched)";
+
+    private final long id;
+    private final String method;
+    private final String uri;
+    private final Thread thread;
+    private final long startNanos;
+    private final Instant startedAt;
+
+    private volatile String route;
+    private volatile boolean finished;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger samples = new AtomicInteger();
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean reported = new AtomicBoolean();
+
+    InflightRequest(long id, String method, String uri, Thread thread) {
+        this.id = id;
+        this.method = method;
+        this.uri = uri;
+        this.thread = thread;
+        this.startNanos = System.nanoTime();
+        this.startedAt = Instant.now();
+        this.route = method + " " + UNMATCHED_ROUTE;
+    }
+
+    /**
+     * 매핑된 URI 패턴으로 라우트 이름 갱신 (예: "GET /api/members/{id}")
+     */
+    public void setRoutePattern(String pattern) {
+        this.route = method + " " + pattern;
+    }
+
+    public long elapsedMillis(long nowNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nowNanos - startNanos);
+    }
+
+    public int getSampleCount() {
+        return samples.get();
+    }
+
+    void finish() {
+        this.finished = true;
+    }
+
+    int incrementSamples() {
+        return samples.incrementAndGet();
+    }
+
+    /**
+     * 임계값 초과를 처음 감지한 경우에만 true (경고 로그를 요청당 한 번만 남기기 위함)
+     */
+    boolean markReported() {
+        return reported.compareAndSet(false, true);
+    }
+}
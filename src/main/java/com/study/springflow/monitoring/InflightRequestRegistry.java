@@ -0,0 +1,59 @@
+package com.study.springflow.monitoring;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 처리 중(in-flight)인 요청 레지스트리
+ * - LoggingFilter가 begin()/end()로 등록/해제
+ * - SlowRequestSampler가 주기적으로 조회하여 임계값을 넘긴 요청을 찾음
+ */
+@Component
+public class InflightRequestRegistry {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentHashMap<Long, InflightRequest> inflight = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 스레드에서 처리를 시작하는 요청 등록
+     */
+    public InflightRequest begin(String method, String uri) {
+        InflightRequest request = new InflightRequest(sequence.incrementAndGet(), method, uri, Thread.currentThread());
+        inflight.put(request.getId(), request);
+        return request;
+    }
+
+    /**
+     * 요청 처리 종료
+     */
+    public void end(InflightRequest request) {
+        request.finish();
+        inflight.remove(request.getId());
+    }
+
+    /**
+     * 시작 후 주어진 시간 이상 경과한 요청 목록
+     */
+    public List<InflightRequest> olderThan(long thresholdNanos, long nowNanos) {
+        List<InflightRequest> result = new ArrayList<>();
+        for (InflightRequest request : inflight.values()) {
+            if (nowNanos - request.getStartNanos() >= thresholdNanos) {
+                result.add(request);
+            }
+        }
+        return result;
+    }
+
+    public Collection<InflightRequest> snapshot() {
+        return List.copyOf(inflight.values());
+    }
+
+    public int size() {
+        return inflight.size();
+    }
+}
@@ -0,0 +1,45 @@
+package com.study.springflow.monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 2차 캐시 적중률 게이지
+ * - springflow.jpa.cache.hit.ratio{region=member | member-natural-id}: 누적 적중 / (적중 + 미스)
+ * - 원본 카운터(hibernate.second.level.cache.requests 등)는 hibernate-micrometer가 등록하고,
+ *   여기서는 대시보드에서 바로 볼 수 있도록 비율만 계산 (hibernate.generate_statistics 필요)
+ * - 2차 캐시가 꺼져 있거나 아직 요청이 없으면 NaN
+ */
+@Component
+public class MemberCacheMetrics {
+
+    private static final String[] REGIONS = {"member", "member-natural-id"};
+
+    public MemberCacheMetrics(MeterRegistry registry, EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : REGIONS) {
+            Gauge.builder("springflow.jpa.cache.hit.ratio", statistics, stats -> hitRatio(stats, region))
+                    .description("Hibernate 2차 캐시 영역별 적중률")
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        if (!statistics.isStatisticsEnabled()) {
+            return Double.NaN;
+        }
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        long hits = regionStatistics.getHitCount();
+        long requests = hits + regionStatistics.getMissCount();
+        return requests == 0 ? Double.NaN : (double) hits / requests;
+    }
+}
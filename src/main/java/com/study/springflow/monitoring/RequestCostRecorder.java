@@ -0,0 +1,111 @@
+package com.study.springflow.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 라우트별 CPU 시간 / 힙 할당량 집계기
+ * - LoggingFilter가 요청 시작/종료 시점에 현재 스레드의 CPU 시간과 누적 할당 바이트를 읽고 차이를 기록
+ * - 벽시계 시간(wall time)과 달리 대기 시간이 빠지므로 "어느 엔드포인트가 CPU와 GC를 쓰는지"를 직접 보여줌
+ *   (예: register/login은 BCrypt, /api/members/me는 Hibernate + Jackson 비용)
+ * - 라우트별 누적은 ConcurrentHistogram(락 없음)으로 처리
+ *
+ * 주의: 스레드 단위 측정이므로 비동기 처리(StreamingResponseBody 등)로 다른 스레드에서 쓴 비용은 포함되지 않음
+ */
+@Slf4j
+@Component
+public class RequestCostRecorder {
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final com.sun.management.ThreadMXBean allocationMXBean;
+    private final boolean cpuTimeEnabled;
+    private final boolean allocationEnabled;
+    private final ConcurrentHashMap<String, RouteCost> costsByRoute = new ConcurrentHashMap<>();
+
+    public RequestCostRecorder() {
+        this.cpuTimeEnabled = threadMXBean.isCurrentThreadCpuTimeSupported();
+        if (cpuTimeEnabled && !threadMXBean.isThreadCpuTimeEnabled()) {
+            threadMXBean.setThreadCpuTimeEnabled(true);
+        }
+
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean sunThreadMXBean
+                && sunThreadMXBean.isThreadAllocatedMemorySupported()) {
+            if (!sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            this.allocationMXBean = sunThreadMXBean;
+            this.allocationEnabled = true;
+        } else {
+            this.allocationMXBean = null;
+            this.allocationEnabled = false;
+        }
+
+        log.info("[RequestCostRecorder] 스레드 CPU 시간 측정: {}, 할당량 측정: {}", cpuTimeEnabled, allocationEnabled);
+    }
+
+    /**
+     * 현재 스레드의 누적 CPU 시간 (ns, 미지원 시 0, 가상 스레드에서는 -1)
+     */
+    public long currentThreadCpuNanos() {
+        return cpuTimeEnabled ? threadMXBean.getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * 현재 스레드가 지금까지 할당한 힙 바이트 (미지원 시 0, 가상 스레드에서는 -1)
+     */
+    public long currentThreadAllocatedBytes() {
+        return allocationEnabled ? allocationMXBean.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * 요청 시작 시점 값과의 차이를 라우트에 누적
+     */
+    public void record(String route, long startCpuNanos, long startAllocatedBytes) {
+        long endCpuNanos = currentThreadCpuNanos();
+        long endAllocatedBytes = currentThreadAllocatedBytes();
+
+        RouteCost cost = costsByRoute.get(route);
+        if (cost == null) {
+            cost = costsByRoute.computeIfAbsent(route, key -> new RouteCost());
+        }
+        cost.requests.increment();
+        // 가상 스레드에서는 -1이 반환됨 (캐리어 스레드를 옮겨 다니므로 스레드 단위 측정 불가) → 측정된 값만 누적
+        if (startCpuNanos >= 0 && endCpuNanos >= 0) {
+            cost.cpuMicros.record((endCpuNanos - startCpuNanos) / 1_000);
+        }
+        if (startAllocatedBytes >= 0 && endAllocatedBytes >= 0) {
+            cost.allocatedBytes.record(endAllocatedBytes - startAllocatedBytes);
+        }
+    }
+
+    /**
+     * 라우트별 비용 스냅샷 (총 CPU 시간 내림차순)
+     */
+    public List<RouteCostReport> report() {
+        return costsByRoute.entrySet().stream()
+                .map(entry -> new RouteCostReport(
+                        entry.getKey(),
+                        entry.getValue().requests.sum(),
+                        RouteCostReport.Distribution.of(entry.getValue().cpuMicros),
+                        RouteCostReport.Distribution.of(entry.getValue().allocatedBytes)))
+                .sorted(Comparator.comparingLong((RouteCostReport report) -> report.cpuMicros().total()).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        costsByRoute.clear();
+    }
+
+    private static class RouteCost {
+        private final LongAdder requests = new LongAdder();
+        private final ConcurrentHistogram cpuMicros = new ConcurrentHistogram();
+        private final ConcurrentHistogram allocatedBytes = new ConcurrentHistogram();
+    }
+}
@@ -0,0 +1,27 @@
+package com.study.springflow.monitoring;
+
+/**
+ * 라우트 하나의 요청당 비용 (관리자 API 응답)
+ * @param route 라우트 (예: "POST /api/auth/login")
+ * @param requests 집계된 요청 수
+ * @param cpuMicros 요청당 CPU 시간 (µs)
+ * @param allocatedBytes 요청당 힙 할당량 (bytes)
+ */
+public record RouteCostReport(String route,
+                              long requests,
+                              Distribution cpuMicros,
+                              Distribution allocatedBytes) {
+
+    public record Distribution(long total, double mean, long p50, long p90, long p99, long max) {
+
+        static Distribution of(ConcurrentHistogram histogram) {
+            return new Distribution(
+                    histogram.sum(),
+                    histogram.mean(),
+                    histogram.percentile(50),
+                    histogram.percentile(90),
+                    histogram.percentile(99),
+                    histogram.max());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.study.springflow.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 인증/보안 관련 커스텀 메트릭
+ * - 로그인 시도/성공/실패 카운터
+ * - JWT 검증 결과 카운터 (valid / expired / invalid)
+ * - BCrypt 연산 시간 타이머 (encode / matches)
+ *
+ * 모든 미터는 생성 시점에 한 번만 등록하고 필드로 보관합니다.
+ * (요청마다 registry 조회를 하지 않으므로 5초 주기 스크레이프에도 부담이 적음)
+ */
+@Component
+public class SecurityMetrics {
+
+    private final Counter loginAttempts;
+    private final Counter loginSuccesses;
+    private final Counter loginFailures;
+
+    private final Counter jwtValid;
+    private final Counter jwtExpired;
+    private final Counter jwtInvalid;
+
+    private final Timer bcryptEncode;
+    private final Timer bcryptMatches;
+
+    public SecurityMetrics(MeterRegistry registry) {
+        this.loginAttempts = Counter.builder("springflow.auth.login.attempts")
+                .description("로그인 시도 횟수")
+                .register(registry);
+        this.loginSuccesses = loginCounter(registry, "success");
+        this.loginFailures = loginCounter(registry, "failure");
+
+        this.jwtValid = jwtCounter(registry, "valid");
+        this.jwtExpired = jwtCounter(registry, "expired");
+        this.jwtInvalid = jwtCounter(registry, "invalid");
+
+        this.bcryptEncode = bcryptTimer(registry, "encode");
+        this.bcryptMatches = bcryptTimer(registry, "matches");
+    }
+
+    public void recordLoginAttempt() {
+        loginAttempts.increment();
+    }
+
+    public void recordLoginSuccess() {
+        loginSuccesses.increment();
+    }
+
+    public void recordLoginFailure() {
+        loginFailures.increment();
+    }
+
+    public void recordJwtValid() {
+        jwtValid.increment();
+    }
+
+    public void recordJwtExpired() {
+        jwtExpired.increment();
+    }
+
+    public void recordJwtInvalid() {
+        jwtInvalid.increment();
+    }
+
+    public <T> T timeBcryptEncode(Supplier<T> operation) {
+        return bcryptEncode.record(operation);
+    }
+
+    public <T> T timeBcryptMatches(Supplier<T> operation) {
+        return bcryptMatches.record(operation);
+    }
+
+    private static Counter loginCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("springflow.auth.login")
+                .description("로그인 결과")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static Counter jwtCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("springflow.auth.jwt.validations")
+                .description("JWT 토큰 검증 결과")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static Timer bcryptTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("springflow.auth.bcrypt")
+                .description("BCrypt 연산 소요 시간")
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
@@ -0,0 +1,27 @@
+package com.study.springflow.monitoring;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 느린 요청 탐지 결과 (관리자 API 응답)
+ * @param thresholdMs 느린 요청 판단 임계값
+ * @param sampleIntervalMs 스택 샘플링 주기
+ * @param inflight 현재 임계값을 넘겨 처리 중인 요청
+ * @param routes 라우트별 누적 스택
+ */
+public record SlowRequestReport(long thresholdMs,
+                                long sampleIntervalMs,
+                                List<InflightEntry> inflight,
+                                List<RouteEntry> routes) {
+
+    public record InflightEntry(String route, String uri, String thread, Instant startedAt,
+                                long elapsedMs, int samples) {
+    }
+
+    public record RouteEntry(String route, long samples, long droppedStacks, List<StackEntry> stacks) {
+    }
+
+    public record StackEntry(String stack, long count) {
+    }
+}
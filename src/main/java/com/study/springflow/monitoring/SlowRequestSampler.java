@@ -0,0 +1,242 @@
+package com.study.springflow.monitoring;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 느린/멈춘 요청 탐지기
+ * - 고정 주기로 InflightRequestRegistry를 조회하여 임계값을 넘긴 요청의 스레드 스택을 수집
+ * - 수집한 스택은 라우트별로 접어서(folded) "frame;frame;frame" → 샘플 수 형태로 누적
+ *   (flamegraph.pl / speedscope 에서 바로 읽을 수 있는 collapsed 포맷)
+ * - 프로파일러를 붙이지 않고도 H2 락 대기, 커넥션 풀 대기 등 꼬리 지연 원인을 확인하기 위한 용도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlowRequestSampler {
+
+    /**
+     * 스레드 ID 조회 (-PjavaVersion=17 | 21 양쪽에서 같은 소스로 빌드)
+     * - 19+: Thread.threadId() (getId()는 21에서 deprecated, 하위 클래스가 재정의할 수 있어 신뢰할 수 없음)
+     * - 17: threadId()가 없으므로 getId()
+     */
+    private static final MethodHandle THREAD_ID = threadIdHandle();
+
+    private final InflightRequestRegistry registry;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final ConcurrentHashMap<String, RouteStacks> stacksByRoute = new ConcurrentHashMap<>();
+
+    @Value("${springflow.monitoring.slow-request.threshold-ms:1000}")
+    private long thresholdMillis;
+
+    @Value("${springflow.monitoring.slow-request.sample-interval-ms:200}")
+    private long sampleIntervalMillis;
+
+    @Value("${springflow.monitoring.slow-request.max-depth:64}")
+    private int maxDepth;
+
+    @Value("${springflow.monitoring.slow-request.max-stacks-per-route:200}")
+    private int maxStacksPerRoute;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    protected void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "slow-request-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::sample, sampleIntervalMillis, sampleIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("[SlowRequestSampler] 샘플링 시작: 임계값 {}ms, 주기 {}ms", thresholdMillis, sampleIntervalMillis);
+    }
+
+    @PreDestroy
+    protected void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 임계값을 넘긴 요청들의 스택을 한 번에 수집하여 라우트별로 누적
+     */
+    void sample() {
+        try {
+            long now = System.nanoTime();
+            List<InflightRequest> slowRequests = registry.olderThan(TimeUnit.MILLISECONDS.toNanos(thresholdMillis), now);
+            if (slowRequests.isEmpty()) {
+                return;
+            }
+
+            long[] threadIds = new long[slowRequests.size()];
+            for (int i = 0; i < threadIds.length; i++) {
+                threadIds[i] = threadId(slowRequests.get(i).getThread());
+            }
+            ThreadInfo[] infos = threadMXBean.getThreadInfo(threadIds, maxDepth);
+
+            for (int i = 0; i < infos.length; i++) {
+                InflightRequest request = slowRequests.get(i);
+                // ThreadMXBean은 가상 스레드를 모르므로(null) Thread.getStackTrace()로 대신 수집
+                String stack = infos[i] != null ? fold(infos[i]) : fold(request.getThread());
+                // 스택을 뜨는 사이에 요청이 끝났다면 같은 스레드의 다른 요청 스택일 수 있으므로 버림
+                if (stack == null || request.isFinished()) {
+                    continue;
+                }
+                if (request.markReported()) {
+                    log.warn("[SlowRequestSampler] ⚠️ 느린 요청 감지: {} ({}), {}ms 경과, 스레드={}",
+                            request.getRoute(), request.getUri(), request.elapsedMillis(now), request.getThread().getName());
+                }
+                request.incrementSamples();
+                stacksByRoute.computeIfAbsent(request.getRoute(), route -> new RouteStacks())
+                        .add(stack, maxStacksPerRoute);
+            }
+        } catch (Throwable t) {
+            // 예외가 전파되면 스케줄러가 이후 실행을 중단하므로 여기서 삼킴
+            log.warn("[SlowRequestSampler] 샘플링 실패: {}", t.getMessage());
+        }
+    }
+
+    private static long threadId(Thread thread) {
+        try {
+            return (long) THREAD_ID.invokeExact(thread);
+        } catch (Throwable t) {
+            throw new IllegalStateException("스레드 ID 조회 실패", t);
+        }
+    }
+
+    private static MethodHandle threadIdHandle() {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        MethodType type = MethodType.methodType(long.class);
+        try {
+            return lookup.findVirtual(Thread.class, "threadId", type);
+        } catch (NoSuchMethodException e) {
+            try {
+                return lookup.findVirtual(Thread.class, "getId", type);
+            } catch (ReflectiveOperationException fallback) {
+                throw new ExceptionInInitializerError(fallback);
+            }
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * 스택을 루트 → 리프 순서의 collapsed 문자열로 변환
+     * - 마지막 프레임 뒤에 스레드 상태와 대기 중인 락을 덧붙여 락/풀 대기를 구분할 수 있게 함
+     */
+    private String fold(ThreadInfo info) {
+        StackTraceElement[] frames = info.getStackTrace();
+        StringBuilder folded = new StringBuilder(frames.length * 48);
+        for (int i = frames.length - 1; i >= 0; i--) {
+            folded.append(frames[i].getClassName()).append('.').append(frames[i].getMethodName()).append(';');
+        }
+        folded.append('[').append(info.getThreadState());
+        if (info.getLockName() != null) {
+            folded.append(" on ").append(info.getLockName());
+        }
+        return folded.append(']').toString();
+    }
+
+    /**
+     * 가상 스레드용 collapsed 변환 (락 정보 없음, 이미 종료된 스레드면 null)
+     */
+    private String fold(Thread thread) {
+        StackTraceElement[] frames = thread.getStackTrace();
+        if (frames.length == 0) {
+            return null;
+        }
+        int depth = Math.min(frames.length, maxDepth);
+        StringBuilder folded = new StringBuilder(depth * 48);
+        for (int i = depth - 1; i >= 0; i--) {
+            folded.append(frames[i].getClassName()).append('.').append(frames[i].getMethodName()).append(';');
+        }
+        return folded.append('[').append(thread.getState()).append(']').toString();
+    }
+
+    /**
+     * 현재 임계값을 넘긴 요청 + 라우트별 누적 스택 스냅샷
+     * @param topStacks 라우트별로 반환할 상위 스택 개수
+     */
+    public SlowRequestReport report(int topStacks) {
+        long now = System.nanoTime();
+        List<SlowRequestReport.InflightEntry> inflight = registry.olderThan(TimeUnit.MILLISECONDS.toNanos(thresholdMillis), now)
+                .stream()
+                .map(request -> new SlowRequestReport.InflightEntry(request.getRoute(), request.getUri(),
+                        request.getThread().getName(), request.getStartedAt(), request.elapsedMillis(now),
+                        request.getSampleCount()))
+                .sorted(Comparator.comparingLong(SlowRequestReport.InflightEntry::elapsedMs).reversed())
+                .toList();
+
+        List<SlowRequestReport.RouteEntry> routes = stacksByRoute.entrySet().stream()
+                .map(entry -> entry.getValue().toReport(entry.getKey(), topStacks))
+                .sorted(Comparator.comparingLong(SlowRequestReport.RouteEntry::samples).reversed())
+                .toList();
+
+        return new SlowRequestReport(thresholdMillis, sampleIntervalMillis, inflight, routes);
+    }
+
+    /**
+     * 전체 누적 스택을 "route;frame;...;frame count" 줄 단위 collapsed 포맷으로 반환
+     */
+    public String collapsed() {
+        StringBuilder out = new StringBuilder();
+        stacksByRoute.forEach((route, stacks) -> stacks.counts.forEach((stack, count) ->
+                out.append(route.replace(';', ':')).append(';').append(stack)
+                        .append(' ').append(count.sum()).append('\n')));
+        return out.toString();
+    }
+
+    public void reset() {
+        stacksByRoute.clear();
+    }
+
+    /**
+     * 라우트 하나의 누적 스택
+     * - 서로 다른 스택 종류는 maxStacks 개까지만 보관하고 이후 새로운 스택은 dropped로만 집계 (메모리 상한)
+     */
+    private static class RouteStacks {
+
+        private final ConcurrentHashMap<String, LongAdder> counts = new ConcurrentHashMap<>();
+        private final LongAdder samples = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        void add(String stack, int maxStacks) {
+            samples.increment();
+            LongAdder count = counts.get(stack);
+            if (count == null) {
+                if (counts.size() >= maxStacks) {
+                    dropped.increment();
+                    return;
+                }
+                count = counts.computeIfAbsent(stack, key -> new LongAdder());
+            }
+            count.increment();
+        }
+
+        SlowRequestReport.RouteEntry toReport(String route, int topStacks) {
+            List<SlowRequestReport.StackEntry> top = counts.entrySet().stream()
+                    .map(entry -> new SlowRequestReport.StackEntry(entry.getKey(), entry.getValue().sum()))
+                    .sorted(Comparator.comparingLong(SlowRequestReport.StackEntry::count).reversed())
+                    .limit(topStacks)
+                    .toList();
+            return new SlowRequestReport.RouteEntry(route, samples.sum(), dropped.sum(), top);
+        }
+    }
+}
\ No newline at end of file
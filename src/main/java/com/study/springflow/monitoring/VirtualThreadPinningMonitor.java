@@ -0,0 +1,157 @@
+package com.study.springflow.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 pinning 감시기
+ * - synchronized 블록/네이티브 프레임 안에서 블로킹되면 가상 스레드가 캐리어 스레드에서 내려오지 못함(pinning)
+ *   → 캐리어 수(기본 CPU 코어 수)만큼만 동시에 처리되어 가상 스레드의 이점이 사라짐
+ * - JFR 이벤트 스트림(jdk.VirtualThreadPinned)을 프로세스 안에서 구독하여 발생 스택별로 횟수/시간 누적
+ * - 메트릭: springflow.vthread.pinned (Timer)
+ * - spring.threads.virtual.enabled=true 이고 Java 21 이상에서 실행될 때만 동작 (그 외에는 빈 리포트)
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final ConcurrentHashMap<String, PinnedStack> stacks = new ConcurrentHashMap<>();
+    private final LongAdder events = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Timer pinnedTimer;
+    private final boolean enabled;
+
+    @Value("${springflow.monitoring.virtual-threads.pinned-threshold-ms:20}")
+    private long thresholdMillis;
+
+    @Value("${springflow.monitoring.virtual-threads.max-depth:64}")
+    private int maxDepth;
+
+    @Value("${springflow.monitoring.virtual-threads.max-stacks:200}")
+    private int maxStacks;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+        this.enabled = virtualThreadsEnabled && Runtime.version().feature() >= 21;
+        this.pinnedTimer = Timer.builder("springflow.vthread.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 채 블로킹된 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    protected void start() {
+        if (!enabled) {
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(thresholdMillis))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("[VirtualThreadPinningMonitor] pinning 감시 시작: 임계값 {}ms", thresholdMillis);
+    }
+
+    @PreDestroy
+    protected void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        events.increment();
+        pinnedTimer.record(duration);
+
+        String stack = fold(event.getStackTrace());
+        PinnedStack pinned = stacks.get(stack);
+        if (pinned == null) {
+            if (stacks.size() >= maxStacks) {
+                dropped.increment();
+                return;
+            }
+            pinned = stacks.computeIfAbsent(stack, key -> new PinnedStack());
+            log.warn("[VirtualThreadPinningMonitor] ⚠️ 새로운 pinning 스택 감지 ({}ms): {}", duration.toMillis(), stack);
+        }
+        pinned.record(duration.toNanos());
+    }
+
+    /**
+     * 스택을 루트 → 리프 순서의 collapsed 문자열로 변환 (SlowRequestSampler와 같은 포맷)
+     */
+    private String fold(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "[no stack]";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        int depth = Math.min(frames.size(), maxDepth);
+        StringBuilder folded = new StringBuilder(depth * 48);
+        for (int i = depth - 1; i >= 0; i--) {
+            RecordedFrame frame = frames.get(i);
+            folded.append(frame.getMethod().getType().getName()).append('.').append(frame.getMethod().getName());
+            if (i > 0) {
+                folded.append(';');
+            }
+        }
+        return folded.toString();
+    }
+
+    /**
+     * pinning 스택 스냅샷
+     * @param top 반환할 상위 스택 개수
+     */
+    public VirtualThreadPinningReport report(int top) {
+        List<VirtualThreadPinningReport.StackEntry> entries = stacks.entrySet().stream()
+                .map(entry -> entry.getValue().toEntry(entry.getKey()))
+                .sorted(Comparator.comparingLong(VirtualThreadPinningReport.StackEntry::totalMs).reversed())
+                .limit(top)
+                .toList();
+        return new VirtualThreadPinningReport(enabled, thresholdMillis, events.sum(), dropped.sum(), entries);
+    }
+
+    public void reset() {
+        stacks.clear();
+        events.reset();
+        dropped.reset();
+    }
+
+    private static class PinnedStack {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        VirtualThreadPinningReport.StackEntry toEntry(String stack) {
+            return new VirtualThreadPinningReport.StackEntry(stack, count.sum(),
+                    TimeUnit.NANOSECONDS.toMillis(totalNanos.sum()), TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+        }
+    }
+}
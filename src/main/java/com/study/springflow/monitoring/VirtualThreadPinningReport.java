@@ -0,0 +1,21 @@
+package com.study.springflow.monitoring;
+
+import java.util.List;
+
+/**
+ * 가상 스레드 pinning 이벤트 집계 (관리자 API 응답)
+ * @param enabled 감시 여부 (가상 스레드 모드 + Java 21 이상일 때만 true)
+ * @param thresholdMs 이 시간 이상 캐리어 스레드를 붙잡은 경우만 기록 (jdk.VirtualThreadPinned 임계값)
+ * @param events 누적 이벤트 수
+ * @param droppedEvents 스택 종류 상한을 넘겨 스택 없이 집계된 이벤트 수
+ * @param stacks pinning이 발생한 스택 (누적 시간 내림차순)
+ */
+public record VirtualThreadPinningReport(boolean enabled,
+                                         long thresholdMs,
+                                         long events,
+                                         long droppedEvents,
+                                         List<StackEntry> stacks) {
+
+    public record StackEntry(String stack, long count, long totalMs, long maxMs) {
+    }
+}
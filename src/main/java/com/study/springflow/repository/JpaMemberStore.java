@@ -0,0 +1,198 @@
+package com.study.springflow.repository;
+
+import com.study.springflow.entity.Member;
+import com.study.springflow.repository.projection.MemberDetail;
+import com.study.springflow.repository.projection.MemberExportRow;
+import com.study.springflow.repository.projection.MemberIdentity;
+import com.study.springflow.repository.projection.MemberKey;
+import com.study.springflow.repository.projection.MemberName;
+import com.study.springflow.repository.projection.MemberSummary;
+import com.study.springflow.repository.projection.MemberVersion;
+import com.study.springflow.service.DuplicateMemberException;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * JPA 회원 저장소 (sharded 프로필이 아닐 때)
+ * - 단건 조회는 2차 캐시 / natural-id 캐시를 거침
+ * - 변경 이벤트(MemberChangeEvent)는 엔티티 콜백(MemberEntityListener)이 발행
+ * - @Repository가 아닌 @Component: 예외 변환 프록시가 DuplicateMemberException(IllegalArgumentException)을
+ *   InvalidDataAccessApiUsageException으로 감싸지 않도록 (MemberRepository 호출은 이미 변환됨)
+ */
+@Component
+@Profile("!sharded")
+@RequiredArgsConstructor
+public class JpaMemberStore implements MemberStore {
+
+    private final MemberRepository memberRepository;
+
+    /**
+     * 회원 저장 (flush로 INSERT를 즉시 실행해 제약 위반을 여기서 받음)
+     * - 중복 확인용 사전 조회 없이 유니크 제약(username, 정규화된 email)이 중복을 막음
+     */
+    @Override
+    public Member insert(Member member) {
+        try {
+            return memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            throw toDuplicateException(member, e);
+        }
+    }
+
+    /**
+     * 유니크 제약 위반 → 중복 필드별 예외 (그 밖의 무결성 위반은 그대로 전파)
+     */
+    private static RuntimeException toDuplicateException(Member member, DataIntegrityViolationException e) {
+        String constraint = violatedConstraint(e).toLowerCase(Locale.ROOT);
+        if (constraint.contains(Member.UK_USERNAME)) {
+            return new DuplicateMemberException(DuplicateMemberException.Field.USERNAME,
+                    "이미 존재하는 사용자명입니다: " + member.getUsername(), e);
+        }
+        if (constraint.contains(Member.UK_EMAIL)) {
+            return new DuplicateMemberException(DuplicateMemberException.Field.EMAIL,
+                    "이미 사용 중인 이메일입니다: " + member.getEmail(), e);
+        }
+        return e;
+    }
+
+    // H2는 "PUBLIC.UK_MEMBERS_EMAIL_INDEX_8 ON ..."처럼 제약 이름 앞뒤에 정보를 붙이므로 포함 여부로 비교
+    private static String violatedConstraint(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName();
+            }
+        }
+        return "";
+    }
+
+    // 시퀀스 ID + hibernate.jdbc.batch_size로 INSERT가 배치 실행됨
+    @Override
+    public List<Member> insertAll(List<Member> members) {
+        List<Member> saved = memberRepository.saveAll(members);
+        memberRepository.flush();
+        return saved;
+    }
+
+    @Override
+    public Optional<Member> findById(Long id) {
+        return memberRepository.findById(id);
+    }
+
+    @Override
+    public Optional<Member> findByUsername(String username) {
+        return memberRepository.findByUsername(username);
+    }
+
+    @Override
+    public List<MemberDetail> findDetailsByRole(Member.MemberRole role) {
+        return memberRepository.findDetailsByRole(role);
+    }
+
+    @Override
+    public List<MemberVersion> findVersionsByRole(Member.MemberRole role) {
+        return memberRepository.findVersionsByRole(role);
+    }
+
+    // 역할 유무와 첫 페이지 여부에 따라 인덱스를 그대로 쓰는 쿼리 선택
+    @Override
+    public List<MemberSummary> findSummaries(Member.MemberRole role, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                             LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        if (cursorCreatedAt == null) {
+            return role == null ? memberRepository.findSummariesFirstPage(createdFrom, createdTo, Limit.of(limit))
+                    : memberRepository.findSummariesFirstPageByRole(role, createdFrom, createdTo, Limit.of(limit));
+        }
+        return role == null
+                ? memberRepository.findSummariesAfter(createdFrom, createdTo, cursorCreatedAt, cursorId, Limit.of(limit))
+                : memberRepository.findSummariesAfterByRole(role, createdFrom, createdTo, cursorCreatedAt, cursorId, Limit.of(limit));
+    }
+
+    @Override
+    public List<MemberName> searchByName(String keyword, int limit) {
+        return memberRepository.searchMembersByNameIgnoreCase(keyword, Limit.of(limit));
+    }
+
+    @Override
+    public Stream<MemberExportRow> streamAll() {
+        return memberRepository.streamAllForExport();
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return memberRepository.existsByUsername(username);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return memberRepository.existsByEmail(email);
+    }
+
+    @Override
+    public long count() {
+        return memberRepository.count();
+    }
+
+    @Override
+    public List<MemberIdentity> findIdentities(Collection<String> usernames, Collection<String> emails) {
+        return memberRepository.findIdentities(usernames, emails);
+    }
+
+    @Override
+    public List<Long> findIdsByFilter(Long afterId, Member.MemberRole role, LocalDateTime createdBefore,
+                                      LocalDateTime lastLoginBefore, int limit) {
+        return memberRepository.findIdsByFilter(afterId, role, createdBefore, lastLoginBefore, Limit.of(limit));
+    }
+
+    // 관리 상태 엔티티 변경 → 커밋 시 더티 체킹으로 UPDATE (변경 컬럼만, @DynamicUpdate)
+    @Override
+    public Optional<Member> updateLastLogin(Long id, LocalDateTime loginAt) {
+        return memberRepository.findById(id).map(member -> {
+            member.setLastLoginAt(loginAt);
+            return member;
+        });
+    }
+
+    @Override
+    public Member updatePassword(Member member) {
+        return memberRepository.save(member);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        memberRepository.deleteById(id);
+    }
+
+    // 대상 행을 잠그며 ID를 확정한 뒤 그 ID만 DELETE/UPDATE (조회와 DML 사이에 다른 트랜잭션이 끼어들지 못함)
+    @Override
+    public List<MemberKey> deleteByIdIn(Collection<Long> ids, String protectedUsername) {
+        List<MemberKey> targets = memberRepository.lockForDelete(ids, protectedUsername);
+        if (!targets.isEmpty()) {
+            memberRepository.deleteByIdIn(targets.stream().map(MemberKey::getId).toList(), protectedUsername);
+        }
+        return targets;
+    }
+
+    @Override
+    public List<Long> updateRoleByIdIn(Collection<Long> ids, Member.MemberRole newRole, String protectedUsername) {
+        List<Long> targets = memberRepository.lockIdsForRoleChange(ids, newRole, protectedUsername);
+        if (!targets.isEmpty()) {
+            memberRepository.updateRoleByIdIn(targets, newRole, protectedUsername);
+        }
+        return targets;
+    }
+
+    @Override
+    public boolean joinsTransaction() {
+        return true;
+    }
+}
@@ -0,0 +1,14 @@
+package com.study.springflow.repository;
+
+import com.study.springflow.entity.Member;
+
+import java.util.Optional;
+
+/**
+ * 사용자명(natural id) 조회 프래그먼트
+ * - MemberRepository의 메서드 이름 기반 findByUsername 쿼리를 대체
+ */
+public interface MemberNaturalIdRepository {
+
+    Optional<Member> findByUsername(String username);
+}
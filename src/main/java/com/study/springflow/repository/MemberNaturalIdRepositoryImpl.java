@@ -0,0 +1,29 @@
+package com.study.springflow.repository;
+
+import com.study.springflow.entity.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 사용자명 조회를 Hibernate natural-id API로 처리
+ * - JPQL(WHERE username = ?)은 매번 SQL을 실행하지만, natural-id 로드는
+ *   natural-id 캐시(username → id) → 2차 캐시(id → 엔티티) 순으로 찾고 둘 다 적중하면 SQL이 없음
+ * - 캐시 미스일 때만 id 조회 + 엔티티 조회 SQL을 실행하고 결과를 캐시에 적재
+ */
+public class MemberNaturalIdRepositoryImpl implements MemberNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Member> findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Member.class)
+                .loadOptional(username);
+    }
+}
@@ -1,16 +1,33 @@
 package com.study.springflow.repository;
 
 import com.study.springflow.entity.Member;
+import com.study.springflow.repository.projection.MemberDetail;
+import com.study.springflow.repository.projection.MemberExportRow;
+import com.study.springflow.repository.projection.MemberIdentity;
+import com.study.springflow.repository.projection.MemberKey;
+import com.study.springflow.repository.projection.MemberName;
+import com.study.springflow.repository.projection.MemberSummary;
+import com.study.springflow.repository.projection.MemberVersion;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberNaturalIdRepository {
 
     /**
      * 회원 리포지토리 인터페이스
@@ -18,12 +35,16 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      * - 메서드 이름 기반 쿼리, JPQL 쿼리 예시 포함
      */
 
-    // 사용자명으로 회원 찾기 (메서드 이름 기반 쿼리)
-    Optional<Member> findByUsername(String username);
+    // 사용자명으로 회원 찾기: MemberNaturalIdRepository(natural-id 캐시 경유)가 구현
 
     // 이메일로 회원 찾기
     Optional<Member> findByEmail(String email);
 
+    // 존재 여부만 확인 (엔티티 로딩 없이 한 행만 찾으면 종료)
+    boolean existsByUsername(String username);
+
+    boolean existsByEmail(String email);
+
     // 역할별 회원 목록 조회
     List<Member> findByRole(Member.MemberRole role);
 
@@ -31,8 +52,128 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("SELECT m FROM Member m WHERE m.role = :role ORDER BY m.createdAt DESC")
     List<Member> findMembersByRoleOrderByCreatedAtDesc(@Param("role") Member.MemberRole role);
 
-    // 네이티브 SQL 쿼리 사용 예시
-    @Query(value = "SELECT * FROM members WHERE LOWER(name) LIKE LOWER(CONCAT('%', :keyword, '%'))",
-            nativeQuery = true)
-    List<Member> searchMembersByNameIgnoreCase(@Param("keyword") String keyword);
+    // 응답용 읽기 모델 목록 조회 (생성자 표현식 → 엔티티/스냅샷 없이 필요한 컬럼만)
+    // 단건 조회는 2차 캐시에 적중하는 findById/findByUsername을 사용
+    // id 순 정렬: 목록 ETag를 findVersionsByRole 결과와 같은 순서로 계산
+    @Query("SELECT new com.study.springflow.repository.projection.MemberDetail(" +
+            "m.id, m.username, m.name, m.email, m.role, m.createdAt, m.lastLoginAt, m.version) " +
+            "FROM Member m WHERE m.role = :role ORDER BY m.id")
+    List<MemberDetail> findDetailsByRole(@Param("role") Member.MemberRole role);
+
+    // 목록 ETag 비교용 (id, version, lastLoginAt)만 조회
+    @Query("SELECT m.id AS id, m.version AS version, m.lastLoginAt AS lastLoginAt " +
+            "FROM Member m WHERE m.role = :role ORDER BY m.id")
+    List<MemberVersion> findVersionsByRole(@Param("role") Member.MemberRole role);
+
+    // 키셋(seek) 페이지네이션: (createdAt DESC, id DESC) 순서로 커서 위치 이후만 조회
+    // OFFSET 없이 정렬 키 비교로 시작 위치를 찾으므로 몇 번째 페이지든 비용이 같음
+    // - 역할 조건이 있는 쿼리와 없는 쿼리를 나눔: (:role IS NULL OR m.role = :role)은 인덱스 조건이 되지 못해
+    //   역할 지정 시에도 idx_members_role_created_at 대신 생성일 인덱스를 훑으며 역할을 걸러냄
+    // - 커서 조건은 m.createdAt <= :cursorCreatedAt을 따로 둠 (OR만 있으면 인덱스 탐색 시작점으로 쓰지 못해
+    //   최신 행부터 커서 위치까지 매번 다시 읽음)
+    // - 역할 쿼리의 ORDER BY m.role DESC: 값이 하나라 순서는 같지만, H2는 ORDER BY가 인덱스 컬럼 (role, createdAt, id)의
+    //   역방향과 그대로 맞아야 인덱스 순서로 읽고 limit에서 멈춤 (없으면 해당 역할 전체를 읽어 정렬)
+    @Query("SELECT m.id AS id, m.username AS username, m.name AS name, m.role AS role, m.createdAt AS createdAt " +
+            "FROM Member m " +
+            "WHERE m.createdAt >= :createdFrom AND m.createdAt < :createdTo " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<MemberSummary> findSummariesFirstPage(@Param("createdFrom") LocalDateTime createdFrom,
+                                               @Param("createdTo") LocalDateTime createdTo,
+                                               Limit limit);
+
+    @Query("SELECT m.id AS id, m.username AS username, m.name AS name, m.role AS role, m.createdAt AS createdAt " +
+            "FROM Member m " +
+            "WHERE m.role = :role " +
+            "AND m.createdAt >= :createdFrom AND m.createdAt < :createdTo " +
+            "ORDER BY m.role DESC, m.createdAt DESC, m.id DESC")
+    List<MemberSummary> findSummariesFirstPageByRole(@Param("role") Member.MemberRole role,
+                                                     @Param("createdFrom") LocalDateTime createdFrom,
+                                                     @Param("createdTo") LocalDateTime createdTo,
+                                                     Limit limit);
+
+    @Query("SELECT m.id AS id, m.username AS username, m.name AS name, m.role AS role, m.createdAt AS createdAt " +
+            "FROM Member m " +
+            "WHERE m.createdAt >= :createdFrom AND m.createdAt < :createdTo " +
+            "AND m.createdAt <= :cursorCreatedAt AND (m.createdAt < :cursorCreatedAt OR m.id < :cursorId) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<MemberSummary> findSummariesAfter(@Param("createdFrom") LocalDateTime createdFrom,
+                                           @Param("createdTo") LocalDateTime createdTo,
+                                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                           @Param("cursorId") Long cursorId,
+                                           Limit limit);
+
+    @Query("SELECT m.id AS id, m.username AS username, m.name AS name, m.role AS role, m.createdAt AS createdAt " +
+            "FROM Member m " +
+            "WHERE m.role = :role " +
+            "AND m.createdAt >= :createdFrom AND m.createdAt < :createdTo " +
+            "AND m.createdAt <= :cursorCreatedAt AND (m.createdAt < :cursorCreatedAt OR m.id < :cursorId) " +
+            "ORDER BY m.role DESC, m.createdAt DESC, m.id DESC")
+    List<MemberSummary> findSummariesAfterByRole(@Param("role") Member.MemberRole role,
+                                                 @Param("createdFrom") LocalDateTime createdFrom,
+                                                 @Param("createdTo") LocalDateTime createdTo,
+                                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Limit limit);
+
+    // 대량 등록 중복 확인: 사용자명 또는 이메일이 이미 있는 회원을 한 번에 조회
+    // OR로 묶으면 H2가 두 인덱스를 함께 쓰지 못해 전체 스캔 → 인덱스별 조회를 UNION으로 합침
+    @Query("SELECT m.username AS username, m.email AS email FROM Member m WHERE m.username IN :usernames " +
+            "UNION " +
+            "SELECT m.username AS username, m.email AS email FROM Member m WHERE m.email IN :emails")
+    List<MemberIdentity> findIdentities(@Param("usernames") Collection<String> usernames,
+                                        @Param("emails") Collection<String> emails);
+
+    // 일괄 처리 대상 ID 조회 (id 오름차순 키셋 → 청크 단위로 끝까지 순회)
+    @Query("SELECT m.id FROM Member m " +
+            "WHERE m.id > :afterId " +
+            "AND (:role IS NULL OR m.role = :role) " +
+            "AND (:createdBefore IS NULL OR m.createdAt < :createdBefore) " +
+            "AND (:lastLoginBefore IS NULL OR m.lastLoginAt IS NULL OR m.lastLoginAt < :lastLoginBefore) " +
+            "ORDER BY m.id")
+    List<Long> findIdsByFilter(@Param("afterId") Long afterId,
+                               @Param("role") Member.MemberRole role,
+                               @Param("createdBefore") LocalDateTime createdBefore,
+                               @Param("lastLoginBefore") LocalDateTime lastLoginBefore,
+                               Limit limit);
+
+    // 벌크 DML 대상 중 실제로 바뀔 행의 ID (행 잠금 → 같은 트랜잭션의 DML과 결과가 어긋나지 않음)
+    // 변경 이벤트에 요청한 ID 전체가 아닌 실제로 삭제/변경된 ID만 담기 위해 사용
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m.id AS id, m.username AS username, m.email AS email FROM Member m " +
+            "WHERE m.id IN :ids AND m.username <> :protectedUsername ORDER BY m.id")
+    List<MemberKey> lockForDelete(@Param("ids") Collection<Long> ids, @Param("protectedUsername") String protectedUsername);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m.id FROM Member m " +
+            "WHERE m.id IN :ids AND m.role <> :newRole AND m.username <> :protectedUsername ORDER BY m.id")
+    List<Long> lockIdsForRoleChange(@Param("ids") Collection<Long> ids,
+                                    @Param("newRole") Member.MemberRole newRole,
+                                    @Param("protectedUsername") String protectedUsername);
+
+    // 벌크 DML: 엔티티를 읽지 않고 문장 하나로 처리 (protectedUsername = 요청한 관리자 본인은 제외)
+    // clearAutomatically: 영속성 컨텍스트에 남아 있을 수 있는 이전 상태의 엔티티 제거
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Member m WHERE m.id IN :ids AND m.username <> :protectedUsername")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids, @Param("protectedUsername") String protectedUsername);
+
+    // 버전을 함께 올려야 ETag/낙관적 락이 변경을 인식함
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Member m SET m.role = :newRole, m.version = m.version + 1 " +
+            "WHERE m.id IN :ids AND m.role <> :newRole AND m.username <> :protectedUsername")
+    int updateRoleByIdIn(@Param("ids") Collection<Long> ids,
+                         @Param("newRole") Member.MemberRole newRole,
+                         @Param("protectedUsername") String protectedUsername);
+
+    // 전체 내보내기용 커서 조회 (트랜잭션 안에서 사용 후 반드시 close)
+    // fetch size: 드라이버가 한 번에 가져오는 행 수 (MySQL은 Integer.MIN_VALUE 또는 useCursorFetch 필요)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT m.id AS id, m.username AS username, m.name AS name, m.email AS email, m.role AS role, " +
+            "m.createdAt AS createdAt, m.lastLoginAt AS lastLoginAt FROM Member m ORDER BY m.id")
+    Stream<MemberExportRow> streamAllForExport();
+
+    // 이름 부분 일치 검색: ID + 이름만 조회하고 limit은 쿼리(FETCH FIRST)로 제한
+    // keyword는 LIKE 이스케이프된 값이어야 함 (\ 뒤의 %, _는 문자 그대로 비교)
+    @Query("SELECT m.id AS id, m.name AS name FROM Member m " +
+            "WHERE LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '\\' ORDER BY m.id")
+    List<MemberName> searchMembersByNameIgnoreCase(@Param("keyword") String keyword, Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.study.springflow.repository;
+
+import com.study.springflow.entity.Member;
+import com.study.springflow.repository.projection.MemberDetail;
+import com.study.springflow.repository.projection.MemberExportRow;
+import com.study.springflow.repository.projection.MemberIdentity;
+import com.study.springflow.repository.projection.MemberKey;
+import com.study.springflow.repository.projection.MemberName;
+import com.study.springflow.repository.projection.MemberSummary;
+import com.study.springflow.repository.projection.MemberVersion;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 회원 저장소 (MemberService / UserDetailsServiceImpl이 사용하는 읽기/쓰기 연산)
+ * - 기본: JpaMemberStore (JPA MemberRepository + 2차 캐시, 변경 이벤트는 엔티티 콜백이 발행)
+ * - sharded 프로필: ShardedMemberStore (해시 샤딩 JDBC 저장소, 변경 이벤트를 직접 발행)
+ * - 두 구현 모두 단건 변경(insert/updateLastLogin/updatePassword/deleteById)마다 MemberChangeEvent를 발행하고,
+ *   벌크 변경(deleteByIdIn/updateRoleByIdIn)의 이벤트는 호출 측이 발행
+ */
+public interface MemberStore {
+
+    /**
+     * 신규 회원 저장 (INSERT를 즉시 실행)
+     * @throws com.study.springflow.service.DuplicateMemberException 사용자명/이메일 중복
+     */
+    Member insert(Member member);
+
+    /**
+     * 여러 회원 저장 (중복 검증은 호출 측에서 끝낸 상태)
+     */
+    List<Member> insertAll(List<Member> members);
+
+    Optional<Member> findById(Long id);
+
+    Optional<Member> findByUsername(String username);
+
+    // 응답용 읽기 모델 (id 순 → findVersionsByRole과 같은 순서)
+    List<MemberDetail> findDetailsByRole(Member.MemberRole role);
+
+    // 목록 ETag 비교용 (id, version, lastLoginAt), id 순
+    List<MemberVersion> findVersionsByRole(Member.MemberRole role);
+
+    /**
+     * 키셋 페이지 (createdAt DESC, id DESC)
+     * @param role null이면 전체 역할
+     * @param cursorCreatedAt null이면 첫 페이지
+     */
+    List<MemberSummary> findSummaries(Member.MemberRole role, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                      LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+
+    /**
+     * 이름 부분 일치 검색 (대소문자 무시, id 순 최대 limit건)
+     * @param keyword LIKE 이스케이프된 검색어 (\ 뒤의 %, _는 문자 그대로 비교)
+     */
+    List<MemberName> searchByName(String keyword, int limit);
+
+    // 전체 회원 커서 스트림 (트랜잭션 안에서 사용 후 반드시 close)
+    Stream<MemberExportRow> streamAll();
+
+    boolean existsByUsername(String username);
+
+    boolean existsByEmail(String email);
+
+    long count();
+
+    // 사용자명 또는 이메일이 이미 있는 회원 (대량 등록 중복 확인)
+    List<MemberIdentity> findIdentities(Collection<String> usernames, Collection<String> emails);
+
+    // 일괄 처리 대상 ID (id 오름차순 키셋)
+    List<Long> findIdsByFilter(Long afterId, Member.MemberRole role, LocalDateTime createdBefore,
+                               LocalDateTime lastLoginBefore, int limit);
+
+    /**
+     * 마지막 로그인 시간 기록
+     * @return 갱신된 회원 (없으면 empty)
+     */
+    Optional<Member> updateLastLogin(Long id, LocalDateTime loginAt);
+
+    /**
+     * 비밀번호 변경 (조회한 버전과 다르면 OptimisticLockingFailureException)
+     */
+    Member updatePassword(Member member);
+
+    void deleteById(Long id);
+
+    /**
+     * 회원 일괄 삭제 (protectedUsername은 제외)
+     * @return 실제로 삭제된 회원의 ID/사용자명/이메일 (없는 ID와 제외된 회원은 빠짐)
+     */
+    List<MemberKey> deleteByIdIn(Collection<Long> ids, String protectedUsername);
+
+    /**
+     * 회원 역할 일괄 변경 (버전도 함께 증가, protectedUsername과 이미 같은 역할인 회원은 제외)
+     * @return 실제로 변경된 회원 ID
+     */
+    List<Long> updateRoleByIdIn(Collection<Long> ids, Member.MemberRole newRole, String protectedUsername);
+
+    /**
+     * 쓰기가 호출 측의 스프링 트랜잭션과 함께 롤백되는지 여부
+     * - 샤딩 저장소는 샤드 DB가 트랜잭션에 참여하지 않으므로 false
+     */
+    boolean joinsTransaction();
+}
@@ -0,0 +1,30 @@
+package com.study.springflow.repository.projection;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.study.springflow.entity.Member;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 상세 읽기 모델 (응답용, 비밀번호 해시 제외)
+ * - 목록: JPQL 생성자 표현식으로 필요한 컬럼만 SELECT → 영속성 컨텍스트 등록/스냅샷/더티 체킹 없음
+ * - 단건: 2차 캐시에 적중하는 엔티티 조회 결과를 읽기 전용 트랜잭션 안에서 변환 ({@link #from(Member)})
+ * - version은 ETag 계산용으로만 쓰고 응답 본문에는 포함하지 않음
+ */
+public record MemberDetail(Long id,
+                           String username,
+                           String name,
+                           String email,
+                           Member.MemberRole role,
+                           LocalDateTime createdAt,
+                           LocalDateTime lastLoginAt,
+                           @JsonIgnore Long version) {
+
+    /**
+     * 방금 저장한 엔티티처럼 이미 메모리에 있는 회원을 응답으로 변환
+     */
+    public static MemberDetail from(Member member) {
+        return new MemberDetail(member.getId(), member.getUsername(), member.getName(), member.getEmail(),
+                member.getRole(), member.getCreatedAt(), member.getLastLoginAt(), member.getVersion());
+    }
+}
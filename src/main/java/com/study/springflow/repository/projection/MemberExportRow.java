@@ -0,0 +1,27 @@
+package com.study.springflow.repository.projection;
+
+import com.study.springflow.entity.Member;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 내보내기용 인터페이스 프로젝션
+ * - 비밀번호를 제외한 컬럼만 조회
+ * - 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않음 → 행 수와 무관하게 힙 사용량 일정
+ */
+public interface MemberExportRow {
+
+    Long getId();
+
+    String getUsername();
+
+    String getName();
+
+    String getEmail();
+
+    Member.MemberRole getRole();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getLastLoginAt();
+}
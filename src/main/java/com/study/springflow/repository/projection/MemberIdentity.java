@@ -0,0 +1,12 @@
+package com.study.springflow.repository.projection;
+
+/**
+ * 사용자명 + 이메일만 담는 인터페이스 프로젝션
+ * - 대량 등록 시 중복 여부를 IN 쿼리 한 번으로 확인하는 용도
+ */
+public interface MemberIdentity {
+
+    String getUsername();
+
+    String getEmail();
+}
@@ -0,0 +1,14 @@
+package com.study.springflow.repository.projection;
+
+/**
+ * 회원 ID + 사용자명 + 이메일만 담는 인터페이스 프로젝션
+ * - 일괄 삭제 대상을 확정할 때 함께 읽어, 키로 찾는 메모리 인덱스(자동완성 등)가 ID만으로 역조회하지 않게 함
+ */
+public interface MemberKey {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+}
@@ -0,0 +1,12 @@
+package com.study.springflow.repository.projection;
+
+/**
+ * ID + 이름만 담는 인터페이스 프로젝션
+ * - 이름 검색 결과처럼 엔티티 전체(비밀번호 등)가 필요 없는 목록 조회용
+ */
+public interface MemberName {
+
+    Long getId();
+
+    String getName();
+}
@@ -0,0 +1,23 @@
+package com.study.springflow.repository.projection;
+
+import com.study.springflow.entity.Member;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 목록용 인터페이스 프로젝션
+ * - 목록에 필요한 컬럼만 SELECT (비밀번호/이메일 등은 읽지 않음)
+ * - 영속성 컨텍스트에 엔티티를 올리지 않으므로 더티 체킹/스냅샷 비용 없음
+ */
+public interface MemberSummary {
+
+    Long getId();
+
+    String getUsername();
+
+    String getName();
+
+    Member.MemberRole getRole();
+
+    LocalDateTime getCreatedAt();
+}
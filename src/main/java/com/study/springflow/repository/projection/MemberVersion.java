@@ -0,0 +1,17 @@
+package com.study.springflow.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 ID + 버전 + 마지막 로그인 시간만 담는 인터페이스 프로젝션
+ * - 조건부 GET(ETag) 판단용으로 엔티티 전체를 읽지 않고 세 컬럼만 조회
+ * - lastLoginAt은 낙관적 락에서 제외되어 버전을 올리지 않으므로 따로 포함
+ */
+public interface MemberVersion {
+
+    Long getId();
+
+    Long getVersion();
+
+    LocalDateTime getLastLoginAt();
+}
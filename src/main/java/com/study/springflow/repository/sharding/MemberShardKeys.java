@@ -0,0 +1,38 @@
+package com.study.springflow.repository.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * 샤드 키 규칙
+ * - 회원 ID = (샤드 로컬 시퀀스 << 10) | 샤드 번호 → ID만 보고 샤드를 찾음 (디렉터리 조회 불필요)
+ * - 샤드마다 자기 시퀀스로 ID를 만들므로 샤드 간 조정 없이도 전역에서 유일
+ * - 신규 회원의 배치 샤드는 사용자명 해시로 결정 (사용자명 → 샤드는 디렉터리에 기록)
+ */
+public final class MemberShardKeys {
+
+    static final int SHARD_BITS = 10;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+    private static final long SHARD_MASK = MAX_SHARDS - 1;
+
+    private MemberShardKeys() {
+    }
+
+    public static long composeId(long sequence, int shard) {
+        return (sequence << SHARD_BITS) | shard;
+    }
+
+    public static int shardOf(long id) {
+        return (int) (id & SHARD_MASK);
+    }
+
+    /**
+     * 사용자명 해시 기반 배치 샤드
+     * - String.hashCode는 비슷한 문자열("user1", "user2")이 연속된 값이 되어 mod 분포가 치우치므로 CRC32 사용
+     */
+    public static int placementShard(String username, int shardCount) {
+        CRC32 crc = new CRC32();
+        crc.update(username.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % shardCount);
+    }
+}
@@ -0,0 +1,588 @@
+package com.study.springflow.repository.sharding;
+
+import com.study.springflow.entity.Member;
+import com.study.springflow.repository.projection.MemberExportRow;
+import com.study.springflow.repository.projection.MemberIdentity;
+import com.study.springflow.repository.projection.MemberKey;
+import com.study.springflow.repository.projection.MemberName;
+import com.study.springflow.repository.projection.MemberSummary;
+import com.study.springflow.repository.projection.MemberVersion;
+import com.study.springflow.service.DuplicateMemberException;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 해시 샤딩 회원 저장소 (sharded 프로필)
+ * - 회원 행은 N개 샤드 DB 중 하나에 저장, 어느 샤드인지는 ID 하위 비트에 포함 ({@link MemberShardKeys})
+ * - 디렉터리 DB의 member_shard_directory가 사용자명 → 샤드를 기록하고 사용자명/이메일 전역 유일성을 보장
+ *   (샤드별 유니크 제약은 같은 샤드 안에서만 유효하므로)
+ * - ID 조회 / 사용자명 조회는 샤드 하나만 접근, 역할/이름/목록 조회는 모든 샤드에 병렬로 보낸 뒤 합침(scatter-gather)
+ * - 디렉터리와 샤드에 걸친 트랜잭션이 없으므로 디렉터리 행은 pending 상태로 먼저 기록하고
+ *   샤드 쓰기가 끝난 뒤 확정 → 중간에 프로세스가 죽어 남은 pending 행은 {@link #reconcileDirectory()}가 정리
+ */
+@Slf4j
+public class ShardedMemberRepository implements AutoCloseable {
+
+    static final String UK_DIRECTORY_USERNAME = "uk_member_shard_directory_username";
+    static final String UK_DIRECTORY_EMAIL = "uk_member_shard_directory_email";
+
+    // 진행 중인 쓰기와 구분하기 위한 여유 시간 (이보다 오래된 pending 행만 정리 대상)
+    static final Duration PENDING_TIMEOUT = Duration.ofMinutes(1);
+
+    private static final String COLUMNS = "id, username, password, name, email, role, created_at, last_login_at, version";
+
+    private static final RowMapper<Member> MEMBER_ROW_MAPPER = (rs, rowNum) -> Member.builder()
+            .id(rs.getLong("id"))
+            .username(rs.getString("username"))
+            .password(rs.getString("password"))
+            .name(rs.getString("name"))
+            .email(rs.getString("email"))
+            .role(Member.MemberRole.valueOf(rs.getString("role")))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .lastLoginAt(toLocalDateTime(rs.getTimestamp("last_login_at")))
+            .version(rs.getLong("version"))
+            .build();
+
+    // 목록 응답 컬럼만 (비밀번호/이메일은 읽지 않음)
+    private static final RowMapper<MemberSummary> SUMMARY_ROW_MAPPER = (rs, rowNum) -> new Summary(
+            rs.getLong("id"), rs.getString("username"), rs.getString("name"),
+            Member.MemberRole.valueOf(rs.getString("role")), toLocalDateTime(rs.getTimestamp("created_at")));
+
+    private static final Comparator<MemberSummary> SUMMARY_NEWEST_FIRST = Comparator.comparing(MemberSummary::getCreatedAt)
+            .thenComparing(MemberSummary::getId).reversed();
+
+    private static final Comparator<Member> NEWEST_FIRST = Comparator.comparing(Member::getCreatedAt)
+            .thenComparing(Member::getId).reversed();
+
+    private final JdbcTemplate directory;
+    private final List<? extends DataSource> shardDataSources;
+    private final List<JdbcTemplate> shards;
+    private final ExecutorService scatterExecutor;
+
+    public ShardedMemberRepository(DataSource directory, List<? extends DataSource> shards) {
+        if (shards.isEmpty() || shards.size() > MemberShardKeys.MAX_SHARDS) {
+            throw new IllegalArgumentException("샤드 수는 1 ~ " + MemberShardKeys.MAX_SHARDS + "개여야 합니다: " + shards.size());
+        }
+        this.directory = new JdbcTemplate(directory);
+        this.shardDataSources = List.copyOf(shards);
+        this.shards = shards.stream().map(JdbcTemplate::new).toList();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.scatterExecutor = Executors.newFixedThreadPool(shards.size(), runnable -> {
+            Thread thread = new Thread(runnable, "member-shard-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 디렉터리/샤드 테이블 생성 (이미 있으면 유지) 후 이전 실행에서 남은 pending 디렉터리 행 정리
+     */
+    public void initializeSchema() {
+        directory.execute("CREATE TABLE IF NOT EXISTS member_shard_directory (" +
+                "username VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL, shard_id INT NOT NULL, " +
+                "pending BOOLEAN NOT NULL, reserved_at TIMESTAMP NOT NULL, " +
+                "CONSTRAINT " + UK_DIRECTORY_USERNAME + " UNIQUE (username), " +
+                "CONSTRAINT " + UK_DIRECTORY_EMAIL + " UNIQUE (email))");
+        for (JdbcTemplate shard : shards) {
+            shard.execute("CREATE SEQUENCE IF NOT EXISTS members_shard_seq");
+            shard.execute("CREATE TABLE IF NOT EXISTS members (" +
+                    "id BIGINT PRIMARY KEY, username VARCHAR(255) NOT NULL UNIQUE, password VARCHAR(255) NOT NULL, " +
+                    "name VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL, role VARCHAR(20) NOT NULL, " +
+                    "created_at TIMESTAMP NOT NULL, last_login_at TIMESTAMP, version BIGINT NOT NULL)");
+            shard.execute("CREATE INDEX IF NOT EXISTS idx_members_created_at_id ON members (created_at, id)");
+            shard.execute("CREATE INDEX IF NOT EXISTS idx_members_role_created_at ON members (role, created_at, id)");
+        }
+        log.info("[ShardedMemberRepository] 스키마 준비 완료: 샤드 {}개", shards.size());
+        reconcileDirectory();
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    /**
+     * 신규 회원 저장
+     * - 디렉터리에 pending으로 먼저 등록해 사용자명/이메일 중복을 전역에서 거름 → 배치 샤드에서 ID 발급 후 INSERT → 확정
+     * - 샤드 INSERT가 실패하면 디렉터리 등록을 되돌림, 되돌리기 전에 프로세스가 죽으면 pending 행으로 남아 정리 대상이 됨
+     * - 충돌한 디렉터리 행이 오래된 pending(중단된 가입)이면 정리 후 한 번 더 시도
+     */
+    public Member save(Member member) {
+        member.setEmail(Member.normalizeEmail(member.getEmail()));
+        if (member.getCreatedAt() == null) {
+            member.setCreatedAt(LocalDateTime.now());
+        }
+        int shardIndex = MemberShardKeys.placementShard(member.getUsername(), shards.size());
+        reserve(member, shardIndex);
+
+        JdbcTemplate shard = shards.get(shardIndex);
+        try {
+            Long sequence = shard.queryForObject("SELECT NEXT VALUE FOR members_shard_seq", Long.class);
+            long id = MemberShardKeys.composeId(sequence, shardIndex);
+            shard.update("INSERT INTO members (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)",
+                    id, member.getUsername(), member.getPassword(), member.getName(), member.getEmail(),
+                    member.getRole().name(), Timestamp.valueOf(member.getCreatedAt()),
+                    member.getLastLoginAt() == null ? null : Timestamp.valueOf(member.getLastLoginAt()));
+            member.setId(id);
+            member.setVersion(0L);
+        } catch (DataAccessException e) {
+            directory.update("DELETE FROM member_shard_directory WHERE username = ?", member.getUsername());
+            throw e;
+        }
+        directory.update("UPDATE member_shard_directory SET pending = FALSE WHERE username = ?", member.getUsername());
+        return member;
+    }
+
+    private void reserve(Member member, int shardIndex) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                directory.update("INSERT INTO member_shard_directory (username, email, shard_id, pending, reserved_at) " +
+                                "VALUES (?, ?, ?, TRUE, ?)",
+                        member.getUsername(), member.getEmail(), shardIndex, Timestamp.valueOf(LocalDateTime.now()));
+                return;
+            } catch (DuplicateKeyException e) {
+                if (attempt > 0 || reconcile("(username = ? OR email = ?)", member.getUsername(), member.getEmail()) == 0) {
+                    throw toDuplicateException(member, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 여러 회원 저장 (한 건이라도 실패하면 이번 호출에서 저장한 회원을 지우고 예외 전달)
+     */
+    public List<Member> saveAll(List<Member> members) {
+        List<Member> saved = new ArrayList<>(members.size());
+        try {
+            for (Member member : members) {
+                saved.add(save(member));
+            }
+            return saved;
+        } catch (RuntimeException e) {
+            saved.forEach(member -> deleteById(member.getId()));
+            throw e;
+        }
+    }
+
+    public Optional<Member> findById(Long id) {
+        return shardOf(id).flatMap(shard -> shard
+                .query("SELECT " + COLUMNS + " FROM members WHERE id = ?", MEMBER_ROW_MAPPER, id)
+                .stream().findFirst());
+    }
+
+    public Optional<Member> findByUsername(String username) {
+        List<Integer> shardIds = directory.queryForList(
+                "SELECT shard_id FROM member_shard_directory WHERE username = ?", Integer.class, username);
+        if (shardIds.isEmpty()) {
+            return Optional.empty();
+        }
+        return shards.get(shardIds.get(0))
+                .query("SELECT " + COLUMNS + " FROM members WHERE username = ?", MEMBER_ROW_MAPPER, username)
+                .stream().findFirst();
+    }
+
+    // 가입 진행 중(pending)인 이름도 사용 중으로 취급
+    public boolean existsByUsername(String username) {
+        return !directory.queryForList("SELECT 1 FROM member_shard_directory WHERE username = ?",
+                Integer.class, username).isEmpty();
+    }
+
+    public boolean existsByEmail(String email) {
+        return !directory.queryForList("SELECT 1 FROM member_shard_directory WHERE email = ?",
+                Integer.class, email).isEmpty();
+    }
+
+    /**
+     * 사용자명 또는 이메일이 이미 등록된 회원 (대량 등록 중복 확인, 디렉터리만 조회)
+     */
+    public List<MemberIdentity> findIdentities(Collection<String> usernames, Collection<String> emails) {
+        if (usernames.isEmpty() && emails.isEmpty()) {
+            return List.of();
+        }
+        List<Object> args = new ArrayList<>(usernames);
+        args.addAll(emails);
+        return directory.query("SELECT username, email FROM member_shard_directory " +
+                        "WHERE username IN (" + placeholders(usernames.size()) + ") " +
+                        "OR email IN (" + placeholders(emails.size()) + ")",
+                (rs, rowNum) -> new Identity(rs.getString("username"), rs.getString("email")), args.toArray());
+    }
+
+    /**
+     * 역할별 회원 (모든 샤드 병렬 조회 후 최신순 병합)
+     */
+    public List<Member> findByRole(Member.MemberRole role) {
+        List<Member> members = scatter(shard -> shard.query(
+                "SELECT " + COLUMNS + " FROM members WHERE role = ?", MEMBER_ROW_MAPPER, role.name()));
+        members.sort(NEWEST_FIRST);
+        return members;
+    }
+
+    /**
+     * 역할별 (id, version, lastLoginAt) (목록 ETag 계산용, id 순)
+     */
+    public List<MemberVersion> findVersionsByRole(Member.MemberRole role) {
+        List<MemberVersion> versions = scatter(shard -> shard.query(
+                "SELECT id, version, last_login_at FROM members WHERE role = ?",
+                (rs, rowNum) -> new Version(rs.getLong("id"), rs.getLong("version"),
+                        toLocalDateTime(rs.getTimestamp("last_login_at"))),
+                role.name()));
+        versions.sort(Comparator.comparing(MemberVersion::getId));
+        return versions;
+    }
+
+    /**
+     * 키셋 페이지 (createdAt DESC, id DESC)
+     * - 샤드마다 커서 이후 limit건을 받아 병합한 뒤 다시 limit건만 남김 (전역 상위 limit건은 각 샤드 상위 limit건 안에 있음)
+     * @param cursorCreatedAt null이면 첫 페이지
+     */
+    public List<MemberSummary> findSummaries(Member.MemberRole role, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                             LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT id, username, name, role, created_at FROM members " +
+                "WHERE created_at >= ? AND created_at < ?");
+        List<Object> args = new ArrayList<>(List.of(Timestamp.valueOf(createdFrom), Timestamp.valueOf(createdTo)));
+        if (role != null) {
+            sql.append(" AND role = ?");
+            args.add(role.name());
+        }
+        if (cursorCreatedAt != null) {
+            // created_at <= ?를 따로 두어 인덱스 탐색 시작점으로 사용 (MemberRepository.findSummariesAfter와 같은 형태)
+            sql.append(" AND created_at <= ? AND (created_at < ? OR id < ?)");
+            args.addAll(List.of(Timestamp.valueOf(cursorCreatedAt), Timestamp.valueOf(cursorCreatedAt), cursorId));
+        }
+        // 역할 지정 시 role DESC를 앞에 둬야 (role, created_at, id) 인덱스를 역방향으로 읽고 limit에서 멈춤
+        sql.append(role != null ? " ORDER BY role DESC, created_at DESC, id DESC LIMIT ?" : " ORDER BY created_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+
+        List<MemberSummary> summaries = scatter(shard -> shard.query(sql.toString(), SUMMARY_ROW_MAPPER, args.toArray()));
+        return summaries.stream().sorted(SUMMARY_NEWEST_FIRST).limit(limit).toList();
+    }
+
+    /**
+     * 이름 부분 일치 검색 (대소문자 무시, 모든 샤드 병렬 조회 후 ID순 병합, 최대 limit건)
+     * - keyword는 LIKE 이스케이프된 값 (\ 뒤의 %, _는 문자 그대로 비교)
+     */
+    public List<MemberName> searchByName(String keyword, int limit) {
+        String pattern = "%" + keyword.toLowerCase(Locale.ROOT) + "%";
+        List<MemberName> names = scatter(shard -> shard.query(
+                "SELECT id, name FROM members WHERE LOWER(name) LIKE ? ESCAPE '\\' ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new Name(rs.getLong("id"), rs.getString("name")), pattern, limit));
+        return names.stream().sorted(Comparator.comparing(MemberName::getId)).limit(limit).toList();
+    }
+
+    /**
+     * 일괄 처리 대상 ID (id 오름차순 키셋, 샤드별 limit건을 병합한 뒤 limit건)
+     */
+    public List<Long> findIdsByFilter(Long afterId, Member.MemberRole role, LocalDateTime createdBefore,
+                                      LocalDateTime lastLoginBefore, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT id FROM members WHERE id > ?");
+        List<Object> args = new ArrayList<>(List.of(afterId));
+        if (role != null) {
+            sql.append(" AND role = ?");
+            args.add(role.name());
+        }
+        if (createdBefore != null) {
+            sql.append(" AND created_at < ?");
+            args.add(Timestamp.valueOf(createdBefore));
+        }
+        if (lastLoginBefore != null) {
+            sql.append(" AND (last_login_at IS NULL OR last_login_at < ?)");
+            args.add(Timestamp.valueOf(lastLoginBefore));
+        }
+        sql.append(" ORDER BY id LIMIT ?");
+        args.add(limit);
+
+        List<Long> ids = scatter(shard -> shard.queryForList(sql.toString(), Long.class, args.toArray()));
+        return ids.stream().sorted().limit(limit).toList();
+    }
+
+    /**
+     * 전체 회원을 샤드 순서대로 한 행씩 읽는 스트림 (샤드 안에서는 id 순, 사용 후 반드시 close)
+     * - 샤드마다 커서 하나를 열어 이어 붙임 → 행 수와 무관하게 힙 사용량 일정
+     */
+    public Stream<MemberExportRow> streamAll() {
+        return shards.stream()
+                .map(shard -> shard.queryForStream("SELECT " + COLUMNS + " FROM members ORDER BY id", MEMBER_ROW_MAPPER))
+                .reduce(Stream::concat)
+                .orElseGet(Stream::empty)
+                .map(ExportRow::of);
+    }
+
+    /**
+     * 마지막 로그인 시간 기록 (JPA 매핑과 같이 버전은 올리지 않음)
+     */
+    public Optional<Member> updateLastLogin(Long id, LocalDateTime loginAt) {
+        int updated = shardOf(id)
+                .map(shard -> shard.update("UPDATE members SET last_login_at = ? WHERE id = ?", Timestamp.valueOf(loginAt), id))
+                .orElse(0);
+        return updated == 0 ? Optional.empty() : findById(id);
+    }
+
+    /**
+     * 비밀번호 변경 (조회한 버전과 같을 때만 반영하고 버전 증가)
+     */
+    public Member updatePassword(Member member) {
+        int updated = shardOf(member.getId())
+                .map(shard -> shard.update("UPDATE members SET password = ?, version = version + 1 WHERE id = ? AND version = ?",
+                        member.getPassword(), member.getId(), member.getVersion()))
+                .orElse(0);
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException("회원이 변경되었거나 삭제되었습니다: " + member.getId());
+        }
+        member.setVersion(member.getVersion() + 1);
+        return member;
+    }
+
+    /**
+     * 회원 삭제 (디렉터리 행을 pending으로 바꾼 뒤 샤드 행 → 디렉터리 행 순으로 삭제)
+     * @return 삭제된 회원
+     */
+    public Optional<Member> deleteById(Long id) {
+        Optional<Member> member = findById(id);
+        member.ifPresent(found -> delete(shards.get(MemberShardKeys.shardOf(id)), List.of(found.getUsername())));
+        return member;
+    }
+
+    /**
+     * 회원 일괄 삭제 (샤드별로 묶어 처리, protectedUsername은 제외)
+     * @return 삭제된 회원의 ID/사용자명/이메일
+     */
+    public List<MemberKey> deleteByIdIn(Collection<Long> ids, String protectedUsername) {
+        List<MemberKey> deleted = new ArrayList<>();
+        for (Map.Entry<Integer, List<Long>> entry : groupByShard(ids).entrySet()) {
+            JdbcTemplate shard = shards.get(entry.getKey());
+            List<Object> args = new ArrayList<>(entry.getValue());
+            args.add(protectedUsername);
+            List<MemberKey> targets = shard.query("SELECT id, username, email FROM members WHERE id IN (" +
+                            placeholders(entry.getValue().size()) + ") AND username <> ? ORDER BY id",
+                    (rs, rowNum) -> new Key(rs.getLong("id"), rs.getString("username"), rs.getString("email")),
+                    args.toArray());
+            delete(shard, targets.stream().map(MemberKey::getUsername).toList());
+            deleted.addAll(targets);
+        }
+        return deleted;
+    }
+
+    private int delete(JdbcTemplate shard, List<String> usernames) {
+        if (usernames.isEmpty()) {
+            return 0;
+        }
+        String in = placeholders(usernames.size());
+        Object[] args = usernames.toArray();
+        directory.update("UPDATE member_shard_directory SET pending = TRUE, reserved_at = ? WHERE username IN (" + in + ")",
+                Stream.concat(Stream.of(Timestamp.valueOf(LocalDateTime.now())), usernames.stream()).toArray());
+        int deleted = shard.update("DELETE FROM members WHERE username IN (" + in + ")", args);
+        directory.update("DELETE FROM member_shard_directory WHERE username IN (" + in + ")", args);
+        return deleted;
+    }
+
+    /**
+     * 회원 역할 일괄 변경 (샤드별로 묶어 처리, 버전도 함께 증가)
+     * - 샤드 DB는 스프링 트랜잭션에 참여하지 않으므로 대상 ID 조회 → UPDATE 사이에 동시 변경이 끼어들 수 있음
+     *   (그 경우 반환 ID에 이미 다른 요청이 바꾼 회원이 포함될 수 있음)
+     * @return 변경된 회원 ID
+     */
+    public List<Long> updateRoleByIdIn(Collection<Long> ids, Member.MemberRole newRole, String protectedUsername) {
+        List<Long> updated = new ArrayList<>();
+        for (Map.Entry<Integer, List<Long>> entry : groupByShard(ids).entrySet()) {
+            JdbcTemplate shard = shards.get(entry.getKey());
+            List<Object> args = new ArrayList<>(entry.getValue());
+            args.add(newRole.name());
+            args.add(protectedUsername);
+            List<Long> targets = shard.queryForList("SELECT id FROM members WHERE id IN (" +
+                    placeholders(entry.getValue().size()) + ") AND role <> ? AND username <> ? ORDER BY id",
+                    Long.class, args.toArray());
+            if (targets.isEmpty()) {
+                continue;
+            }
+            List<Object> updateArgs = new ArrayList<>();
+            updateArgs.add(newRole.name());
+            updateArgs.addAll(targets);
+            shard.update("UPDATE members SET role = ?, version = version + 1 WHERE id IN (" +
+                    placeholders(targets.size()) + ")", updateArgs.toArray());
+            updated.addAll(targets);
+        }
+        return updated;
+    }
+
+    public long count() {
+        return scatter(shard -> List.of(shard.queryForObject("SELECT COUNT(*) FROM members", Long.class)))
+                .stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * 중단된 가입/삭제로 남은 pending 디렉터리 행 정리
+     * - 샤드에 회원 행이 있으면 확정(가입 완료 또는 삭제 전 중단), 없으면 디렉터리 행 삭제
+     * @return 삭제한 디렉터리 행 수
+     */
+    public int reconcileDirectory() {
+        int removed = reconcile("1 = 1");
+        if (removed > 0) {
+            log.info("[ShardedMemberRepository] 중단된 쓰기의 디렉터리 행 {}건 정리", removed);
+        }
+        return removed;
+    }
+
+    private int reconcile(String condition, Object... conditionArgs) {
+        Object[] args = Stream.concat(Stream.of(Timestamp.valueOf(LocalDateTime.now().minus(PENDING_TIMEOUT))),
+                Stream.of(conditionArgs)).toArray();
+        List<Map<String, Object>> stale = directory.queryForList("SELECT username, shard_id FROM member_shard_directory " +
+                "WHERE pending = TRUE AND reserved_at < ? AND " + condition, args);
+        int removed = 0;
+        for (Map<String, Object> row : stale) {
+            String username = (String) row.get("USERNAME");
+            int shardIndex = ((Number) row.get("SHARD_ID")).intValue();
+            boolean exists = shardIndex < shards.size() && !shards.get(shardIndex)
+                    .queryForList("SELECT 1 FROM members WHERE username = ?", Integer.class, username).isEmpty();
+            if (exists) {
+                directory.update("UPDATE member_shard_directory SET pending = FALSE WHERE username = ?", username);
+            } else {
+                removed += directory.update("DELETE FROM member_shard_directory WHERE username = ? AND pending = TRUE", username);
+            }
+        }
+        return removed;
+    }
+
+    private Optional<JdbcTemplate> shardOf(Long id) {
+        int shardIndex = MemberShardKeys.shardOf(id);
+        return shardIndex < shards.size() ? Optional.of(shards.get(shardIndex)) : Optional.empty();
+    }
+
+    private Map<Integer, List<Long>> groupByShard(Collection<Long> ids) {
+        return ids.stream()
+                .filter(id -> MemberShardKeys.shardOf(id) < shards.size())
+                .collect(Collectors.groupingBy(MemberShardKeys::shardOf));
+    }
+
+    private <T> List<T> scatter(Function<JdbcTemplate, List<T>> query) {
+        List<CompletableFuture<List<T>>> futures = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> query.apply(shard), scatterExecutor))
+                .toList();
+        List<T> results = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<T>> future : futures) {
+                results.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            // 한 샤드라도 실패하면 부분 결과를 돌려주지 않고 원래 예외를 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    // IN 절이 비면 문법 오류이므로 항상 일치하지 않는 NULL 하나를 둠
+    private static String placeholders(int count) {
+        return count == 0 ? "NULL" : String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    // H2 메시지에 위반된 유니크 인덱스 이름("PUBLIC.UK_..._INDEX_x ON ...")이 포함됨
+    private static RuntimeException toDuplicateException(Member member, DuplicateKeyException e) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        if (message.contains(UK_DIRECTORY_USERNAME)) {
+            return new DuplicateMemberException(DuplicateMemberException.Field.USERNAME,
+                    "이미 존재하는 사용자명입니다: " + member.getUsername(), e);
+        }
+        if (message.contains(UK_DIRECTORY_EMAIL)) {
+            return new DuplicateMemberException(DuplicateMemberException.Field.EMAIL,
+                    "이미 사용 중인 이메일입니다: " + member.getEmail(), e);
+        }
+        return e;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    /**
+     * 병렬 조회 스레드와 샤드 풀 종료 (디렉터리 DataSource는 소유하지 않으므로 유지)
+     */
+    @Override
+    public void close() throws Exception {
+        scatterExecutor.shutdownNow();
+        for (DataSource shard : shardDataSources) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    // JPA 인터페이스 프로젝션과 같은 속성만 노출 (응답으로 직렬화될 수 있으므로 비밀번호 등은 담지 않음)
+
+    @Value
+    private static class Identity implements MemberIdentity {
+        String username;
+        String email;
+    }
+
+    @Value
+    private static class Key implements MemberKey {
+        Long id;
+        String username;
+        String email;
+    }
+
+    @Value
+    private static class Name implements MemberName {
+        Long id;
+        String name;
+    }
+
+    @Value
+    private static class Version implements MemberVersion {
+        Long id;
+        Long version;
+        LocalDateTime lastLoginAt;
+    }
+
+    @Value
+    private static class Summary implements MemberSummary {
+        Long id;
+        String username;
+        String name;
+        Member.MemberRole role;
+        LocalDateTime createdAt;
+    }
+
+    @Value
+    private static class ExportRow implements MemberExportRow {
+        Long id;
+        String username;
+        String name;
+        String email;
+        Member.MemberRole role;
+        LocalDateTime createdAt;
+        LocalDateTime lastLoginAt;
+
+        static ExportRow of(Member member) {
+            return new ExportRow(member.getId(), member.getUsername(), member.getName(), member.getEmail(),
+                    member.getRole(), member.getCreatedAt(), member.getLastLoginAt());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.study.springflow.repository.sharding;
+
+import com.study.springflow.entity.Member;
+import com.study.springflow.repository.MemberStore;
+import com.study.springflow.repository.projection.MemberDetail;
+import com.study.springflow.repository.projection.MemberExportRow;
+import com.study.springflow.repository.projection.MemberIdentity;
+import com.study.springflow.repository.projection.MemberKey;
+import com.study.springflow.repository.projection.MemberName;
+import com.study.springflow.repository.projection.MemberSummary;
+import com.study.springflow.repository.projection.MemberVersion;
+import com.study.springflow.service.event.MemberChangeEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 샤딩 회원 저장소 (sharded 프로필, ShardingConfig가 등록)
+ * - JPA MemberRepository와 2차 캐시를 거치지 않음
+ * - 엔티티 콜백(MemberEntityListener)이 없으므로 단건 변경 이벤트(MemberChangeEvent)를 여기서 직접 발행
+ */
+@RequiredArgsConstructor
+public class ShardedMemberStore implements MemberStore {
+
+    private final ShardedMemberRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public Member insert(Member member) {
+        return publishChange(MemberChangeEvent.Type.CREATED, repository.save(member));
+    }
+
+    @Override
+    public List<Member> insertAll(List<Member> members) {
+        List<Member> saved = repository.saveAll(members);
+        saved.forEach(member -> publishChange(MemberChangeEvent.Type.CREATED, member));
+        return saved;
+    }
+
+    @Override
+    public Optional<Member> findById(Long id) {
+        return repository.findById(id);
+    }
+
+    @Override
+    public Optional<Member> findByUsername(String username) {
+        return repository.findByUsername(username);
+    }
+
+    @Override
+    public List<MemberDetail> findDetailsByRole(Member.MemberRole role) {
+        return repository.findByRole(role).stream()
+                .sorted(Comparator.comparing(Member::getId))
+                .map(MemberDetail::from)
+                .toList();
+    }
+
+    @Override
+    public List<MemberVersion> findVersionsByRole(Member.MemberRole role) {
+        return repository.findVersionsByRole(role);
+    }
+
+    @Override
+    public List<MemberSummary> findSummaries(Member.MemberRole role, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                             LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        return repository.findSummaries(role, createdFrom, createdTo, cursorCreatedAt, cursorId, limit);
+    }
+
+    @Override
+    public List<MemberName> searchByName(String keyword, int limit) {
+        return repository.searchByName(keyword, limit);
+    }
+
+    // 샤드 순서대로 이어 붙이므로 샤드 안에서만 id 순
+    @Override
+    public Stream<MemberExportRow> streamAll() {
+        return repository.streamAll();
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return repository.existsByUsername(username);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return repository.existsByEmail(email);
+    }
+
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
+    @Override
+    public List<MemberIdentity> findIdentities(Collection<String> usernames, Collection<String> emails) {
+        return repository.findIdentities(usernames, emails);
+    }
+
+    @Override
+    public List<Long> findIdsByFilter(Long afterId, Member.MemberRole role, LocalDateTime createdBefore,
+                                      LocalDateTime lastLoginBefore, int limit) {
+        return repository.findIdsByFilter(afterId, role, createdBefore, lastLoginBefore, limit);
+    }
+
+    @Override
+    public Optional<Member> updateLastLogin(Long id, LocalDateTime loginAt) {
+        return repository.updateLastLogin(id, loginAt)
+                .map(member -> publishChange(MemberChangeEvent.Type.UPDATED, member));
+    }
+
+    @Override
+    public Member updatePassword(Member member) {
+        return publishChange(MemberChangeEvent.Type.UPDATED, repository.updatePassword(member));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        repository.deleteById(id).ifPresent(member -> publishChange(MemberChangeEvent.Type.DELETED, member));
+    }
+
+    @Override
+    public List<MemberKey> deleteByIdIn(Collection<Long> ids, String protectedUsername) {
+        return repository.deleteByIdIn(ids, protectedUsername);
+    }
+
+    @Override
+    public List<Long> updateRoleByIdIn(Collection<Long> ids, Member.MemberRole newRole, String protectedUsername) {
+        return repository.updateRoleByIdIn(ids, newRole, protectedUsername);
+    }
+
+    // 샤드 DB 쓰기는 즉시 확정됨 (호출 측 트랜잭션이 롤백돼도 되돌아가지 않음)
+    @Override
+    public boolean joinsTransaction() {
+        return false;
+    }
+
+    private Member publishChange(MemberChangeEvent.Type type, Member member) {
+        eventPublisher.publishEvent(new MemberChangeEvent(
+                type, member.getId(), member.getUsername(), member.getName(), member.getEmail()));
+        return member;
+    }
+}
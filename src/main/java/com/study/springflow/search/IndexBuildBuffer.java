@@ -0,0 +1,86 @@
+package com.study.springflow.search;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 메모리 인덱스의 초기 구축(DB 커서 스캔)과 변경 이벤트 반영 순서 보장
+ * - 구축이 끝나기 전에 들어온 변경은 모아 두었다가 스캔이 끝난 뒤 받은 순서대로 다시 적용
+ *   → 삭제 이벤트가 먼저 반영된 뒤 커서가 그 행을 다시 넣어 삭제된 회원이 되살아나는 경쟁 방지
+ * - 스캔이 실패하면 부분 결과를 비우고 간격을 늘려 가며 다시 시도 (그동안의 변경은 계속 모아 둠)
+ * - 변경 적용은 락 안에서 실행 (재적용과 새 변경이 섞이지 않도록, 가상 스레드 pinning 방지를 위해 ReentrantLock)
+ */
+@Slf4j
+class IndexBuildBuffer {
+
+    private static final long INITIAL_RETRY_MS = 1_000;
+    private static final long MAX_RETRY_MS = 60_000;
+
+    private final String owner;
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<Runnable> pending = new ArrayList<>(); // 구축 완료 후 null
+    private volatile boolean ready;
+
+    IndexBuildBuffer(String owner) {
+        this.owner = owner;
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 변경 반영 (구축 중이면 보관)
+     */
+    void apply(Runnable change) {
+        lock.lock();
+        try {
+            if (pending != null) {
+                pending.add(change);
+            } else {
+                change.run();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 스캔 성공까지 재시도한 뒤 보관한 변경을 적용하고 준비 완료로 전환
+     * @param scan 인덱스를 채우고 읽은 행 수를 반환
+     * @param reset 실패한 시도가 남긴 부분 결과 제거
+     * @return 스캔한 행 수 (재시도 대기 중 인터럽트되면 -1)
+     */
+    long build(LongSupplier scan, Runnable reset) {
+        long retryMs = INITIAL_RETRY_MS;
+        while (true) {
+            try {
+                long rows = scan.getAsLong();
+                lock.lock();
+                try {
+                    pending.forEach(Runnable::run);
+                    pending = null;
+                    ready = true;
+                } finally {
+                    lock.unlock();
+                }
+                return rows;
+            } catch (RuntimeException e) {
+                log.error("[{}] 인덱스 구축 실패, {}ms 후 재시도: {}", owner, retryMs, e.getMessage(), e);
+                reset.run();
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(retryMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return -1;
+            }
+            retryMs = Math.min(retryMs * 2, MAX_RETRY_MS);
+        }
+    }
+}
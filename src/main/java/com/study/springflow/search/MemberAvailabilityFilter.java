@@ -0,0 +1,207 @@
+package com.study.springflow.search;
+
+import com.study.springflow.entity.Member;
+import com.study.springflow.service.MemberService;
+import com.study.springflow.service.event.MemberBulkChangeEvent;
+import com.study.springflow.service.event.MemberChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 사용자명 / 이메일 사용 가능 여부 확인 (Bloom 필터 + DB 확인)
+ * - 필터에 없으면 확실히 사용 가능 → DB 조회 없이 응답
+ * - 필터에 있으면 (오탐일 수 있으므로) 인덱스를 타는 exists 쿼리로 확인
+ * - 키는 소문자화/trim으로 정규화: 정규화는 키를 합치기만 하므로 "없음" 판정은 여전히 확실함
+ *
+ * 백그라운드 재구축 (전용 스레드 1개):
+ * - 층이 max-layers를 넘으면 (필터가 예상보다 많이 참) → 현재 건수에 맞춘 크기로 재구축
+ * - 삭제가 누적되면 (Bloom 필터는 삭제 불가 → 삭제된 키가 계속 "있을 수도 있음"으로 남음) → 재구축
+ * - 재구축 중 들어온 추가는 기존 필터와 새 필터 양쪽에 기록 후 교체
+ *   (두 필터를 하나의 불변 상태로 묶어 한 번에 읽음 → 교체 사이에 낀 추가가 양쪽 모두에서 빠지지 않음)
+ */
+@Slf4j
+@Component
+public class MemberAvailabilityFilter {
+
+    private static final String USERNAME_PREFIX = "u:";
+    private static final String EMAIL_PREFIX = "e:";
+
+    private final MemberService memberService;
+    private final double falsePositiveRate;
+    private final int maxLayers;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "availability-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicInteger deletesSinceBuild = new AtomicInteger();
+
+    private volatile Filters filters = new Filters(null, null); // 재구축 스레드만 교체
+
+    private final Counter filterNegative;
+    private final Counter confirmedAvailable;
+    private final Counter confirmedTaken;
+    private final Counter notReady;
+
+    public MemberAvailabilityFilter(MemberService memberService,
+                                    MeterRegistry registry,
+                                    @Value("${springflow.availability.false-positive-rate:0.01}") double falsePositiveRate,
+                                    @Value("${springflow.availability.max-layers:4}") int maxLayers) {
+        this.memberService = memberService;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxLayers = maxLayers;
+
+        this.filterNegative = checkCounter(registry, "filter_negative");
+        this.confirmedAvailable = checkCounter(registry, "db_available");
+        this.confirmedTaken = checkCounter(registry, "db_taken");
+        this.notReady = checkCounter(registry, "not_ready");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        scheduleRebuild("시작");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChange(MemberChangeEvent event) {
+        if (event.type() == MemberChangeEvent.Type.DELETED) {
+            onDeleted(1);
+        } else {
+            add(event.username(), event.email());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberBulkChange(MemberBulkChangeEvent event) {
+        if (event.type() == MemberBulkChangeEvent.Type.DELETED) {
+            onDeleted(event.ids().size());
+        }
+    }
+
+    /**
+     * 사용자명 사용 가능 여부
+     */
+    public boolean isUsernameAvailable(String username) {
+        return check(USERNAME_PREFIX + normalize(username), () -> memberService.existsByUsername(username));
+    }
+
+    /**
+     * 이메일 사용 가능 여부 (회원가입과 같은 기준: 정규화한 값이 이미 저장돼 있는지)
+     */
+    public boolean isEmailAvailable(String email) {
+        return check(EMAIL_PREFIX + normalize(email), () -> memberService.existsByEmail(Member.normalizeEmail(email)));
+    }
+
+    private boolean check(String key, BooleanSupplier existsInDb) {
+        ScalableBloomFilter current = filters.current();
+        if (current == null) {
+            notReady.increment();
+        } else if (!current.mightContain(key)) {
+            filterNegative.increment();
+            return true;
+        }
+
+        boolean exists = existsInDb.getAsBoolean();
+        (exists ? confirmedTaken : confirmedAvailable).increment();
+        return !exists;
+    }
+
+    private void add(String username, String email) {
+        // 커밋 후에 호출되므로, 여기서 본 상태에 pending이 없었다면 이후 시작되는 재구축 스캔이 이 회원을 포함함
+        Filters snapshot = filters;
+        if (snapshot.current() != null) {
+            addTo(snapshot.current(), username, email);
+            if (snapshot.current().layerCount() > maxLayers) {
+                scheduleRebuild("층 수 초과");
+            }
+        }
+        if (snapshot.pending() != null) {
+            addTo(snapshot.pending(), username, email);
+        }
+    }
+
+    private void onDeleted(int count) {
+        int deletes = deletesSinceBuild.addAndGet(count);
+        ScalableBloomFilter current = filters.current();
+        if (current != null && deletes > current.approximateCount() / 4) {
+            scheduleRebuild("삭제 누적");
+        }
+    }
+
+    private void scheduleRebuild(String reason) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild(reason);
+            } catch (RuntimeException e) {
+                log.warn("[MemberAvailabilityFilter] 필터 재구축 실패: {}", e.getMessage());
+                filters = new Filters(filters.current(), null);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    private void rebuild(String reason) {
+        long start = System.currentTimeMillis();
+        // 회원 1명당 키 2개(사용자명, 이메일) + 이후 가입분을 위해 50% 여유
+        long keys = memberService.count() * 2;
+        int capacity = (int) Math.min(Integer.MAX_VALUE / 2, Math.max(1024, keys + keys / 2));
+        ScalableBloomFilter next = new ScalableBloomFilter(capacity, falsePositiveRate);
+        filters = new Filters(filters.current(), next);
+        deletesSinceBuild.set(0);
+
+        long rows = memberService.scanAll(row -> addTo(next, row.getUsername(), row.getEmail()));
+
+        filters = new Filters(next, null);
+        log.info("[MemberAvailabilityFilter] 필터 재구축 완료 ({}): 회원 {}건, 비트 {}개, 층 {}개, {}ms",
+                reason, rows, next.bitCount(), next.layerCount(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 현재 필터 + 재구축 중인 새 필터 (없으면 null)
+     */
+    private record Filters(ScalableBloomFilter current, ScalableBloomFilter pending) {
+    }
+
+    private static void addTo(ScalableBloomFilter target, String username, String email) {
+        target.add(USERNAME_PREFIX + normalize(username));
+        if (email != null) {
+            target.add(EMAIL_PREFIX + normalize(email));
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter checkCounter(MeterRegistry registry, String result) {
+        return Counter.builder("springflow.auth.availability.checks")
+                .description("사용 가능 여부 확인 결과 (filter_negative는 DB 조회 없이 응답)")
+                .tag("result", result)
+                .register(registry);
+    }
+}
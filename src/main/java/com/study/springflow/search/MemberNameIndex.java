@@ -0,0 +1,74 @@
+package com.study.springflow.search;
+
+import com.study.springflow.service.MemberService;
+import com.study.springflow.service.event.MemberBulkChangeEvent;
+import com.study.springflow.service.event.MemberChangeEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원 이름 트라이그램 인덱스
+ * - 애플리케이션 시작 후 회원 테이블을 DB 커서로 한 번 훑어 구축 (구축 전에는 사용 불가 → DB LIKE 검색으로 대체)
+ * - 이후에는 엔티티 리스너 이벤트(생성/수정/삭제)와 벌크 삭제 이벤트를 커밋 후에 반영
+ *   (구축 중에 들어온 이벤트는 스캔이 끝난 뒤 순서대로 반영, {@link IndexBuildBuffer})
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberNameIndex {
+
+    private final MemberService memberService;
+    private final TrigramIndex index = new TrigramIndex();
+    private final IndexBuildBuffer buildBuffer = new IndexBuildBuffer("MemberNameIndex");
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.currentTimeMillis();
+        long rows = buildBuffer.build(
+                () -> memberService.scanAll(row -> index.put(row.getId(), row.getName())),
+                index::clear);
+        if (rows < 0) {
+            return;
+        }
+        log.info("[MemberNameIndex] 이름 인덱스 구축 완료: {}건, 트라이그램 {}개, {}ms",
+                rows, index.gramCount(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChange(MemberChangeEvent event) {
+        long id = event.id();
+        buildBuffer.apply(() -> {
+            if (event.type() == MemberChangeEvent.Type.DELETED) {
+                index.remove(id);
+            } else {
+                index.put(id, event.name());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberBulkChange(MemberBulkChangeEvent event) {
+        if (event.type() == MemberBulkChangeEvent.Type.DELETED) {
+            buildBuffer.apply(() -> event.ids().forEach(index::remove));
+        }
+    }
+
+    /**
+     * 인덱스 검색 (구축 전이거나 검색어가 3글자 미만이면 empty → 호출 측에서 DB 검색)
+     */
+    public Optional<List<TrigramIndex.Match>> search(String query, int limit) {
+        if (!buildBuffer.isReady() || !TrigramIndex.isSearchable(query)) {
+            return Optional.empty();
+        }
+        return Optional.of(index.search(query, limit));
+    }
+}
@@ -0,0 +1,96 @@
+package com.study.springflow.search;
+
+import com.study.springflow.service.MemberService;
+import com.study.springflow.service.event.MemberBulkChangeEvent;
+import com.study.springflow.service.event.MemberChangeEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 사용자명 / 이메일 접두사 자동완성 인덱스
+ * - 소문자화한 사용자명과 이메일을 한 radix trie에 넣고 값으로 회원 ID를 보관
+ * - 시작 시 DB 커서로 구축, 이후 회원 생성/수정/삭제 이벤트를 커밋 후 반영
+ *   (구축 중에 들어온 이벤트는 스캔이 끝난 뒤 순서대로 반영, 스캔 실패 시 재시도: {@link IndexBuildBuffer})
+ * - 지울 키는 삭제 이벤트가 들고 온 사용자명/이메일로 정함 (ID → 키 매핑을 따로 두지 않아 메모리는 트라이만큼)
+ *   → 사용자명(natural id)과 이메일은 가입 후 바뀌지 않으므로 수정 이벤트는 같은 키를 다시 넣을 뿐
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberSuggestIndex {
+
+    private final MemberService memberService;
+    private final RadixTrie trie = new RadixTrie();
+    private final IndexBuildBuffer buildBuffer = new IndexBuildBuffer("MemberSuggestIndex");
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.currentTimeMillis();
+        long rows = buildBuffer.build(
+                () -> memberService.scanAll(row -> put(row.getId(), row.getUsername(), row.getEmail())),
+                trie::clear);
+        if (rows < 0) {
+            return;
+        }
+        log.info("[MemberSuggestIndex] 자동완성 인덱스 구축 완료: {}건, 키 {}개, 노드 {}개, {}ms",
+                rows, trie.size(), trie.nodeCount(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChange(MemberChangeEvent event) {
+        long id = event.id();
+        buildBuffer.apply(() -> {
+            if (event.type() == MemberChangeEvent.Type.DELETED) {
+                remove(id, event.username(), event.email());
+            } else {
+                put(id, event.username(), event.email());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberBulkChange(MemberBulkChangeEvent event) {
+        if (event.type() == MemberBulkChangeEvent.Type.DELETED) {
+            buildBuffer.apply(() -> event.deleted()
+                    .forEach(member -> remove(member.id(), member.username(), member.email())));
+        }
+    }
+
+    public boolean isReady() {
+        return buildBuffer.isReady();
+    }
+
+    /**
+     * 접두사로 시작하는 사용자명/이메일 (사전순, 최대 limit개)
+     */
+    public List<RadixTrie.Match> suggest(String prefix, int limit) {
+        return trie.prefix(normalize(prefix), limit);
+    }
+
+    private void put(long id, String username, String email) {
+        trie.add(normalize(username), id);
+        if (email != null) {
+            trie.add(normalize(email), id);
+        }
+    }
+
+    private void remove(long id, String username, String email) {
+        trie.remove(normalize(username), id);
+        if (email != null) {
+            trie.remove(normalize(email), id);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,290 @@
+package com.study.springflow.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 접두사 자동완성용 압축 트라이 (radix trie)
+ * - 자식이 하나뿐인 경로는 간선 라벨(char[]) 하나로 합쳐 노드 수를 줄임
+ * - 자식은 첫 글자 기준으로 정렬된 배열에 보관 (HashMap 대신 이진 탐색) → 노드당 오버헤드가 작고 순회 순서가 사전순
+ * - 키 하나에 여러 값(long id)을 둘 수 있음 (예: 같은 이메일을 쓰는 회원)
+ * - 접두사 검색은 사전순으로 limit개를 채우면 즉시 멈춤 → 결과 수에 비례한 할당만 발생
+ */
+public class RadixTrie {
+
+    /**
+     * 검색 결과 (키, 값)
+     */
+    public record Match(String key, long value) {
+    }
+
+    private static final char[] EMPTY_LABEL = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final long[] NO_VALUES = new long[0];
+
+    private static final class Node {
+        private char[] label;
+        private Node[] children = NO_CHILDREN;
+        private long[] values = NO_VALUES;
+
+        private Node(char[] label) {
+            this.label = label;
+        }
+
+        private int childIndex(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label[0];
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node(EMPTY_LABEL);
+    private int keyCount;
+    private int nodeCount = 1;
+
+    public void add(String key, long value) {
+        lock.writeLock().lock();
+        try {
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                int index = node.childIndex(key.charAt(i));
+                if (index < 0) {
+                    // 일치하는 자식 없음 → 남은 글자 전체를 라벨로 하는 잎 노드 추가
+                    Node leaf = new Node(key.substring(i).toCharArray());
+                    leaf.values = new long[]{value};
+                    node.children = insertAt(node.children, -index - 1, leaf);
+                    nodeCount++;
+                    keyCount++;
+                    return;
+                }
+                Node child = node.children[index];
+                int common = commonPrefix(child.label, key, i);
+                if (common < child.label.length) {
+                    // 라벨 중간에서 갈라짐 → 공통 부분을 중간 노드로 분리
+                    Node middle = new Node(Arrays.copyOf(child.label, common));
+                    child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+                    middle.children = new Node[]{child};
+                    node.children[index] = middle;
+                    nodeCount++;
+                    child = middle;
+                }
+                node = child;
+                i += common;
+            }
+            int position = Arrays.binarySearch(node.values, value);
+            if (position < 0) {
+                if (node.values.length == 0) {
+                    keyCount++;
+                }
+                node.values = insertAt(node.values, -position - 1, value);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키에서 값 하나를 제거하고, 값이 없어진 노드는 정리(잎 삭제 / 자식 하나인 노드 병합)
+     * @return 제거했으면 true
+     */
+    public boolean remove(String key, long value) {
+        lock.writeLock().lock();
+        try {
+            Node parent = null;
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                int index = node.childIndex(key.charAt(i));
+                if (index < 0) {
+                    return false;
+                }
+                Node child = node.children[index];
+                if (commonPrefix(child.label, key, i) < child.label.length) {
+                    return false;
+                }
+                parent = node;
+                node = child;
+                i += child.label.length;
+            }
+
+            int position = Arrays.binarySearch(node.values, value);
+            if (position < 0) {
+                return false;
+            }
+            node.values = removeAt(node.values, position);
+            if (node.values.length > 0) {
+                return true;
+            }
+            keyCount--;
+            if (node == root) {
+                // 빈 문자열 키: 루트는 정리 대상이 아님
+                return true;
+            }
+
+            if (node.children.length == 0) {
+                parent.children = removeAt(parent.children, parent.childIndex(node.label[0]));
+                nodeCount--;
+                if (parent != root && parent.values.length == 0 && parent.children.length == 1) {
+                    mergeWithOnlyChild(parent);
+                }
+            } else if (node.children.length == 1) {
+                mergeWithOnlyChild(node);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 키를 사전순으로 최대 limit개 (값이 여러 개인 키는 값마다 한 건)
+     */
+    public List<Match> prefix(String prefix, int limit) {
+        List<Match> matches = new ArrayList<>(Math.min(limit, 16));
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            StringBuilder path = new StringBuilder(prefix.length() + 16);
+            int i = 0;
+            while (i < prefix.length()) {
+                int index = node.childIndex(prefix.charAt(i));
+                if (index < 0) {
+                    return matches;
+                }
+                Node child = node.children[index];
+                int common = commonPrefix(child.label, prefix, i);
+                if (common < child.label.length && i + common < prefix.length()) {
+                    return matches;
+                }
+                path.append(child.label);
+                node = child;
+                i += common;
+            }
+            collect(node, path, matches, limit);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root.children = NO_CHILDREN;
+            root.values = NO_VALUES;
+            keyCount = 0;
+            nodeCount = 1;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return keyCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void collect(Node node, StringBuilder path, List<Match> matches, int limit) {
+        if (node.values.length > 0) {
+            String key = path.toString();
+            for (long value : node.values) {
+                if (matches.size() >= limit) {
+                    return;
+                }
+                matches.add(new Match(key, value));
+            }
+        }
+        for (Node child : node.children) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            int length = path.length();
+            path.append(child.label);
+            collect(child, path, matches, limit);
+            path.setLength(length);
+        }
+    }
+
+    private void mergeWithOnlyChild(Node node) {
+        Node child = node.children[0];
+        char[] merged = Arrays.copyOf(node.label, node.label.length + child.label.length);
+        System.arraycopy(child.label, 0, merged, node.label.length, child.label.length);
+        node.label = merged;
+        node.children = child.children;
+        node.values = child.values;
+        nodeCount--;
+    }
+
+    private static int commonPrefix(char[] label, String key, int offset) {
+        int max = Math.min(label.length, key.length() - offset);
+        int i = 0;
+        while (i < max && label[i] == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static Node[] insertAt(Node[] array, int index, Node node) {
+        Node[] result = new Node[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = node;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static long[] insertAt(long[] array, int index, long value) {
+        long[] result = new long[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static Node[] removeAt(Node[] array, int index) {
+        if (array.length == 1) {
+            return NO_CHILDREN;
+        }
+        Node[] result = new Node[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+
+    private static long[] removeAt(long[] array, int index) {
+        if (array.length == 1) {
+            return NO_VALUES;
+        }
+        long[] result = new long[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+}
@@ -0,0 +1,180 @@
+package com.study.springflow.search;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 확장형 Bloom 필터 (Scalable Bloom Filter)
+ * - 층(layer) 하나가 설계 용량에 도달하면 용량을 growth배, 오탐률을 tightening배로 줄인 새 층을 추가
+ *   → 전체 오탐률이 p0 / (1 - tightening) 이하로 유지됨
+ * - mightContain이 false면 확실히 없음 (거짓 음성 없음), true면 "있을 수도 있음"
+ * - 비트는 AtomicLongArray에 CAS로 설정 → 읽기/쓰기 모두 락 없이 동시 실행 (층 추가만 락)
+ * - 삭제는 지원하지 않음 (삭제된 키는 오탐으로 남으므로 주기적으로 새로 구축)
+ */
+public class ScalableBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private static final class Layer {
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+        private final int capacity;
+        private final double falsePositiveRate;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private Layer(int capacity, double falsePositiveRate) {
+            long m = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2));
+            this.bitCount = Math.max(64, m);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * LN2));
+            this.bits = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+        }
+
+        private boolean add(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            boolean changed = false;
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitCount);
+                long mask = 1L << index;
+                int word = (int) (index >>> 6);
+                long previous = bits.getAndAccumulate(word, mask, (current, m) -> current | m);
+                changed |= (previous & mask) == 0;
+            }
+            if (changed) {
+                count.incrementAndGet();
+            }
+            return changed;
+        }
+
+        private boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitCount);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final int growth;
+    private final double tightening;
+    private final ReentrantLock growLock = new ReentrantLock();
+    private volatile Layer[] layers;
+
+    public ScalableBloomFilter(int initialCapacity, double falsePositiveRate) {
+        this(initialCapacity, falsePositiveRate, 2, 0.5);
+    }
+
+    public ScalableBloomFilter(int initialCapacity, double falsePositiveRate, int growth, double tightening) {
+        if (initialCapacity < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("용량은 1 이상, 오탐률은 0과 1 사이여야 합니다.");
+        }
+        this.growth = growth;
+        this.tightening = tightening;
+        this.layers = new Layer[]{new Layer(initialCapacity, falsePositiveRate)};
+    }
+
+    public void add(String key) {
+        long hash = hash(key);
+        if (mightContain(hash)) {
+            return;
+        }
+        Layer[] current = layers;
+        Layer last = current[current.length - 1];
+        if (last.count.get() >= last.capacity) {
+            last = grow(last);
+        }
+        last.add(hash);
+    }
+
+    public boolean mightContain(String key) {
+        return mightContain(hash(key));
+    }
+
+    /**
+     * 추가된 서로 다른 키 수 (근사값: 새 비트를 하나도 켜지 못한 키는 세지 않음)
+     */
+    public int approximateCount() {
+        int total = 0;
+        for (Layer layer : layers) {
+            total += layer.count.get();
+        }
+        return total;
+    }
+
+    public int layerCount() {
+        return layers.length;
+    }
+
+    /**
+     * 모든 층이 설계 용량까지 찼을 때의 전체 오탐률 상한 (1 - Π(1 - p_i))
+     */
+    public double expectedFalsePositiveRate() {
+        double none = 1.0;
+        for (Layer layer : layers) {
+            none *= 1 - layer.falsePositiveRate;
+        }
+        return 1 - none;
+    }
+
+    public long bitCount() {
+        long total = 0;
+        for (Layer layer : layers) {
+            total += layer.bitCount;
+        }
+        return total;
+    }
+
+    private boolean mightContain(long hash) {
+        for (Layer layer : layers) {
+            if (layer.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Layer grow(Layer full) {
+        growLock.lock();
+        try {
+            Layer[] current = layers;
+            Layer last = current[current.length - 1];
+            if (last != full) {
+                return last; // 다른 스레드가 이미 층을 추가함
+            }
+            long capacity = Math.min((long) full.capacity * growth, Integer.MAX_VALUE / 2);
+            Layer next = new Layer((int) capacity, full.falsePositiveRate * tightening);
+            Layer[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = next;
+            layers = grown;
+            return next;
+        } finally {
+            growLock.unlock();
+        }
+    }
+
+    /**
+     * 64비트 해시 (FNV-1a + murmur3 fmix64 마무리) → 하위/상위 32비트로 이중 해싱
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,239 @@
+package com.study.springflow.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 부분 문자열 검색용 트라이그램(3-gram) 역색인
+ * - 문서(id, 텍스트)마다 소문자화한 텍스트의 모든 3글자 조각을 키로, 그 조각을 가진 id 목록(포스팅)을 값으로 보관
+ * - 포스팅은 정렬된 long 배열 → 객체/박싱 없이 이진 탐색으로 교집합 계산
+ *   (샤딩 ID는 시퀀스를 10비트 올린 값이라 int 범위를 넘을 수 있으므로 long)
+ * - 검색: 질의의 트라이그램 포스팅을 짧은 순으로 교집합 → 후보를 원문 contains로 검증 (트라이그램만으로는 순서를 보장하지 않음)
+ * - 같은 id를 다시 put하면 이전 텍스트의 조각은 제거하고 새 조각만 추가 (증분 갱신)
+ * - 읽기/쓰기 락으로 검색끼리는 동시에 실행
+ */
+public class TrigramIndex {
+
+    public static final int GRAM = 3;
+
+    /**
+     * 검색 결과 (순위 순서)
+     */
+    public record Match(long id, String text) {
+    }
+
+    private record Entry(String text, String normalized) {
+    }
+
+    private record Candidate(long id, Entry entry) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    /**
+     * 트라이그램 검색이 가능한 질의인지 (정규화 후 3글자 이상)
+     */
+    public static boolean isSearchable(String query) {
+        return query != null && normalize(query).length() >= GRAM;
+    }
+
+    /**
+     * DB의 LOWER()와 같은 기준으로 소문자화
+     */
+    static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    public void put(long id, String text) {
+        String normalized = normalize(text);
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.put(id, new Entry(text, normalized));
+            Set<String> oldGrams = previous != null ? grams(previous.normalized()) : Set.of();
+            Set<String> newGrams = grams(normalized);
+            for (String gram : oldGrams) {
+                if (!newGrams.contains(gram)) {
+                    removePosting(gram, id);
+                }
+            }
+            for (String gram : newGrams) {
+                if (!oldGrams.contains(gram)) {
+                    postings.computeIfAbsent(gram, key -> new PostingList()).add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(id);
+            if (previous != null) {
+                for (String gram : grams(previous.normalized())) {
+                    removePosting(gram, id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            entries.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 부분 문자열 검색
+     * - 순위: 텍스트 전체 일치 → 접두사 일치 → 그 외, 같은 순위에서는 짧은 텍스트 → 작은 id
+     * @throws IllegalArgumentException 질의가 3글자 미만일 때 (isSearchable로 먼저 확인)
+     */
+    public List<Match> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.length() < GRAM) {
+            throw new IllegalArgumentException("검색어는 " + GRAM + "글자 이상이어야 합니다.");
+        }
+
+        // 상위 limit개만 유지하는 힙 (루트 = 현재 가장 낮은 순위) → 후보가 많아도 정렬 비용 O(n log limit)
+        Comparator<Candidate> order = Comparator
+                .comparingInt((Candidate candidate) -> rank(candidate.entry().normalized(), normalized))
+                .thenComparingInt(candidate -> candidate.entry().text().length())
+                .thenComparingLong(Candidate::id);
+        PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1, order.reversed());
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>();
+            for (String gram : grams(normalized)) {
+                PostingList list = postings.get(gram);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            // 가장 짧은 포스팅을 기준으로 나머지 포스팅에서 이진 탐색 (다음 탐색은 직전 위치부터)
+            PostingList smallest = lists.get(0);
+            int[] cursors = new int[lists.size()];
+            candidates:
+            for (int i = 0; i < smallest.size; i++) {
+                long id = smallest.ids[i];
+                for (int l = 1; l < lists.size(); l++) {
+                    PostingList other = lists.get(l);
+                    int position = Arrays.binarySearch(other.ids, cursors[l], other.size, id);
+                    if (position < 0) {
+                        cursors[l] = -position - 1;
+                        continue candidates;
+                    }
+                    cursors[l] = position;
+                }
+                Entry entry = entries.get(id);
+                if (entry.normalized().contains(normalized)) {
+                    top.add(new Candidate(id, entry));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Candidate> matches = new ArrayList<>(top);
+        matches.sort(order);
+        return matches.stream()
+                .map(candidate -> new Match(candidate.id(), candidate.entry().text()))
+                .toList();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int gramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int rank(String text, String query) {
+        if (text.equals(query)) {
+            return 0;
+        }
+        return text.startsWith(query) ? 1 : 2;
+    }
+
+    private void removePosting(String gram, long id) {
+        PostingList list = postings.get(gram);
+        if (list != null && list.remove(id) && list.size == 0) {
+            postings.remove(gram);
+        }
+    }
+
+    /**
+     * 정렬된 long 배열 포스팅 (용량이 부족하면 1.5배로 확장)
+     */
+    private static final class PostingList {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package com.study.springflow.security.config;
 
+import com.study.springflow.monitoring.SecurityMetrics;
+import com.study.springflow.security.crypto.TimedPasswordEncoder;
 import com.study.springflow.security.jwt.JwtAccessDeniedHandler;
 import com.study.springflow.security.jwt.JwtAuthenticationEntryPoint;
 import com.study.springflow.security.jwt.JwtAuthenticationFilter;
 import com.study.springflow.security.jwt.JwtTokenProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -18,7 +26,11 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.util.List;
 
 /**
  * 스프링 시큐리티 설정 클래스 (Swagger 지원 추가)
@@ -26,6 +38,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * - 인증/인가 규칙 설정
  * - JWT 관련 설정
  * - Swagger UI 접근 허용
+ * - Actuator 엔드포인트 접근 제어 (health/info 공개, prometheus는 허용 IP 또는 ADMIN)
  */
 @Slf4j
 @Configuration
@@ -38,13 +51,17 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
+    @Value("${springflow.monitoring.prometheus.allowed-ips}")
+    private List<String> prometheusAllowedIps;
+
     /**
      * 패스워드 인코더 빈 등록
      * - BCrypt 알고리즘 사용 (Spring Security 권장)
+     * - 연산 시간을 springflow.auth.bcrypt 타이머로 기록
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(SecurityMetrics securityMetrics) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), securityMetrics);
     }
 
     /**
@@ -85,6 +102,10 @@ public class SecurityConfig {
                 // 요청 권한 설정
                 .authorizeHttpRequests(authorize ->
                         authorize
+                                // 비동기(StreamingResponseBody 등)/오류 디스패치: 최초 요청에서 이미 인가를 통과함
+                                // JWT 필터는 비동기 디스패치에서 다시 실행되지 않으므로 여기서 막으면 스트리밍 응답이 끊김
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+
                                 // 인증 없이 접근 가능한 경로
                                 .requestMatchers("/api/auth/**", "/h2-console/**").permitAll()
                                 .requestMatchers("/", "/hello").permitAll()
@@ -93,6 +114,11 @@ public class SecurityConfig {
                                 // Swagger UI 관련 경로 허용
                                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
 
+                                // Actuator: 헬스 체크는 공개, 스크레이프는 허용 IP 또는 관리자, 나머지는 관리자
+                                .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                                .requestMatchers("/actuator/prometheus").access(prometheusScrapeAccess())
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                                 // 관리자 권한이 필요한 경로
                                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
@@ -111,4 +137,24 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    /**
+     * Prometheus 스크레이프 접근 규칙
+     * - 스크레이퍼는 JWT를 발급받기 어려우므로 허용된 IP 대역은 인증 없이 통과
+     * - 그 외 주소에서는 ADMIN 권한 필요
+     */
+    private AuthorizationManager<RequestAuthorizationContext> prometheusScrapeAccess() {
+        List<IpAddressMatcher> matchers = prometheusAllowedIps.stream()
+                .map(String::trim)
+                .filter(ip -> !ip.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+
+        AuthorizationManager<RequestAuthorizationContext> allowedIp = (authentication, context) -> {
+            String remoteAddr = context.getRequest().getRemoteAddr();
+            return new AuthorizationDecision(matchers.stream().anyMatch(matcher -> matcher.matches(remoteAddr)));
+        };
+
+        return AuthorizationManagers.anyOf(allowedIp, AuthorityAuthorizationManager.hasRole("ADMIN"));
+    }
 }
\ No newline at end of file
@@ -1,10 +1,16 @@
 package com.study.springflow.security.controller;
 
 import com.study.springflow.entity.Member;
+import com.study.springflow.monitoring.SecurityMetrics;
+import com.study.springflow.repository.projection.MemberDetail;
+import com.study.springflow.search.MemberAvailabilityFilter;
+import com.study.springflow.security.dto.AvailabilityResponse;
 import com.study.springflow.security.dto.LoginRequest;
 import com.study.springflow.security.dto.TokenResponse;
 import com.study.springflow.security.jwt.JwtTokenProvider;
+import com.study.springflow.service.DuplicateMemberException;
 import com.study.springflow.service.MemberService;
+import com.study.springflow.service.MemberWriteCoalescer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,16 +19,24 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * 인증 관련 API 컨트롤러
  * - 로그인, 회원가입 등 인증 관련 엔드포인트 제공
@@ -37,10 +51,15 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final MemberService memberService;
+    private final SecurityMetrics securityMetrics;
+    private final MemberAvailabilityFilter memberAvailabilityFilter;
+    // coalesce 프로필에서만 등록됨 (없으면 MemberService로 요청마다 트랜잭션)
+    private final ObjectProvider<MemberWriteCoalescer> memberWriteCoalescer;
 
     /**
      * 로그인 API
      * - 사용자 인증 후 JWT 토큰 발급
+     * - 시도/성공/실패 횟수를 메트릭으로 기록
      */
     @PostMapping("/login")
     @Operation(summary = "로그인", description = "사용자 인증 후 JWT 토큰 발급")
@@ -52,20 +71,28 @@ public class AuthController {
     public ResponseEntity<TokenResponse> login(@RequestBody LoginRequest loginRequest) {
         log.info("[AuthController] 로그인 요청: {}", loginRequest.getUsername());
 
+        securityMetrics.recordLoginAttempt();
+
         // 인증 시도
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        loginRequest.getUsername(),
-                        loginRequest.getPassword()
-                )
-        );
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            loginRequest.getUsername(),
+                            loginRequest.getPassword()
+                    )
+            );
+        } catch (AuthenticationException e) {
+            securityMetrics.recordLoginFailure();
+            throw e;
+        }
 
         // 회원 정보 조회
         Member member = memberService.findByUsername(loginRequest.getUsername())
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + loginRequest.getUsername()));
 
         // 로그인 시간 업데이트
-        memberService.updateLastLogin(member.getId());
+        recordLastLogin(member.getId());
 
         // JWT 토큰 생성
         String token = jwtTokenProvider.createToken(member.getUsername(), member.getRole().name());
@@ -77,6 +104,7 @@ public class AuthController {
                 .role(member.getRole().name())
                 .build();
 
+        securityMetrics.recordLoginSuccess();
         log.info("[AuthController] 로그인 성공: {}", member.getUsername());
         return ResponseEntity.ok(tokenResponse);
     }
@@ -89,16 +117,70 @@ public class AuthController {
     @Operation(summary = "회원가입", description = "새 회원 등록")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "회원가입 성공",
-                    content = @Content(schema = @Schema(implementation = Member.class))),
-            @ApiResponse(responseCode = "400", description = "입력값 오류 또는 중복된 사용자")
+                    content = @Content(schema = @Schema(implementation = MemberDetail.class))),
+            @ApiResponse(responseCode = "400", description = "입력값 오류"),
+            @ApiResponse(responseCode = "409", description = "이미 사용 중인 사용자명 또는 이메일 (field로 구분)")
     })
-    public ResponseEntity<Member> register(@RequestBody Member member) {
+    public ResponseEntity<?> register(@RequestBody Member member) {
         log.info("[AuthController] 회원가입 요청: {}", member.getUsername());
 
-        // 회원 등록 (MemberService에서 비밀번호 암호화)
-        Member registeredMember = memberService.register(member);
+        // 회원 등록 (MemberService에서 비밀번호 암호화, 중복은 DB 유니크 제약으로 판별)
+        Member registeredMember;
+        try {
+            registeredMember = registerMember(member);
+        } catch (DuplicateMemberException e) {
+            log.info("[AuthController] 회원가입 중복: {}", e.getField());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", e.getMessage(), "field", e.getField().name().toLowerCase(Locale.ROOT)));
+        }
 
         log.info("[AuthController] 회원가입 성공: {}", registeredMember.getUsername());
-        return ResponseEntity.ok(registeredMember);
+        // 저장한 엔티티를 그대로 직렬화하지 않고 읽기 모델로 변환 (비밀번호 해시 제외)
+        return ResponseEntity.ok(MemberDetail.from(registeredMember));
+    }
+
+    /**
+     * 회원 등록 / 로그인 시간 갱신
+     * - MemberWriteCoalescer가 있으면 다른 요청과 묶어 커밋될 때까지 기다림 (예외는 직접 호출과 동일)
+     */
+    private Member registerMember(Member member) {
+        MemberWriteCoalescer coalescer = memberWriteCoalescer.getIfAvailable();
+        return coalescer != null ? MemberWriteCoalescer.await(coalescer.register(member)) : memberService.register(member);
+    }
+
+    private void recordLastLogin(Long memberId) {
+        MemberWriteCoalescer coalescer = memberWriteCoalescer.getIfAvailable();
+        if (coalescer != null) {
+            MemberWriteCoalescer.await(coalescer.updateLastLogin(memberId));
+        } else {
+            memberService.updateLastLogin(memberId);
+        }
+    }
+
+    /**
+     * 사용자명/이메일 사용 가능 여부 API
+     * - 회원가입 폼의 입력마다 호출되는 용도
+     * - Bloom 필터에 없으면 DB 조회 없이 "사용 가능", 있을 수도 있으면 exists 쿼리로 확인
+     * - 최종 중복 검증은 회원가입 시 다시 수행됨
+     */
+    @GetMapping("/availability")
+    @Operation(summary = "사용 가능 여부 확인", description = "사용자명/이메일이 이미 사용 중인지 확인")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "확인 성공"),
+            @ApiResponse(responseCode = "400", description = "확인할 값 없음")
+    })
+    public ResponseEntity<?> checkAvailability(@RequestParam(required = false) String username,
+                                               @RequestParam(required = false) String email) {
+        boolean hasUsername = username != null && !username.isBlank();
+        boolean hasEmail = email != null && !email.isBlank();
+        if (!hasUsername && !hasEmail) {
+            return ResponseEntity.badRequest().body(Map.of("error", "username 또는 email이 필요합니다."));
+        }
+
+        AvailabilityResponse response = AvailabilityResponse.builder()
+                .usernameAvailable(hasUsername ? memberAvailabilityFilter.isUsernameAvailable(username) : null)
+                .emailAvailable(hasEmail ? memberAvailabilityFilter.isEmailAvailable(email) : null)
+                .build();
+        return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package com.study.springflow.security.crypto;
+
+import com.study.springflow.monitoring.SecurityMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 실제 인코더(BCrypt)에 위임하면서 연산 시간을 측정하는 PasswordEncoder 데코레이터
+ * - register / login / changePassword 비용의 대부분이 BCrypt이므로 별도 타이머로 분리
+ */
+@RequiredArgsConstructor
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final SecurityMetrics securityMetrics;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return securityMetrics.timeBcryptEncode(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return securityMetrics.timeBcryptMatches(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -1,5 +1,6 @@
 package com.study.springflow.security.jwt;
 
+import com.study.springflow.monitoring.SecurityMetrics;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -36,6 +37,7 @@ public class JwtTokenProvider {
     private Key key;
 
     private final UserDetailsService userDetailsService;
+    private final SecurityMetrics securityMetrics;
 
     /**
      * 빈 초기화 시 시크릿 키를 이용해 암호화 키 생성
@@ -110,6 +112,7 @@ public class JwtTokenProvider {
 
     /**
      * 토큰 유효성 검증
+     * - 검증 결과(valid / expired / invalid)를 메트릭으로 기록
      * @param token JWT 토큰
      * @return 유효성 여부
      */
@@ -119,9 +122,15 @@ public class JwtTokenProvider {
                     .setSigningKey(key)
                     .build()
                     .parseClaimsJws(token);
+            securityMetrics.recordJwtValid();
             return true;
+        } catch (ExpiredJwtException e) {
+            log.error("[JwtTokenProvider] 만료된 JWT 토큰: {}", e.getMessage());
+            securityMetrics.recordJwtExpired();
+            return false;
         } catch (JwtException | IllegalArgumentException e) {
             log.error("[JwtTokenProvider] 유효하지 않은 JWT 토큰: {}", e.getMessage());
+            securityMetrics.recordJwtInvalid();
             return false;
         }
     }
@@ -1,7 +1,9 @@
 package com.study.springflow.security.service;
 
+import com.study.springflow.datasource.Workload;
+import com.study.springflow.datasource.WorkloadClass;
 import com.study.springflow.entity.Member;
-import com.study.springflow.repository.MemberRepository;
+import com.study.springflow.repository.MemberStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -24,7 +26,7 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
-    private final MemberRepository memberRepository;
+    private final MemberStore memberStore; // 기본 JPA, sharded 프로필이면 샤딩 저장소
 
     /**
      * 사용자명으로 사용자 상세 정보 조회
@@ -33,11 +35,12 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      * @throws UsernameNotFoundException 사용자를 찾을 수 없는 경우
      */
     @Override
+    @Workload(WorkloadClass.AUTH)
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.info("[UserDetailsService] 사용자 인증 정보 조회: {}", username);
 
-        return memberRepository.findByUsername(username)
+        return memberStore.findByUsername(username)
                 .map(this::createUserDetails)
                 .orElseThrow(() -> {
                     log.error("[UserDetailsService] 사용자를 찾을 수 없음: {}", username);
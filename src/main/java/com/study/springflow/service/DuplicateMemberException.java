@@ -0,0 +1,24 @@
+package com.study.springflow.service;
+
+/**
+ * 회원 유니크 제약(사용자명/이메일) 위반
+ * - 사전 조회 없이 INSERT한 뒤 DB가 거부한 제약 이름으로 어느 필드가 중복인지 판별
+ * - 기존 호출 측이 중복을 IllegalArgumentException으로 처리하므로 그 하위 타입으로 둠
+ */
+public class DuplicateMemberException extends IllegalArgumentException {
+
+    public enum Field {
+        USERNAME, EMAIL
+    }
+
+    private final Field field;
+
+    public DuplicateMemberException(Field field, String message, Throwable cause) {
+        super(message, cause);
+        this.field = field;
+    }
+
+    public Field getField() {
+        return field;
+    }
+}
@@ -0,0 +1,331 @@
+package com.study.springflow.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.springflow.dto.BulkChangeResponse;
+import com.study.springflow.dto.BulkMemberChangeRequest;
+import com.study.springflow.dto.BulkMemberRequest;
+import com.study.springflow.dto.BulkRegisterResponse;
+import com.study.springflow.dto.BulkRegisterResult;
+import com.study.springflow.entity.Member;
+import com.study.springflow.repository.projection.MemberIdentity;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * 대량 회원 등록 서비스
+ * - 요청 본문(JSON 배열)을 스트리밍 파서로 읽으면서 chunk-size 단위로 처리 → 배열 전체를 메모리에 올리지 않음
+ * - 청크마다:
+ *   1. 필수값 검증 + 청크 내부 중복 제거
+ *   2. 사용자명/이메일 중복을 IN 쿼리 한 번으로 확인
+ *   3. 남은 항목의 BCrypt를 전용 스레드 풀에서 병렬 계산 (트랜잭션 밖 → DB 커넥션을 잡고 해싱하지 않음)
+ *   4. MemberService.registerAll 트랜잭션 한 번으로 배치 INSERT
+ * - 이전 청크는 이미 커밋되어 있으므로 다음 청크의 중복 조회에서 함께 걸러짐
+ *
+ * 일괄 삭제 / 역할 변경
+ * - 대상 ID를 chunk-size 단위로 나눠 청크마다 DELETE/UPDATE ... WHERE id IN 한 문장 + 트랜잭션 1회
+ *   → 한 트랜잭션이 잡는 락과 언두 로그 크기를 제한
+ * - 필터 조건이면 id 오름차순 키셋으로 대상 ID를 청크 단위로 조회하며 끝까지 진행
+ * - 청크마다 커밋되므로 중간에 실패하면 앞선 청크까지만 반영됨
+ */
+@Slf4j
+@Service
+public class MemberBulkService {
+
+    private final MemberService memberService;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxItems;
+
+    // BCrypt 전용 풀: 공용 풀(ForkJoinPool.commonPool, applicationTaskExecutor)을 CPU 작업으로 점유하지 않도록 분리
+    private final ExecutorService hashExecutor;
+
+    public MemberBulkService(MemberService memberService,
+                             PasswordEncoder passwordEncoder,
+                             ObjectMapper objectMapper,
+                             @Value("${springflow.bulk.hash-threads:0}") int hashThreads,
+                             @Value("${springflow.bulk.chunk-size:500}") int chunkSize,
+                             @Value("${springflow.bulk.max-items:10000}") int maxItems) {
+        this.memberService = memberService;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.hashExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("[MemberBulkService] BCrypt 병렬 스레드: {}, 청크 크기: {}", threads, chunkSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    /**
+     * JSON 배열 스트림을 읽어 대량 등록
+     * @throws IllegalArgumentException 본문이 JSON 배열로 시작하지 않을 때
+     */
+    public BulkRegisterResponse registerAll(InputStream body) throws IOException {
+        long start = System.currentTimeMillis();
+        List<BulkRegisterResult> results = new ArrayList<>();
+        String error = null;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("요청 본문은 JSON 배열이어야 합니다.");
+            }
+
+            List<BulkMemberRequest> chunk = new ArrayList<>(chunkSize);
+            int index = 0;
+            try {
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token != JsonToken.START_OBJECT) {
+                        throw new IllegalArgumentException("배열 원소는 JSON 객체여야 합니다. (index " + index + ")");
+                    }
+                    if (index >= maxItems) {
+                        throw new IllegalArgumentException("요청당 최대 " + maxItems + "건까지 등록할 수 있습니다.");
+                    }
+                    chunk.add(objectMapper.readValue(parser, BulkMemberRequest.class));
+                    index++;
+
+                    if (chunk.size() == chunkSize) {
+                        results.addAll(processChunk(index - chunk.size(), chunk));
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                // 앞선 청크는 이미 커밋됨 → 거기까지의 결과와 함께 중단 사유를 돌려줌
+                error = e.getMessage();
+            }
+            if (!chunk.isEmpty()) {
+                results.addAll(processChunk(index - chunk.size(), chunk));
+            }
+        }
+
+        int created = (int) results.stream().filter(r -> r.getStatus() == BulkRegisterResult.Status.CREATED).count();
+        log.info("[MemberBulkService] 대량 등록 완료: 전체 {}건, 등록 {}건, {}ms",
+                results.size(), created, System.currentTimeMillis() - start);
+
+        return BulkRegisterResponse.builder()
+                .total(results.size())
+                .created(created)
+                .failed(results.size() - created)
+                .error(error)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 회원 일괄 삭제 (요청한 관리자 본인은 제외)
+     */
+    public BulkChangeResponse deleteAll(BulkMemberChangeRequest request, String requesterUsername) {
+        return applyInChunks(request, ids -> memberService.deleteAllByIds(ids, requesterUsername));
+    }
+
+    /**
+     * 회원 역할 일괄 변경 (요청한 관리자 본인은 제외, 이미 같은 역할인 회원은 변경 수에서 제외)
+     */
+    public BulkChangeResponse changeRole(BulkMemberChangeRequest request, String requesterUsername) {
+        if (request.getNewRole() == null) {
+            throw new IllegalArgumentException("newRole은 필수입니다.");
+        }
+        return applyInChunks(request, ids -> memberService.changeRoleByIds(ids, request.getNewRole(), requesterUsername));
+    }
+
+    private BulkChangeResponse applyInChunks(BulkMemberChangeRequest request, ToIntFunction<List<Long>> operation) {
+        long start = System.currentTimeMillis();
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (!hasIds && !request.hasFilter()) {
+            throw new IllegalArgumentException("ids 또는 필터 조건(role, createdBefore, lastLoginBefore)이 필요합니다.");
+        }
+
+        int affected = 0;
+        int chunks = 0;
+        if (hasIds) {
+            List<Long> ids = request.getIds().stream().distinct().toList();
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                affected += operation.applyAsInt(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+                chunks++;
+            }
+        } else {
+            long afterId = 0L;
+            while (true) {
+                List<Long> ids = memberService.findIdsByFilter(afterId, request.getRole(),
+                        request.getCreatedBefore(), request.getLastLoginBefore(), chunkSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                affected += operation.applyAsInt(ids);
+                chunks++;
+                afterId = ids.get(ids.size() - 1);
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("[MemberBulkService] 일괄 처리 완료: 반영 {}건, 청크 {}개, {}ms", affected, chunks, elapsed);
+        return BulkChangeResponse.builder()
+                .affected(affected)
+                .chunks(chunks)
+                .elapsedMs(elapsed)
+                .build();
+    }
+
+    private List<BulkRegisterResult> processChunk(int firstIndex, List<BulkMemberRequest> chunk) {
+        BulkRegisterResult[] results = new BulkRegisterResult[chunk.size()];
+
+        // 1. 필수값 검증 + 청크 내부 중복
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            BulkMemberRequest request = chunk.get(i);
+            String invalid = validate(request);
+            if (invalid != null) {
+                results[i] = failure(firstIndex + i, request, BulkRegisterResult.Status.INVALID, invalid);
+            } else if (!usernames.add(request.getUsername()) || !emails.add(Member.normalizeEmail(request.getEmail()))) {
+                results[i] = failure(firstIndex + i, request, BulkRegisterResult.Status.DUPLICATE, "요청 안에서 중복된 사용자명 또는 이메일입니다.");
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        // 2. DB 중복 확인 (쿼리 1회)
+        if (!candidates.isEmpty()) {
+            Set<String> takenUsernames = new HashSet<>();
+            Set<String> takenEmails = new HashSet<>();
+            for (MemberIdentity identity : memberService.findIdentities(usernames, emails)) {
+                takenUsernames.add(identity.getUsername());
+                takenEmails.add(identity.getEmail());
+            }
+            candidates.removeIf(i -> {
+                BulkMemberRequest request = chunk.get(i);
+                if (takenUsernames.contains(request.getUsername())) {
+                    results[i] = failure(firstIndex + i, request, BulkRegisterResult.Status.DUPLICATE, "이미 존재하는 사용자명입니다.");
+                    return true;
+                }
+                if (takenEmails.contains(Member.normalizeEmail(request.getEmail()))) {
+                    results[i] = failure(firstIndex + i, request, BulkRegisterResult.Status.DUPLICATE, "이미 사용 중인 이메일입니다.");
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        if (!candidates.isEmpty()) {
+            // 3. BCrypt 병렬 계산
+            List<CompletableFuture<Member>> futures = new ArrayList<>(candidates.size());
+            for (int i : candidates) {
+                BulkMemberRequest request = chunk.get(i);
+                futures.add(CompletableFuture.supplyAsync(() -> toMember(request), hashExecutor));
+            }
+            List<Member> members = awaitAll(futures);
+
+            // 4. 배치 INSERT (트랜잭션 1회)
+            try {
+                List<Member> saved = memberService.registerAll(members);
+                for (int k = 0; k < candidates.size(); k++) {
+                    int i = candidates.get(k);
+                    results[i] = BulkRegisterResult.builder()
+                            .index(firstIndex + i)
+                            .username(saved.get(k).getUsername())
+                            .status(BulkRegisterResult.Status.CREATED)
+                            .id(saved.get(k).getId())
+                            .build();
+                }
+            } catch (DataAccessException e) {
+                // 중복 확인 이후 다른 요청이 같은 사용자명을 먼저 저장한 경우 등 → 청크 전체 롤백
+                log.info("[MemberBulkService] 청크 저장 실패 ({}건 롤백): {}", candidates.size(), e.getMessage());
+                for (int i : candidates) {
+                    results[i] = failure(firstIndex + i, chunk.get(i), BulkRegisterResult.Status.FAILED,
+                            "저장 중 오류가 발생해 같은 청크가 롤백되었습니다.");
+                }
+            }
+        }
+
+        return List.of(results);
+    }
+
+    /**
+     * 모든 계산이 끝난 뒤 결과 수집 (하나라도 실패하면 CompletionException이 아닌 원인 예외를 던짐)
+     */
+    private static <T> List<T> awaitAll(List<CompletableFuture<T>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private Member toMember(BulkMemberRequest request) {
+        return Member.builder()
+                .username(request.getUsername())
+                .password(passwordEncoder.encode(request.getPassword()))
+                .name(request.getName())
+                .email(request.getEmail())
+                .role(request.getRole() != null ? request.getRole() : Member.MemberRole.USER)
+                .build();
+    }
+
+    private static String validate(BulkMemberRequest request) {
+        if (isBlank(request.getUsername())) {
+            return "username은 필수입니다.";
+        }
+        if (isBlank(request.getPassword())) {
+            return "password는 필수입니다.";
+        }
+        if (isBlank(request.getName())) {
+            return "name은 필수입니다.";
+        }
+        if (isBlank(request.getEmail())) {
+            return "email은 필수입니다.";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static BulkRegisterResult failure(int index, BulkMemberRequest request,
+                                              BulkRegisterResult.Status status, String message) {
+        return BulkRegisterResult.builder()
+                .index(index)
+                .username(request.getUsername())
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.study.springflow.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 회원 목록 키셋 페이지네이션 커서
+ * - 이전 페이지 마지막 행의 (createdAt, id) → 다음 페이지는 이 위치 "이후"부터 조회
+ * - 클라이언트에는 base64url 문자열로만 노출 (정렬 키 구조를 API 계약으로 만들지 않기 위함)
+ */
+public record MemberCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String PREFIX = "v1|";
+
+    public String encode() {
+        String raw = PREFIX + createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MemberCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            String[] parts = raw.substring(PREFIX.length()).split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new MemberCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException도 IllegalArgumentException 하위 타입
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
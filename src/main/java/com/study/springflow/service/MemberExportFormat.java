@@ -0,0 +1,42 @@
+package com.study.springflow.service;
+
+/**
+ * 회원 내보내기 형식
+ */
+public enum MemberExportFormat {
+
+    /**
+     * 한 줄에 JSON 객체 하나 (application/x-ndjson)
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * 헤더 행 + RFC 4180 인용 규칙 CSV (text/csv)
+     */
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    MemberExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static MemberExportFormat from(String value) {
+        for (MemberExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value + " (ndjson, csv)");
+    }
+}
@@ -0,0 +1,142 @@
+package com.study.springflow.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.springflow.datasource.Workload;
+import com.study.springflow.datasource.WorkloadClass;
+import com.study.springflow.repository.projection.MemberExportRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 회원 전체 내보내기 서비스
+ * - 읽기 전용 트랜잭션 안에서 DB 커서(Stream)를 열고 한 행씩 바로 출력 스트림에 씀
+ *   → 목록/JSON 배열을 만들지 않으므로 1천만 행이어도 힙 사용량은 버퍼 크기 수준
+ * - 출력이 블로킹 I/O이므로 클라이언트가 느리게 읽으면 write에서 대기하고 커서도 그만큼 천천히 진행 (배압)
+ * - 클라이언트가 연결을 끊으면 IOException으로 중단되고 트랜잭션 종료 시 커서가 닫힘
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private final MemberService memberService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 회원 전체를 지정한 형식으로 출력
+     * @return 출력한 행 수
+     */
+    @Workload(WorkloadClass.ADMIN) // 응답 스트리밍은 비동기 스레드에서 실행되어 요청 경로의 분류가 전달되지 않음
+    @Transactional(readOnly = true)
+    public long export(MemberExportFormat format, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        long rows;
+        try (Stream<MemberExportRow> stream = memberService.streamAllForExport()) {
+            Iterator<MemberExportRow> iterator = stream.iterator();
+            rows = switch (format) {
+                case NDJSON -> writeNdjson(iterator, writer);
+                case CSV -> writeCsv(iterator, writer);
+            };
+        }
+        writer.flush();
+
+        log.info("[MemberExportService] 회원 내보내기 완료: format={}, rows={}, {}ms",
+                format, rows, System.currentTimeMillis() - start);
+        return rows;
+    }
+
+    private long writeNdjson(Iterator<MemberExportRow> rows, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null); // 기본 구분자(공백) 대신 행마다 줄바꿈을 직접 씀
+
+        long count = 0;
+        while (rows.hasNext()) {
+            MemberExportRow row = rows.next();
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.getId());
+            generator.writeStringField("username", row.getUsername());
+            generator.writeStringField("name", row.getName());
+            generator.writeStringField("email", row.getEmail());
+            generator.writeStringField("role", row.getRole().name());
+            generator.writeStringField("createdAt", format(row.getCreatedAt()));
+            generator.writeStringField("lastLoginAt", format(row.getLastLoginAt()));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<MemberExportRow> rows, Writer writer) throws IOException {
+        writer.write("id,username,name,email,role,createdAt,lastLoginAt\r\n");
+
+        long count = 0;
+        while (rows.hasNext()) {
+            MemberExportRow row = rows.next();
+            writer.write(String.valueOf(row.getId()));
+            writer.write(',');
+            writeCsvField(writer, row.getUsername());
+            writer.write(',');
+            writeCsvField(writer, row.getName());
+            writer.write(',');
+            writeCsvField(writer, row.getEmail());
+            writer.write(',');
+            writer.write(row.getRole().name());
+            writer.write(',');
+            writeCsvField(writer, format(row.getCreatedAt()));
+            writer.write(',');
+            writeCsvField(writer, format(row.getLastLoginAt()));
+            writer.write("\r\n");
+
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 쉼표/따옴표/줄바꿈이 있으면 큰따옴표로 감싸고 내부 따옴표는 두 번 씀 (RFC 4180)
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String format(LocalDateTime value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -1,101 +1,313 @@
 package com.study.springflow.service;
 
+import com.study.springflow.datasource.Workload;
+import com.study.springflow.datasource.WorkloadClass;
+import com.study.springflow.dto.MemberPageResponse;
+import com.study.springflow.dto.MemberSearchResponse;
 import com.study.springflow.entity.Member;
-import com.study.springflow.repository.MemberRepository;
+import com.study.springflow.repository.MemberStore;
+import com.study.springflow.repository.projection.MemberDetail;
+import com.study.springflow.repository.projection.MemberExportRow;
+import com.study.springflow.repository.projection.MemberIdentity;
+import com.study.springflow.repository.projection.MemberKey;
+import com.study.springflow.repository.projection.MemberName;
+import com.study.springflow.repository.projection.MemberSummary;
+import com.study.springflow.repository.projection.MemberVersion;
+import com.study.springflow.search.TrigramIndex;
+import com.study.springflow.service.event.MemberBulkChangeEvent;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 회원 서비스 클래스 (시큐리티 기능 추가)
  * - 비즈니스 로직 처리
  * - 트랜잭션 관리 (@Transactional)
  * - 비밀번호 암호화 기능 추가
+ * - 메서드별 실행 시간 메트릭 (springflow.member.service)
+ * - 회원 읽기/쓰기는 MemberStore로 보냄 (기본 JpaMemberStore, sharded 프로필이면 ShardedMemberStore)
+ * - 단건 변경 이벤트(MemberChangeEvent)는 저장소가, 벌크 변경 이벤트(MemberBulkChangeEvent)는 여기서 발행
  */
 @Slf4j
 @Service
+@Timed(value = "springflow.member.service", description = "MemberService 메서드 실행 시간")
 @RequiredArgsConstructor
 public class MemberService {
 
-    private final MemberRepository memberRepository;
+    private final MemberStore memberStore;
     private final PasswordEncoder passwordEncoder; // 비밀번호 암호화를 위한 인코더 추가
+    private final ApplicationEventPublisher eventPublisher;
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // 생성일 범위가 지정되지 않았을 때 사용하는 경계값 (범위 조건을 항상 걸어 인덱스 범위 스캔 유지)
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
 
     /**
      * 회원 가입 서비스
      * - 트랜잭션 관리 (실패 시 롤백)
      * - 비밀번호 암호화 처리
+     * - 중복 확인용 사전 조회 없이 INSERT 한 번으로 처리: 유니크 제약(username, 정규화된 email)이 중복을 막고
+     *   위반 시 제약 이름으로 DuplicateMemberException 변환 → 동시 가입에서도 조회-후-저장 경쟁이 없음
      */
+    @Workload(WorkloadClass.AUTH)
     @Transactional
     public Member register(Member member) {
         log.info("[MemberService] 회원 가입 시작: {}", member.getUsername());
 
-        // 중복 사용자 검증
-        if (memberRepository.findByUsername(member.getUsername()).isPresent()) {
-            throw new IllegalArgumentException("이미 존재하는 사용자명입니다: " + member.getUsername());
-        }
-
-        // 중복 이메일 검증
-        if (memberRepository.findByEmail(member.getEmail()).isPresent()) {
-            throw new IllegalArgumentException("이미 사용 중인 이메일입니다: " + member.getEmail());
-        }
-
         // 비밀번호 암호화 처리
         member.setPassword(passwordEncoder.encode(member.getPassword()));
 
-        // 회원 저장
-        member.setCreatedAt(LocalDateTime.now());
-        Member savedMember = memberRepository.save(member);
-
+        Member savedMember = insert(member);
         log.info("[MemberService] 회원 가입 완료: {}", savedMember.getId());
         return savedMember;
     }
 
+    /**
+     * 비밀번호 암호화가 끝난 회원 1건 저장
+     * - MemberWriteCoalescer가 묶음 트랜잭션이 실패했을 때 요청별로 다시 실행하는 경로 (BCrypt는 호출 스레드에서 계산됨)
+     */
+    @Workload(WorkloadClass.AUTH)
+    @Transactional
+    public Member registerEncoded(Member member) {
+        return insert(member);
+    }
+
+    // 회원 저장 (INSERT를 즉시 실행해 제약 위반을 여기서 받음)
+    private Member insert(Member member) {
+        member.setCreatedAt(LocalDateTime.now());
+        return memberStore.insert(member);
+    }
+
+    /**
+     * 회원 일괄 저장 (대량 등록용)
+     * - 중복 검증과 비밀번호 암호화는 호출 측(MemberBulkService)에서 트랜잭션 밖에서 끝낸 상태
+     * - 시퀀스 ID + hibernate.jdbc.batch_size로 INSERT가 배치 실행됨
+     */
+    @Workload(WorkloadClass.ADMIN)
+    @Transactional
+    public List<Member> registerAll(List<Member> members) {
+        log.info("[MemberService] 회원 일괄 저장 시작: {}건", members.size());
+
+        List<Member> savedMembers = memberStore.insertAll(members);
+
+        log.info("[MemberService] 회원 일괄 저장 완료: {}건", savedMembers.size());
+        return savedMembers;
+    }
+
     /**
      * 회원 조회 서비스 (읽기 전용 트랜잭션)
      */
     @Transactional(readOnly = true)
     public Optional<Member> findById(Long id) {
         log.info("[MemberService] ID로 회원 조회: {}", id);
-        return memberRepository.findById(id);
+        return loadById(id);
     }
 
     /**
      * 사용자명으로 회원 조회
      */
+    @Workload(WorkloadClass.AUTH)
     @Transactional(readOnly = true)
     public Optional<Member> findByUsername(String username) {
         log.info("[MemberService] 사용자명으로 회원 조회: {}", username);
-        return memberRepository.findByUsername(username);
+        return loadByUsername(username);
     }
 
     /**
-     * 관리자 역할 회원 목록 조회
+     * 회원 상세 읽기 모델 조회 (응답용)
+     * - 2차 캐시(id → 엔티티)에 적중하면 SQL 없이 변환
+     * - 읽기 전용 트랜잭션이라 로드한 엔티티의 스냅샷/더티 체킹이 없음
      */
     @Transactional(readOnly = true)
-    public List<Member> findAdmins() {
+    public Optional<MemberDetail> findDetailById(Long id) {
+        log.info("[MemberService] ID로 회원 상세 조회: {}", id);
+        return loadById(id).map(MemberDetail::from);
+    }
+
+    /**
+     * 사용자명으로 회원 상세 읽기 모델 조회 (natural-id 캐시 → 2차 캐시)
+     */
+    @Transactional(readOnly = true)
+    public Optional<MemberDetail> findDetailByUsername(String username) {
+        log.info("[MemberService] 사용자명으로 회원 상세 조회: {}", username);
+        return loadByUsername(username).map(MemberDetail::from);
+    }
+
+    /**
+     * 관리자 역할 회원 목록 조회 (id 순)
+     */
+    @Transactional(readOnly = true)
+    public List<MemberDetail> findAdmins() {
         log.info("[MemberService] 관리자 목록 조회");
-        return memberRepository.findByRole(Member.MemberRole.ADMIN);
+        return memberStore.findDetailsByRole(Member.MemberRole.ADMIN);
+    }
+
+    /**
+     * 회원 목록 키셋 페이지 조회
+     * - size + 1건을 조회해서 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+     * - 마지막 행의 (createdAt, id)를 다음 커서로 반환
+     */
+    @Transactional(readOnly = true)
+    public MemberPageResponse findPage(Member.MemberRole role, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                       String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        LocalDateTime from = createdFrom != null ? createdFrom : MIN_CREATED_AT;
+        LocalDateTime to = createdTo != null ? createdTo : MAX_CREATED_AT;
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("createdFrom은 createdTo보다 이전이어야 합니다.");
+        }
+
+        MemberCursor position = cursor == null || cursor.isBlank() ? null : MemberCursor.decode(cursor);
+        List<MemberSummary> rows = memberStore.findSummaries(role, from, to,
+                position == null ? null : position.createdAt(), position == null ? null : position.id(), size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<MemberSummary> items = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            MemberSummary last = items.get(items.size() - 1);
+            nextCursor = new MemberCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return MemberPageResponse.builder()
+                .items(items)
+                .size(items.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 이름 LIKE 검색 (트라이그램 인덱스를 쓸 수 없을 때의 대체 경로)
+     * - 검색어의 %, _는 와일드카드가 아닌 문자로 비교, ID + 이름만 최대 limit건 조회
+     */
+    @Transactional(readOnly = true)
+    public MemberSearchResponse searchByNameInDb(String keyword, int limit) {
+        List<MemberName> names = memberStore.searchByName(escapeLike(keyword), limit);
+        List<TrigramIndex.Match> items = names.stream()
+                .map(name -> new TrigramIndex.Match(name.getId(), name.getName()))
+                .toList();
+        return MemberSearchResponse.builder().source("db").items(items).build();
+    }
+
+    // LIKE 패턴 이스케이프 (ESCAPE '\\' 기준)
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * 회원 전체를 DB 커서로 한 행씩 순회 (메모리 인덱스 초기 구축용)
+     * @return 순회한 행 수
+     */
+    @Workload(WorkloadClass.ADMIN)
+    @Transactional(readOnly = true)
+    public long scanAll(Consumer<MemberExportRow> consumer) {
+        long count = 0;
+        try (Stream<MemberExportRow> stream = streamAllForExport()) {
+            for (MemberExportRow row : (Iterable<MemberExportRow>) stream::iterator) {
+                consumer.accept(row);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 회원 전체 커서 스트림 (트랜잭션 안에서 사용 후 반드시 close)
+     * - 샤딩 저장소는 샤드 순서대로 이어 붙이므로 샤드 안에서만 id 순
+     */
+    public Stream<MemberExportRow> streamAllForExport() {
+        return memberStore.streamAll();
+    }
+
+    /**
+     * 관리자 목록의 ID + 버전 조회 (목록 ETag 계산용)
+     */
+    @Transactional(readOnly = true)
+    public List<MemberVersion> findAdminVersions() {
+        return memberStore.findVersionsByRole(Member.MemberRole.ADMIN);
+    }
+
+    /**
+     * 사용자명/이메일 존재 여부 (사용 가능 여부 확인용)
+     */
+    @Transactional(readOnly = true)
+    public boolean existsByUsername(String username) {
+        return memberStore.existsByUsername(username);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean existsByEmail(String email) {
+        return memberStore.existsByEmail(email);
+    }
+
+    @Transactional(readOnly = true)
+    public long count() {
+        return memberStore.count();
+    }
+
+    /**
+     * 사용자명 또는 이메일이 이미 있는 회원 (대량 등록 중복 확인)
+     */
+    @Transactional(readOnly = true)
+    public List<MemberIdentity> findIdentities(Collection<String> usernames, Collection<String> emails) {
+        return memberStore.findIdentities(usernames, emails);
+    }
+
+    /**
+     * 일괄 처리 대상 ID (id 오름차순 키셋)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findIdsByFilter(Long afterId, Member.MemberRole role, LocalDateTime createdBefore,
+                                      LocalDateTime lastLoginBefore, int limit) {
+        return memberStore.findIdsByFilter(afterId, role, createdBefore, lastLoginBefore, limit);
     }
 
     /**
      * 마지막 로그인 시간 업데이트
      * - 명시적 트랜잭션 관리 예시
      */
+    @Workload(WorkloadClass.AUTH)
     @Transactional
     public Member updateLastLogin(Long memberId) {
         log.info("[MemberService] 로그인 시간 업데이트: {}", memberId);
 
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다: " + memberId));
+        return updateLastLogin(memberId, LocalDateTime.now());
+    }
+
+    /**
+     * 여러 회원의 로그인 시간을 한 트랜잭션에서 갱신 (MemberWriteCoalescer 묶음 커밋용)
+     * - 로그인 직후라 대부분 2차 캐시에서 조회됨, UPDATE는 변경 컬럼만(@DynamicUpdate) JDBC 배치로 실행
+     * - 없는 회원이 있으면 IllegalArgumentException → 호출 측이 요청별로 다시 실행
+     */
+    @Workload(WorkloadClass.AUTH)
+    @Transactional
+    public List<Member> updateLastLoginAll(Map<Long, LocalDateTime> loginTimes) {
+        List<Member> members = new ArrayList<>(loginTimes.size());
+        loginTimes.forEach((memberId, loginAt) -> members.add(updateLastLogin(memberId, loginAt)));
+        return members;
+    }
 
-        member.setLastLoginAt(LocalDateTime.now());
-        return memberRepository.save(member);
+    private Member updateLastLogin(Long memberId, LocalDateTime loginAt) {
+        return memberStore.updateLastLogin(memberId, loginAt)
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다: " + memberId));
     }
 
     /**
@@ -106,7 +318,11 @@ public class MemberService {
     public void delete(Long memberId, boolean simulateError) {
         log.info("[MemberService] 회원 삭제 시작: {}", memberId);
 
-        memberRepository.deleteById(memberId);
+        // 샤드 DB처럼 이 트랜잭션과 함께 롤백되지 않는 저장소면 오류를 삭제 전에 발생시켜 결과를 맞춤
+        if (simulateError && !memberStore.joinsTransaction()) {
+            throw new RuntimeException("회원 삭제 중 의도적 오류 발생 (롤백 테스트)");
+        }
+        memberStore.deleteById(memberId);
 
         // 트랜잭션 롤백 테스트를 위한 의도적 예외 발생
         if (simulateError) {
@@ -117,6 +333,43 @@ public class MemberService {
         log.info("[MemberService] 회원 삭제 완료: {}", memberId);
     }
 
+    /**
+     * 회원 일괄 삭제 (청크 하나)
+     * - 대상 행을 잠그며 실제로 지울 ID를 확정한 뒤 DELETE ... WHERE id IN (...) 한 문장으로 처리, 청크마다 별도 트랜잭션
+     * - 변경 이벤트에는 실제로 삭제된 회원의 ID/사용자명/이메일만 담음 (요청한 관리자 본인, 없는 ID 제외)
+     * @return 삭제된 행 수
+     */
+    @Workload(WorkloadClass.ADMIN)
+    @Transactional
+    public int deleteAllByIds(List<Long> ids, String protectedUsername) {
+        List<MemberKey> deleted = memberStore.deleteByIdIn(ids, protectedUsername);
+        if (!deleted.isEmpty()) {
+            eventPublisher.publishEvent(MemberBulkChangeEvent.deleted(deleted.stream()
+                    .map(member -> new MemberBulkChangeEvent.DeletedMember(
+                            member.getId(), member.getUsername(), member.getEmail()))
+                    .toList()));
+        }
+        log.info("[MemberService] 회원 일괄 삭제: 대상 {}건, 삭제 {}건", ids.size(), deleted.size());
+        return deleted.size();
+    }
+
+    /**
+     * 회원 역할 일괄 변경 (청크 하나)
+     * - UPDATE ... SET role WHERE id IN (...) 한 문장으로 처리, 버전도 함께 증가
+     * - 변경 이벤트에는 실제로 역할이 바뀐 ID만 담음
+     * @return 변경된 행 수
+     */
+    @Workload(WorkloadClass.ADMIN)
+    @Transactional
+    public int changeRoleByIds(List<Long> ids, Member.MemberRole newRole, String protectedUsername) {
+        List<Long> updated = memberStore.updateRoleByIdIn(ids, newRole, protectedUsername);
+        if (!updated.isEmpty()) {
+            eventPublisher.publishEvent(MemberBulkChangeEvent.roleChanged(updated));
+        }
+        log.info("[MemberService] 회원 역할 일괄 변경: 대상 {}건, 변경 {}건 → {}", ids.size(), updated.size(), newRole);
+        return updated.size();
+    }
+
     /**
      * 회원 비밀번호 변경
      * - 기존 비밀번호 확인 후 새 비밀번호로 변경
@@ -125,7 +378,7 @@ public class MemberService {
     public Member changePassword(Long memberId, String currentPassword, String newPassword) {
         log.info("[MemberService] 비밀번호 변경 시작: {}", memberId);
 
-        Member member = memberRepository.findById(memberId)
+        Member member = loadById(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다: " + memberId));
 
         // 현재 비밀번호 확인
@@ -135,9 +388,17 @@ public class MemberService {
 
         // 새 비밀번호 암호화 후 저장
         member.setPassword(passwordEncoder.encode(newPassword));
-        Member updatedMember = memberRepository.save(member);
+        Member updatedMember = memberStore.updatePassword(member);
 
         log.info("[MemberService] 비밀번호 변경 완료: {}", memberId);
         return updatedMember;
     }
-}
\ No newline at end of file
+
+    private Optional<Member> loadById(Long id) {
+        return memberStore.findById(id);
+    }
+
+    private Optional<Member> loadByUsername(String username) {
+        return memberStore.findByUsername(username);
+    }
+}
@@ -0,0 +1,290 @@
+package com.study.springflow.service;
+
+import com.study.springflow.datasource.WorkloadClass;
+import com.study.springflow.datasource.WorkloadContext;
+import com.study.springflow.entity.Member;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 동시 쓰기 요청 묶음 커밋 (group commit, coalesce 프로필)
+ * - 회원가입(register) / 로그인 시간 갱신(updateLastLogin)을 큐에 넣고 전용 스레드 하나가 모아서 처리
+ * - 첫 요청이 들어온 뒤 max-wait 동안(또는 max-batch건까지) 들어온 요청을 트랜잭션 한 번 + JDBC 배치로 반영
+ *   → 요청마다 치르던 커밋·커넥션 획득·락 경합을 배치당 한 번으로 줄이는 대신, 요청마다 최대 max-wait만큼 지연
+ *   → max-wait 0이면 기다리지 않고, 앞 배치를 커밋하는 동안 쌓인 요청만 묶음
+ * - 결과는 요청별 CompletableFuture로 전달 (await()로 기다리면 실패 원인 예외를 그대로 다시 던짐)
+ *   → await-timeout 안에 처리되지 않으면 future는 TimeoutException으로 끝나고, 아직 큐에 있던 요청은 실행하지 않음
+ * - 배치 트랜잭션이 실패하면(중복 가입, 낙관적 락 충돌 등) 전체를 롤백하고 요청마다 개별 트랜잭션으로 다시 실행
+ *   → 실패한 요청만 예외(DuplicateMemberException 등)를 받고 나머지는 정상 완료
+ * - BCrypt는 호출 스레드에서 계산한 뒤 큐에 넣음 (쓰기 스레드는 DB 작업만 수행)
+ * - 큐가 가득 찼거나 종료된 뒤, 쓰기 스레드가 살아 있지 않을 때는 호출 스레드에서 바로 개별 트랜잭션으로 실행
+ * - 배치 처리 중 Error(OOM 등)가 나도 그 배치의 요청만 실패 처리하고 쓰기 스레드는 계속 동작
+ * - 종료(close) 시 새 요청은 받지 않고, 이미 큐에 들어간 요청은 쓰기 스레드가 모두 커밋한 뒤 끝남
+ */
+@Slf4j
+public class MemberWriteCoalescer implements AutoCloseable {
+
+    // 큐가 빈 동안에도 이 간격으로 깨어나 종료 여부 확인 (인터럽트 없이 종료하기 위함)
+    private static final long IDLE_POLL_MS = 100;
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    private final MemberService memberService;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxWaitNanos;
+    private final int maxBatch;
+    private final long awaitTimeoutMs;
+    private final BlockingQueue<WriteRequest> queue;
+
+    private final DistributionSummary batchSize;
+    private final Counter committedBatches;
+    private final Counter splitBatches;
+
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public MemberWriteCoalescer(MemberService memberService,
+                                PasswordEncoder passwordEncoder,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry registry,
+                                long maxWaitMs,
+                                int maxBatch,
+                                int queueCapacity,
+                                long awaitTimeoutMs) {
+        this.memberService = memberService;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.maxBatch = maxBatch;
+        this.awaitTimeoutMs = awaitTimeoutMs;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        this.batchSize = DistributionSummary.builder("springflow.member.write.batch.size")
+                .description("묶음 커밋 1회에 포함된 쓰기 요청 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.committedBatches = Counter.builder("springflow.member.write.batches")
+                .description("묶음 커밋 결과 (split: 실패 후 요청별 재실행)")
+                .tag("result", "committed")
+                .register(registry);
+        this.splitBatches = Counter.builder("springflow.member.write.batches")
+                .description("묶음 커밋 결과 (split: 실패 후 요청별 재실행)")
+                .tag("result", "split")
+                .register(registry);
+        Gauge.builder("springflow.member.write.queue", queue, BlockingQueue::size)
+                .description("묶음 커밋 대기 중인 쓰기 요청 수")
+                .register(registry);
+
+        this.writer = new Thread(this::run, "member-write-coalescer");
+        this.writer.setDaemon(true);
+        log.info("[MemberWriteCoalescer] 최대 대기: {}ms, 최대 배치: {}건, 큐 용량: {}건, 결과 대기 제한: {}ms",
+                maxWaitMs, maxBatch, queueCapacity, awaitTimeoutMs);
+    }
+
+    public void start() {
+        writer.start();
+    }
+
+    /**
+     * 회원가입 요청 (비밀번호는 여기서 암호화)
+     */
+    public CompletableFuture<Member> register(Member member) {
+        member.setPassword(passwordEncoder.encode(member.getPassword()));
+        return submit(new Registration(member, new CompletableFuture<>()));
+    }
+
+    /**
+     * 로그인 시간 갱신 요청 (호출 시각을 로그인 시간으로 기록)
+     */
+    public CompletableFuture<Member> updateLastLogin(Long memberId) {
+        return submit(new LastLogin(memberId, LocalDateTime.now(), new CompletableFuture<>()));
+    }
+
+    /**
+     * 결과 대기 (실패 시 원인 예외를 그대로 던짐 → 호출 측은 직접 호출할 때와 같은 예외를 처리)
+     * - register/updateLastLogin이 돌려준 future는 await-timeout이 지나면 실패로 끝나므로 무한정 막히지 않음
+     * @throws IllegalStateException 제한 시간 안에 처리되지 않음
+     */
+    public static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof TimeoutException timeout) {
+                throw new IllegalStateException("쓰기 묶음 처리 대기 시간이 초과되었습니다.", timeout);
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Member> submit(WriteRequest request) {
+        if (!running || !writer.isAlive() || !queue.offer(request)) {
+            writeAlone(request);
+        } else if (!running && queue.remove(request)) {
+            // close()가 큐를 비운 뒤에 들어간 요청
+            writeAlone(request);
+        }
+        // 시간 초과 시 큐에서 빼서 실행되지 않게 함 (이미 쓰기 스레드가 꺼낸 요청은 결과와 무관하게 실행될 수 있음)
+        return request.result()
+                .orTimeout(awaitTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((member, e) -> {
+                    if (e instanceof TimeoutException && queue.remove(request)) {
+                        log.warn("[MemberWriteCoalescer] {}ms 안에 처리되지 않아 대기 요청 취소", awaitTimeoutMs);
+                    }
+                });
+    }
+
+    private void run() {
+        List<WriteRequest> batch = new ArrayList<>(maxBatch);
+        // 종료 후에도 큐가 빌 때까지 계속 처리
+        while (running || !queue.isEmpty()) {
+            try {
+                WriteRequest first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    WriteRequest next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                // 외부 인터럽트(JVM 종료 등): 모으던 요청은 실행하지 않고 실패 처리 (close()가 큐에 남은 요청도 처리)
+                batch.forEach(request -> request.result().completeExceptionally(closedException()));
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable e) {
+                // Error도 여기서 받아 배치만 실패 처리 (쓰기 스레드가 죽으면 이후 요청이 큐에서 영영 처리되지 않음)
+                log.error("[MemberWriteCoalescer] 배치 처리 오류: {}", e.getMessage(), e);
+                batch.forEach(request -> request.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<WriteRequest> batch) {
+        batchSize.record(batch.size());
+        if (batch.size() == 1) {
+            writeAlone(batch.get(0));
+            return;
+        }
+
+        List<Registration> registrations = new ArrayList<>();
+        Map<Long, LocalDateTime> loginTimes = new LinkedHashMap<>();
+        Map<Long, List<LastLogin>> loginsByMember = new HashMap<>();
+        for (WriteRequest request : batch) {
+            if (request instanceof Registration registration) {
+                registrations.add(registration);
+            } else if (request instanceof LastLogin login) {
+                // 같은 회원의 로그인이 여러 번이면 가장 늦은 시간 한 번만 기록
+                loginTimes.merge(login.memberId(), login.loginAt(), (a, b) -> a.isAfter(b) ? a : b);
+                loginsByMember.computeIfAbsent(login.memberId(), id -> new ArrayList<>()).add(login);
+            }
+        }
+
+        WorkloadClass previous = WorkloadContext.set(WorkloadClass.AUTH);
+        try {
+            List<List<Member>> written = transactionTemplate.execute(status -> List.of(
+                    registrations.isEmpty() ? List.of()
+                            : memberService.registerAll(registrations.stream().map(Registration::member).toList()),
+                    loginTimes.isEmpty() ? List.of() : memberService.updateLastLoginAll(loginTimes)));
+            // 결과 전달 전에 기록 (future가 완료된 시점에는 커밋 결과가 메트릭에 반영되어 있도록)
+            committedBatches.increment();
+
+            List<Member> saved = written.get(0);
+            for (int i = 0; i < registrations.size(); i++) {
+                registrations.get(i).result().complete(saved.get(i));
+            }
+            for (Member member : written.get(1)) {
+                loginsByMember.get(member.getId()).forEach(login -> login.result().complete(member));
+            }
+        } catch (RuntimeException e) {
+            splitBatches.increment();
+            log.info("[MemberWriteCoalescer] 배치 {}건 롤백, 요청별로 다시 실행: {}", batch.size(), e.getMessage());
+            batch.forEach(this::writeAlone);
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    /**
+     * 요청 1건을 자체 트랜잭션으로 실행하고 결과/예외를 해당 future에 전달
+     */
+    private void writeAlone(WriteRequest request) {
+        try {
+            if (request instanceof Registration registration) {
+                Member member = registration.member();
+                // 롤백된 배치에서 부여된 ID/버전 제거 (남아 있으면 신규가 아닌 병합 대상으로 취급됨)
+                member.setId(null);
+                member.setVersion(null);
+                registration.result().complete(memberService.registerEncoded(member));
+            } else if (request instanceof LastLogin login) {
+                login.result().complete(
+                        memberService.updateLastLoginAll(Map.of(login.memberId(), login.loginAt())).get(0));
+            }
+        } catch (RuntimeException e) {
+            request.result().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 새 요청 접수를 멈추고, 큐에 남은 요청을 쓰기 스레드가 모두 처리할 때까지 대기
+     * - 처리 중인 배치를 인터럽트하지 않음 (트랜잭션 도중 끊기면 이미 받은 요청이 실패로 끝남)
+     * - 제한 시간 안에 끝나지 않으면 남은 요청만 실패 처리
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(CLOSE_TIMEOUT_SECONDS));
+        if (writer.isAlive()) {
+            log.warn("[MemberWriteCoalescer] {}초 안에 대기 요청을 모두 처리하지 못함: 남은 {}건 실패 처리",
+                    CLOSE_TIMEOUT_SECONDS, queue.size());
+        }
+        List<WriteRequest> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(request -> request.result().completeExceptionally(closedException()));
+    }
+
+    private static IllegalStateException closedException() {
+        return new IllegalStateException("쓰기 묶음 처리기가 종료되었습니다.");
+    }
+
+    private sealed interface WriteRequest permits Registration, LastLogin {
+        CompletableFuture<Member> result();
+    }
+
+    private record Registration(Member member, CompletableFuture<Member> result) implements WriteRequest {
+    }
+
+    private record LastLogin(Long memberId, LocalDateTime loginAt, CompletableFuture<Member> result)
+            implements WriteRequest {
+    }
+}
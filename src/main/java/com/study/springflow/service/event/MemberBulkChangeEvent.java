@@ -0,0 +1,34 @@
+package com.study.springflow.service.event;
+
+import java.util.List;
+
+/**
+ * 일괄 DML로 회원이 삭제/변경되었음을 알리는 이벤트
+ * - 벌크 DELETE/UPDATE는 영속성 컨텍스트와 엔티티 콜백을 거치지 않으므로
+ *   회원 정보를 따로 들고 있는 캐시/인덱스는 이 이벤트로 무효화해야 함
+ * - 청크 트랜잭션 안에서 발행 → 커밋 이후 처리는 @TransactionalEventListener(AFTER_COMMIT) 사용
+ * - 변경된 회원이 없는 청크는 발행하지 않음
+ * @param type 변경 종류
+ * @param ids 해당 청크에서 실제로 삭제/역할 변경된 회원 ID (요청했지만 없거나 제외된 ID, 이미 같은 역할인 ID는 포함하지 않음)
+ * @param deleted 삭제된 회원의 사용자명/이메일 (ids와 같은 순서, ROLE_CHANGED는 빈 목록)
+ */
+public record MemberBulkChangeEvent(Type type, List<Long> ids, List<DeletedMember> deleted) {
+
+    public enum Type {
+        DELETED, ROLE_CHANGED
+    }
+
+    /**
+     * 삭제된 회원 (키로 찾는 인덱스가 ID → 키 매핑을 따로 들고 있지 않아도 지울 수 있도록)
+     */
+    public record DeletedMember(Long id, String username, String email) {
+    }
+
+    public static MemberBulkChangeEvent deleted(List<DeletedMember> deleted) {
+        return new MemberBulkChangeEvent(Type.DELETED, deleted.stream().map(DeletedMember::id).toList(), deleted);
+    }
+
+    public static MemberBulkChangeEvent roleChanged(List<Long> ids) {
+        return new MemberBulkChangeEvent(Type.ROLE_CHANGED, ids, List.of());
+    }
+}
@@ -0,0 +1,13 @@
+package com.study.springflow.service.event;
+
+/**
+ * 회원 한 건이 생성/수정/삭제되었음을 알리는 이벤트 (MemberEntityListener가 발행)
+ * - 엔티티 콜백은 flush 시점(커밋 전)에 호출되므로 메모리 인덱스는
+ *   @TransactionalEventListener(AFTER_COMMIT)로 받아 롤백된 변경을 반영하지 않도록 함
+ */
+public record MemberChangeEvent(Type type, Long id, String username, String name, String email) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
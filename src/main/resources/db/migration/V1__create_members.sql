@@ -0,0 +1,20 @@
+-- 회원 테이블 초기 스키마 (Member 엔티티 매핑과 일치해야 함: h2file 프로필은 ddl-auto: validate)
+CREATE SEQUENCE members_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE members (
+    created_at    TIMESTAMP(6)            NOT NULL,
+    id            BIGINT                  NOT NULL,
+    last_login_at TIMESTAMP(6),
+    version       BIGINT,
+    email         VARCHAR(255)            NOT NULL,
+    name          VARCHAR(255)            NOT NULL,
+    password      VARCHAR(255)            NOT NULL,
+    username      VARCHAR(255)            NOT NULL,
+    role          ENUM ('ADMIN', 'USER')  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_members_username UNIQUE (username),
+    CONSTRAINT uk_members_email UNIQUE (email)
+);
+
+CREATE INDEX idx_members_created_at_id ON members (created_at, id);
+CREATE INDEX idx_members_role_created_at ON members (role, created_at DESC, id DESC);
@@ -0,0 +1,4 @@
+-- 역할별 키셋 페이지의 커서 조건(created_at <= ?)을 인덱스 탐색 시작점으로 쓰도록 오름차순 인덱스로 교체
+-- (H2는 DESC 컬럼의 범위 조건으로 탐색을 시작하지 못해 해당 역할의 최신 행부터 커서 위치까지 다시 읽음)
+DROP INDEX idx_members_role_created_at;
+CREATE INDEX idx_members_role_created_at ON members (role, created_at, id);
@@ -0,0 +1,104 @@
+package com.study.springflow.aop;
+
+import com.study.springflow.controller.HelloController;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.runtime.reflect.Factory;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+
+class AspectSwitchRegistryTest {
+
+	private final Method hello = method("hello");
+
+	@Test
+	void 기본값이_적용된다() {
+		AspectSwitchRegistry registry = new AspectSwitchRegistry(false, true);
+
+		assertThat(registry.isEnabled(SwitchableAspect.LOG, hello)).isFalse();
+		assertThat(registry.isEnabled(SwitchableAspect.TRANSACTION_LOG, hello)).isTrue();
+	}
+
+	@Test
+	void 나중에_추가된_규칙이_우선하고_이미_호출된_메서드에도_반영된다() {
+		AspectSwitchRegistry registry = new AspectSwitchRegistry(false, true);
+		assertThat(registry.isEnabled(SwitchableAspect.LOG, hello)).isFalse();
+
+		registry.addRule(new AspectSwitchRule(SwitchableAspect.LOG, "com.study.springflow.controller.*", true));
+		assertThat(registry.isEnabled(SwitchableAspect.LOG, hello)).isTrue();
+
+		registry.addRule(new AspectSwitchRule(SwitchableAspect.LOG, "*.HelloController.hello", false));
+		assertThat(registry.isEnabled(SwitchableAspect.LOG, hello)).isFalse();
+
+		registry.clearRules();
+		registry.setDefault(SwitchableAspect.LOG, true);
+		assertThat(registry.isEnabled(SwitchableAspect.LOG, hello)).isTrue();
+	}
+
+	@Test
+	void 캐시된_슬롯에도_이후_규칙_변경이_반영된다() {
+		AspectSwitchRegistry registry = new AspectSwitchRegistry(true, true);
+		AspectSwitchRegistry.Slot slot = registry.slotOf(hello);
+		assertThat(registry.slotOf(hello)).isSameAs(slot);
+		assertThat(slot.isEnabled(SwitchableAspect.LOG)).isTrue();
+
+		registry.addRule(new AspectSwitchRule(SwitchableAspect.LOG, "*.HelloController.*", false));
+		// 다른 Method가 등록되어 표가 늘어나도 기존 슬롯은 그대로 유효
+		registry.slotOf(method("errorTest"));
+
+		assertThat(slot.isEnabled(SwitchableAspect.LOG)).isFalse();
+		assertThat(slot.isEnabled(SwitchableAspect.TRANSACTION_LOG)).isTrue();
+	}
+
+	@Test
+	void 프록시_모드에서는_호출마다_캐시가_늘어나지_않는다() {
+		LogAspect aspect = new LogAspect();
+		aspect.setSwitches(new AspectSwitchRegistry(false, true));
+		AspectJProxyFactory factory = new AspectJProxyFactory(new HelloController());
+		factory.setProxyTargetClass(true);
+		factory.addAspect(aspect);
+		HelloController proxied = factory.getProxy();
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(proxied.hello()).isEqualTo("Hello, SpringFlow!");
+		}
+
+		JoinPointSwitches switches = (JoinPointSwitches) ReflectionTestUtils.getField(aspect, "switches");
+		assertThat(switches.size()).isEqualTo(1);
+	}
+
+	@Test
+	void 위빙된_조인_포인트는_정적_부분으로_한_번만_조회한다() {
+		AspectSwitchRegistry registry = new AspectSwitchRegistry(false, true);
+		JoinPointSwitches switches = new JoinPointSwitches(registry);
+
+		// ajc가 위빙 위치마다 만드는 것과 같은 상수 StaticPart + 호출마다 새로 만드는 JoinPoint
+		Factory factory = new Factory("HelloController.java", HelloController.class);
+		JoinPoint.StaticPart staticPart = factory.makeSJP(JoinPoint.METHOD_EXECUTION,
+				factory.makeMethodSig(Modifier.PUBLIC, "hello", HelloController.class,
+						new Class<?>[0], new String[0], new Class<?>[0], String.class), 16);
+		HelloController target = new HelloController();
+
+		assertThat(switches.isEnabled(SwitchableAspect.LOG, Factory.makeJP(staticPart, target, target))).isFalse();
+		registry.setDefault(SwitchableAspect.LOG, true);
+		assertThat(switches.isEnabled(SwitchableAspect.LOG, Factory.makeJP(staticPart, target, target))).isTrue();
+
+		assertThat(switches.size()).isEqualTo(1);
+		assertThat(registry.snapshot().get("methods")).asInstanceOf(MAP)
+				.containsOnlyKeys(HelloController.class.getName() + ".hello");
+	}
+
+	private static Method method(String name) {
+		try {
+			return HelloController.class.getMethod(name);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package com.study.springflow.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.springflow.entity.Member;
+import com.study.springflow.repository.MemberRepository;
+import com.study.springflow.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원 내보내기: 형식별 출력(NDJSON, CSV 따옴표 처리), gzip, 잘못된 형식은 스트리밍 시작 전에 400
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class MemberExportControllerTest {
+
+	// 쉼표와 큰따옴표가 들어간 이름 → CSV에서 따옴표로 감싸고 내부 따옴표는 두 번
+	private static final String TRICKY_NAME = "Kim, \"The\" Exporter";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	private Member member;
+
+	@BeforeEach
+	void createMember() {
+		member = memberRepository.saveAndFlush(Member.builder()
+				.username("exporter")
+				.password("{noop}password")
+				.name(TRICKY_NAME)
+				.email("exporter@example.com")
+				.role(Member.MemberRole.USER)
+				.build());
+	}
+
+	@AfterEach
+	void deleteMember() {
+		memberRepository.deleteById(member.getId());
+	}
+
+	@Test
+	void ndjsonWritesOneObjectPerLine() throws Exception {
+		MockHttpServletResponse response = export("/api/admin/members/export?format=ndjson");
+
+		assertThat(response.getContentType()).startsWith("application/x-ndjson");
+		assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("members.ndjson");
+		List<JsonNode> rows = ndjson(response.getContentAsString(StandardCharsets.UTF_8));
+		assertThat(rows).hasSize((int) memberRepository.count());
+		JsonNode exported = rows.stream().filter(row -> row.get("id").asLong() == member.getId()).findFirst().orElseThrow();
+		assertThat(exported.get("name").asText()).isEqualTo(TRICKY_NAME);
+		assertThat(exported.get("role").asText()).isEqualTo("USER");
+		assertThat(exported.get("lastLoginAt").isNull()).isTrue();
+	}
+
+	@Test
+	void csvQuotesFieldsContainingCommasAndQuotes() throws Exception {
+		MockHttpServletResponse response = export("/api/admin/members/export?format=csv");
+
+		assertThat(response.getContentType()).startsWith("text/csv");
+		String[] lines = response.getContentAsString(StandardCharsets.UTF_8).split("\r\n");
+		assertThat(lines[0]).isEqualTo("id,username,name,email,role,createdAt,lastLoginAt");
+		assertThat(lines).hasSize((int) memberRepository.count() + 1);
+		assertThat(lines).anySatisfy(line -> assertThat(line).startsWith(
+				member.getId() + ",exporter,\"Kim, \"\"The\"\" Exporter\",exporter@example.com,USER,"));
+	}
+
+	@Test
+	void gzipCompressesTheStream() throws Exception {
+		MockHttpServletResponse response = export("/api/admin/members/export?format=ndjson&gzip=true");
+
+		assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(ndjson(gunzip(response.getContentAsByteArray())))
+				.anySatisfy(row -> assertThat(row.get("username").asText()).isEqualTo("exporter"));
+	}
+
+	@Test
+	void unknownFormatIsRejectedBeforeStreaming() throws Exception {
+		mockMvc.perform(get("/api/admin/members/export").param("format", "xml")
+						.header(HttpHeaders.AUTHORIZATION, token("admin", "ADMIN")))
+				.andExpect(request().asyncNotStarted())
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.error").exists());
+	}
+
+	@Test
+	void exportIsForAdminsOnly() throws Exception {
+		mockMvc.perform(get("/api/admin/members/export").header(HttpHeaders.AUTHORIZATION, token("user", "USER")))
+				.andExpect(status().isForbidden());
+	}
+
+	// StreamingResponseBody는 비동기로 실행되므로 async dispatch까지 진행해야 본문이 채워짐
+	private MockHttpServletResponse export(String url) throws Exception {
+		MvcResult started = mockMvc.perform(get(url).header(HttpHeaders.AUTHORIZATION, token("admin", "ADMIN")))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		return mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse();
+	}
+
+	private String token(String username, String role) {
+		return "Bearer " + jwtTokenProvider.createToken(username, role);
+	}
+
+	private List<JsonNode> ndjson(String body) throws IOException {
+		assertThat(body).endsWith("\n");
+		List<JsonNode> rows = new ArrayList<>();
+		for (String line : body.split("\n")) {
+			rows.add(objectMapper.readTree(line));
+		}
+		return rows;
+	}
+
+	private static String gunzip(byte[] compressed) throws IOException {
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
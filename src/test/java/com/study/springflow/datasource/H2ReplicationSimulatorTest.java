@@ -0,0 +1,67 @@
+package com.study.springflow.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 복제본은 sync() 시점의 primary 스냅샷만 보여 줌 (주기 실행 대신 sync()를 직접 호출)
+ */
+class H2ReplicationSimulatorTest {
+
+	private final JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(
+			"jdbc:h2:mem:primary-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+	private final DriverManagerDataSource replicaDataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:replica-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+	private final JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+	private final H2ReplicationSimulator simulator = new H2ReplicationSimulator(
+			primary.getDataSource(), List.of(replicaDataSource), 60_000);
+
+	@AfterEach
+	void tearDown() {
+		simulator.close();
+		primary.execute("SHUTDOWN");
+		replica.execute("SHUTDOWN");
+	}
+
+	@Test
+	void replicaShowsThePrimaryAsOfTheLastSync() {
+		primary.execute("CREATE TABLE members (id BIGINT PRIMARY KEY, username VARCHAR(50) NOT NULL UNIQUE)");
+		primary.update("INSERT INTO members VALUES (1, 'first'), (2, 'second')");
+
+		simulator.sync();
+		assertThat(replica.queryForList("SELECT username FROM members ORDER BY id", String.class))
+				.containsExactly("first", "second");
+
+		// 다음 복사 전까지 복제본은 이전 상태
+		primary.update("DELETE FROM members WHERE id = 1");
+		primary.update("INSERT INTO members VALUES (3, 'third')");
+		assertThat(replica.queryForList("SELECT username FROM members ORDER BY id", String.class))
+				.containsExactly("first", "second");
+
+		simulator.sync();
+		assertThat(replica.queryForList("SELECT username FROM members ORDER BY id", String.class))
+				.containsExactly("second", "third");
+	}
+
+	@Test
+	void schemaIsRecreatedWhenPrimaryTablesChange() {
+		primary.execute("CREATE TABLE members (id BIGINT PRIMARY KEY, username VARCHAR(50) NOT NULL)");
+		primary.execute("CREATE INDEX idx_members_username ON members (username)");
+		simulator.sync();
+
+		primary.execute("CREATE TABLE replication_heartbeat (id INT PRIMARY KEY, beat_at TIMESTAMP(3) NOT NULL)");
+		primary.update("INSERT INTO replication_heartbeat VALUES (1, CURRENT_TIMESTAMP)");
+		simulator.sync();
+
+		assertThat(replica.queryForObject("SELECT COUNT(*) FROM replication_heartbeat", Integer.class)).isEqualTo(1);
+		assertThat(replica.queryForList("SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'MEMBERS'",
+				String.class)).contains("IDX_MEMBERS_USERNAME");
+	}
+}
@@ -0,0 +1,122 @@
+package com.study.springflow.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 복제본은 primary와 다른 H2 DB → heartbeat가 복제되지 않으므로 테스트가 복제본의 heartbeat 행을 직접 써서 지연을 조절
+ */
+class ReplicaRoutingDataSourceTest {
+
+	// 커넥션 메타데이터의 URL (옵션 제외)로 어느 DB가 응답했는지 구분
+	private final String primaryUrl = "jdbc:h2:mem:primary-" + UUID.randomUUID();
+	private final String replicaUrl = "jdbc:h2:mem:replica-" + UUID.randomUUID();
+
+	private DriverManagerDataSource primary;
+	private JdbcTemplate replicaAdmin;
+	private SimpleMeterRegistry registry;
+	private ReplicaRoutingDataSource routing;
+
+	@BeforeEach
+	void setUp() {
+		primary = new DriverManagerDataSource(primaryUrl + ";DB_CLOSE_DELAY=-1", "sa", "");
+		replicaAdmin = new JdbcTemplate(new DriverManagerDataSource(replicaUrl + ";DB_CLOSE_DELAY=-1", "sa", ""));
+		replicaAdmin.execute("CREATE TABLE replication_heartbeat (id INT PRIMARY KEY, beat_at TIMESTAMP(3) NOT NULL)");
+
+		HikariDataSource replica = new HikariDataSource();
+		replica.setPoolName("replica-0");
+		replica.setJdbcUrl(replicaUrl + ";DB_CLOSE_DELAY=-1");
+		replica.setUsername("sa");
+		replica.setReadOnly(true);
+		registry = new SimpleMeterRegistry();
+		routing = new ReplicaRoutingDataSource(primary, List.of(replica), ReplicaSelectionStrategy.ROUND_ROBIN,
+				1_000, 20, registry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		routing.close();
+		new JdbcTemplate(primary).execute("SHUTDOWN");
+		replicaAdmin.execute("SHUTDOWN");
+	}
+
+	@Test
+	void readsGoToAReplicaWithinTheLagLimitAndFallBackToThePrimaryWhenItLags() throws Exception {
+		// 측정 전(heartbeat 없음)에는 지연을 알 수 없음 → primary
+		assertThat(servedBy()).isEqualTo(primaryUrl);
+
+		// 미래 시각 heartbeat → 지연 0으로 측정
+		replicaHeartbeat(Duration.ofHours(1));
+		awaitServedBy(replicaUrl);
+
+		// 허용치(1초)보다 오래된 heartbeat → 복제가 밀린 것으로 보고 primary로 대체
+		replicaHeartbeat(Duration.ofHours(-1));
+		awaitServedBy(primaryUrl);
+
+		assertThat(registry.get("springflow.datasource.routing").tag("target", "replica").counter().count())
+				.isGreaterThan(0);
+		assertThat(registry.get("springflow.datasource.routing").tag("target", "primary_fallback").counter().count())
+				.isGreaterThan(1);
+	}
+
+	@Test
+	void readOnlyTransactionsAreRoutedToTheReplicaThroughTheLazyProxy() throws Exception {
+		replicaHeartbeat(Duration.ofHours(1));
+		awaitServedBy(replicaUrl);
+
+		// ReplicaRoutingConfig와 같은 구성: 기본은 primary, readOnly 커넥션만 라우터에서 얻음
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+		dataSource.setReadOnlyDataSource(routing);
+		TransactionTemplate transactions = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		ConnectionCallback<String> servedBy = connection -> connection.getMetaData().getURL();
+
+		transactions.setReadOnly(true);
+		String readOnly = transactions.execute(status -> jdbcTemplate.execute(servedBy));
+		transactions.setReadOnly(false);
+		String readWrite = transactions.execute(status -> jdbcTemplate.execute(servedBy));
+
+		assertThat(readOnly).isEqualTo(replicaUrl);
+		assertThat(readWrite).isEqualTo(primaryUrl);
+	}
+
+	private void replicaHeartbeat(Duration offset) {
+		Timestamp beatAt = new Timestamp(System.currentTimeMillis() + offset.toMillis());
+		if (replicaAdmin.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", beatAt) == 0) {
+			replicaAdmin.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", beatAt);
+		}
+	}
+
+	// 지연 측정은 주기(20ms)마다 백그라운드에서 갱신됨
+	private void awaitServedBy(String url) throws Exception {
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		while (!servedBy().equals(url) && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(servedBy()).isEqualTo(url);
+	}
+
+	private String servedBy() throws SQLException {
+		try (Connection connection = routing.getConnection()) {
+			return connection.getMetaData().getURL();
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package com.study.springflow.datasource;
+
+import com.study.springflow.monitoring.ConnectionPoolWaitRecorder;
+import com.study.springflow.monitoring.ConnectionPoolWaitReport;
+import com.study.springflow.security.jwt.JwtTokenProvider;
+import com.study.springflow.service.MemberService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * workload 프로필: 요청 경로(WorkloadRouteFilter)와 @Workload(WorkloadInterceptor)에 따라 풀이 갈리고
+ * 획득 대기 시간이 풀별로 기록되는지(ConnectionPoolWaitRecorder) 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("workload")
+class WorkloadRoutingTest {
+
+	private static final String[] POOLS = {"auth", "api", "admin"};
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private ConnectionPoolWaitRecorder recorder;
+
+	@Autowired
+	private MeterRegistry registry;
+
+	private String adminToken;
+
+	@BeforeEach
+	void setUp() throws InterruptedException {
+		adminToken = "Bearer " + jwtTokenProvider.createToken("admin", "ADMIN");
+		awaitIdle();
+	}
+
+	@Test
+	void authRequestsUseTheAuthPool() throws Exception {
+		Map<String, Long> before = acquisitions();
+		mockMvc.perform(get("/api/auth/availability").param("username", "admin"))
+				.andExpect(status().isOk());
+
+		assertServedOnlyBy("auth", before);
+	}
+
+	@Test
+	void adminRequestsUseTheAdminPool() throws Exception {
+		Long adminId = memberService.findByUsername("admin").orElseThrow().getId();
+		mockMvc.perform(get("/api/members/{id}", adminId).header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+		Map<String, Long> before = acquisitions();
+
+		// 대상이 없는 필터 → findIdsByFilter만 실행 (JWT 사용자 조회는 위 요청에서 캐시됨)
+		mockMvc.perform(post("/api/admin/members/bulk/role").header(HttpHeaders.AUTHORIZATION, adminToken)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"createdBefore\":\"2000-01-01T00:00:00\",\"newRole\":\"ADMIN\"}"))
+				.andExpect(status().isOk());
+
+		assertServedBy("admin", before);
+	}
+
+	@Test
+	void apiRequestsUseTheApiPoolAndWorkloadAnnotationOverridesIt() throws Exception {
+		Long adminId = memberService.findByUsername("admin").orElseThrow().getId();
+		Map<String, Long> before = acquisitions();
+		mockMvc.perform(get("/api/members/{id}", adminId).header(HttpHeaders.AUTHORIZATION, adminToken))
+				.andExpect(status().isOk());
+		assertServedBy("api", before);
+
+		// 요청 밖(기본 = API)에서 호출해도 @Workload(ADMIN) 메서드는 admin 풀
+		before = acquisitions();
+		memberService.scanAll(row -> {
+		});
+		assertServedOnlyBy("admin", before);
+	}
+
+	private void assertServedBy(String pool, Map<String, Long> before) {
+		Map<String, Long> after = acquisitions();
+		assertThat(after.get(pool)).isGreaterThan(before.get(pool));
+		assertThat(registry.get("hikaricp.connections.acquire").tag("pool", pool).timer().count())
+				.isEqualTo(after.get(pool));
+	}
+
+	private void assertServedOnlyBy(String pool, Map<String, Long> before) {
+		assertServedBy(pool, before);
+		Map<String, Long> after = acquisitions();
+		Stream.of(POOLS).filter(other -> !other.equals(pool))
+				.forEach(other -> assertThat(after.get(other)).as(other).isEqualTo(before.get(other)));
+	}
+
+	private Map<String, Long> acquisitions() {
+		return recorder.report().stream()
+				.collect(Collectors.toMap(ConnectionPoolWaitReport::pool, ConnectionPoolWaitReport::acquisitions));
+	}
+
+	// 시작 직후의 인덱스 구축/필터 재구축이 끝날 때까지 (획득 횟수가 잠시 변하지 않을 때까지) 대기
+	private void awaitIdle() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		Map<String, Long> previous = acquisitions();
+		while (System.currentTimeMillis() < deadline) {
+			Thread.sleep(300);
+			Map<String, Long> current = acquisitions();
+			if (current.equals(previous) && current.keySet().containsAll(List.of(POOLS))) {
+				return;
+			}
+			previous = current;
+		}
+	}
+}
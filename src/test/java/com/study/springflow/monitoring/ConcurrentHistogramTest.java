@@ -0,0 +1,56 @@
+package com.study.springflow.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ConcurrentHistogramTest {
+
+	@Test
+	void bucketBoundsCoverEveryValue() {
+		long[] samples = {0, 1, 15, 16, 17, 31, 32, 1_000, 123_456_789L, Long.MAX_VALUE};
+		for (long value : samples) {
+			int index = ConcurrentHistogram.bucketIndex(value);
+			assertThat(ConcurrentHistogram.bucketLowerBound(index)).isLessThanOrEqualTo(value);
+			assertThat(ConcurrentHistogram.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+		}
+	}
+
+	@Test
+	void percentilesStayWithinRelativeError() {
+		ConcurrentHistogram histogram = new ConcurrentHistogram();
+		for (long v = 1; v <= 10_000; v++) {
+			histogram.record(v);
+		}
+
+		assertThat(histogram.count()).isEqualTo(10_000);
+		assertThat(histogram.max()).isEqualTo(10_000);
+		assertThat(histogram.mean()).isCloseTo(5_000.5, within(0.001));
+		assertThat((double) histogram.percentile(50)).isCloseTo(5_000, within(5_000 * 0.07));
+		assertThat((double) histogram.percentile(99)).isCloseTo(9_900, within(9_900 * 0.07));
+		assertThat(histogram.percentile(100)).isEqualTo(10_000);
+	}
+
+	@Test
+	void concurrentRecordsAreNotLost() throws InterruptedException {
+		ConcurrentHistogram histogram = new ConcurrentHistogram();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		for (int t = 0; t < 8; t++) {
+			executor.execute(() -> {
+				for (int i = 0; i < 100_000; i++) {
+					histogram.record(i);
+				}
+			});
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(histogram.count()).isEqualTo(800_000);
+		assertThat(histogram.percentile(100)).isEqualTo(99_999);
+	}
+}
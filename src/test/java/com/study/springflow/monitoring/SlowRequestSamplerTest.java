@@ -0,0 +1,163 @@
+package com.study.springflow.monitoring;
+
+import com.study.springflow.interceptor.InflightRouteInterceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임계값을 넘긴 요청만 스택이 수집되고, 끝난 요청은 레지스트리에서 빠짐 (스케줄러 대신 sample()을 직접 호출)
+ */
+class SlowRequestSamplerTest {
+
+	private static final long THRESHOLD_MS = 50;
+
+	private final InflightRequestRegistry registry = new InflightRequestRegistry();
+	private final SlowRequestSampler sampler = new SlowRequestSampler(registry);
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	SlowRequestSamplerTest() {
+		ReflectionTestUtils.setField(sampler, "thresholdMillis", THRESHOLD_MS);
+		ReflectionTestUtils.setField(sampler, "maxDepth", 64);
+		ReflectionTestUtils.setField(sampler, "maxStacksPerRoute", 200);
+	}
+
+	@AfterEach
+	void releaseWorker() {
+		release.countDown();
+	}
+
+	@Test
+	void requestPastThresholdHasItsStackSampled() throws Exception {
+		CompletableFuture<InflightRequest> started = new CompletableFuture<>();
+		Thread worker = startWorker("/api/members/1", "/api/members/{id}", started);
+		InflightRequest request = started.get(5, TimeUnit.SECONDS);
+		awaitWaiting(worker);
+		Thread.sleep(THRESHOLD_MS + 20);
+
+		sampler.sample();
+		sampler.sample();
+
+		SlowRequestReport report = sampler.report(5);
+		assertThat(report.inflight()).singleElement().satisfies(entry -> {
+			assertThat(entry.route()).isEqualTo("GET /api/members/{id}");
+			assertThat(entry.uri()).isEqualTo("/api/members/1");
+			assertThat(entry.elapsedMs()).isGreaterThanOrEqualTo(THRESHOLD_MS);
+			assertThat(entry.samples()).isEqualTo(2);
+		});
+		assertThat(report.routes()).singleElement().satisfies(route -> {
+			assertThat(route.route()).isEqualTo("GET /api/members/{id}");
+			assertThat(route.samples()).isEqualTo(2);
+			// 대기 중인 동안 스택이 같으므로 한 종류로 접힘 (루트 → 리프, 마지막에 스레드 상태)
+			assertThat(route.stacks()).singleElement().satisfies(stack -> {
+				assertThat(stack.count()).isEqualTo(2);
+				assertThat(stack.stack()).contains("java.util.concurrent.CountDownLatch.await;").endsWith("]");
+				assertThat(stack.stack()).contains("[WAITING");
+			});
+		});
+		assertThat(sampler.collapsed()).startsWith("GET /api/members/{id};").endsWith(" 2\n");
+		assertThat(request.getSampleCount()).isEqualTo(2);
+
+		release.countDown();
+		worker.join(5_000);
+		assertThat(request.isFinished()).isTrue();
+		assertThat(registry.size()).isZero();
+		assertThat(registry.olderThan(0, System.nanoTime())).isEmpty();
+
+		// 끝난 요청은 더 이상 샘플링되지 않음 (누적된 스택은 reset 전까지 유지)
+		sampler.sample();
+		assertThat(sampler.report(5).inflight()).isEmpty();
+		assertThat(sampler.report(5).routes()).singleElement()
+				.satisfies(route -> assertThat(route.samples()).isEqualTo(2));
+
+		sampler.reset();
+		assertThat(sampler.report(5).routes()).isEmpty();
+	}
+
+	@Test
+	void requestBelowThresholdIsNotSampled() throws Exception {
+		ReflectionTestUtils.setField(sampler, "thresholdMillis", TimeUnit.MINUTES.toMillis(1));
+		CompletableFuture<InflightRequest> started = new CompletableFuture<>();
+		Thread worker = startWorker("/api/members", "/api/members", started);
+		InflightRequest request = started.get(5, TimeUnit.SECONDS);
+
+		sampler.sample();
+
+		assertThat(registry.size()).isEqualTo(1);
+		assertThat(sampler.report(5).inflight()).isEmpty();
+		assertThat(sampler.report(5).routes()).isEmpty();
+		assertThat(request.getSampleCount()).isZero();
+
+		release.countDown();
+		worker.join(5_000);
+		assertThat(registry.size()).isZero();
+	}
+
+	@Test
+	void unmatchedRequestsShareOneRoute() {
+		InflightRequest first = registry.begin("GET", "/no/such/1");
+		InflightRequest second = registry.begin("GET", "/no/such/2");
+		try {
+			assertThat(first.getRoute()).isEqualTo("GET (unmatched)");
+			assertThat(second.getRoute()).isEqualTo(first.getRoute());
+			assertThat(registry.snapshot()).containsExactlyInAnyOrder(first, second);
+		} finally {
+			registry.end(first);
+			registry.end(second);
+		}
+		assertThat(registry.size()).isZero();
+	}
+
+	@Test
+	void interceptorRecordsMatchedPattern() {
+		InflightRequest inflight = registry.begin("GET", "/api/members/7");
+		try {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/7");
+			request.setAttribute(InflightRequest.ATTRIBUTE, inflight);
+			request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/members/{id}");
+
+			boolean proceed = new InflightRouteInterceptor().preHandle(request, new MockHttpServletResponse(), new Object());
+
+			assertThat(proceed).isTrue();
+			assertThat(inflight.getRoute()).isEqualTo("GET /api/members/{id}");
+		} finally {
+			registry.end(inflight);
+		}
+	}
+
+	// LoggingFilter + 인터셉터가 하는 일을 흉내 내는 요청 처리 스레드: 등록 → 라우트 기록 → 대기 → 해제
+	private Thread startWorker(String uri, String pattern, CompletableFuture<InflightRequest> started) {
+		Thread worker = new Thread(() -> {
+			InflightRequest request = registry.begin("GET", uri);
+			try {
+				request.setRoutePattern(pattern);
+				started.complete(request);
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				registry.end(request);
+			}
+		}, "slow-request-worker");
+		worker.setDaemon(true);
+		worker.start();
+		return worker;
+	}
+
+	private static void awaitWaiting(Thread worker) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (worker.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat(worker.getState()).isEqualTo(Thread.State.WAITING);
+	}
+}
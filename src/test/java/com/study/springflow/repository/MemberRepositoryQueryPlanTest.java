@@ -0,0 +1,284 @@
+package com.study.springflow.repository;
+
+import com.study.springflow.entity.Member;
+import com.study.springflow.service.MemberService;
+import org.assertj.core.api.SoftAssertions;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 쿼리 플랜 회귀 테스트
+ * - 대량 데이터를 넣고 리포지토리 메서드를 실제로 호출해 Hibernate가 만든 SQL과 바인딩 값을 가로챔
+ * - 같은 SQL/값으로 H2 EXPLAIN ANALYZE를 실행해 실제로 읽은 행 수(scanCount)가 메서드별 상한을 넘거나
+ *   members 테이블 전체 스캔(tableScan)이 있으면 실패
+ *   → 인덱스를 쓰더라도 키셋 커서 이전 행을 매번 다시 읽는 계획(페이지가 깊어질수록 느려짐)도 잡아냄
+ * - 상한: 단건 조회는 상수, 키셋 페이지/일괄 처리 대상은 limit에 비례, 역할 조회는 해당 역할 행 수에 비례
+ * - 전체 스캔이 의도된 메서드(전체 내보내기, 부분 문자열 DB 검색)는 상한 없이 명시
+ */
+@DataJpaTest
+class MemberRepositoryQueryPlanTest {
+
+	private static final int ROWS = 20_000;
+	private static final int ADMINS = ROWS / 100; // id가 100의 배수인 회원
+	private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+	private static final int PAGE_LIMIT = 21;
+	private static final int CHUNK_LIMIT = 500;
+	private static final long UNBOUNDED = Long.MAX_VALUE;
+	private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+	/**
+	 * 호출과 읽어도 되는 최대 행 수 (UNBOUNDED: 전체 행을 읽는 것이 목적이거나 인덱스로 처리할 수 없는 메서드)
+	 */
+	private record Bounded(Runnable call, long maxScanned) {
+	}
+
+	// SpringflowApplication의 초기 데이터 러너(initData)가 요구하는 빈 (슬라이스 테스트라 서비스 계층은 없음)
+	@MockitoBean
+	private MemberService memberService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void generateMembers() {
+		jdbcTemplate.update("INSERT INTO members (id, username, password, name, email, role, created_at, version) " +
+				"SELECT X, 'user' || X, 'x', 'name' || X, 'user' || X || '@example.com', " +
+				"CASEWHEN(MOD(X, 100) = 0, 'ADMIN', 'USER'), DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), 0 " +
+				"FROM SYSTEM_RANGE(1, ?)", ROWS);
+		// 옵티마이저가 실제 분포(선택도)를 보고 계획을 세우도록 통계 갱신
+		jdbcTemplate.execute("ANALYZE");
+	}
+
+	@Test
+	void repositoryQueriesReadOnlyTheRowsTheyNeed() {
+		LocalDateTime to = BASE.plusDays(1);
+		LocalDateTime deepCursor = BASE.plusSeconds(15_000);
+		Map<String, Bounded> calls = new TreeMap<>();
+		calls.put("findById", new Bounded(() -> memberRepository.findById(500L), 2));
+		calls.put("findByUsername", new Bounded(() -> memberRepository.findByUsername("user500"), 2));
+		calls.put("findByEmail", new Bounded(() -> memberRepository.findByEmail("user500@example.com"), 2));
+		calls.put("existsByUsername", new Bounded(() -> memberRepository.existsByUsername("user500"), 2));
+		calls.put("existsByEmail", new Bounded(() -> memberRepository.existsByEmail("user500@example.com"), 2));
+		calls.put("findIdentities", new Bounded(() -> memberRepository.findIdentities(List.of("user1", "user2"), List.of("user3@example.com")), 3 * 2));
+		// 역할 조회: 해당 역할 행만 (USER 행을 거르며 읽지 않음)
+		calls.put("findByRole", new Bounded(() -> memberRepository.findByRole(Member.MemberRole.ADMIN), ADMINS + 1));
+		calls.put("findMembersByRoleOrderByCreatedAtDesc", new Bounded(() -> memberRepository.findMembersByRoleOrderByCreatedAtDesc(Member.MemberRole.ADMIN), ADMINS + 1));
+		calls.put("findDetailsByRole", new Bounded(() -> memberRepository.findDetailsByRole(Member.MemberRole.ADMIN), ADMINS + 1));
+		calls.put("findVersionsByRole", new Bounded(() -> memberRepository.findVersionsByRole(Member.MemberRole.ADMIN), ADMINS + 1));
+		// 키셋 페이지: 커서 위치와 무관하게 limit + 1행 (커서 위치까지 다시 읽지 않음)
+		calls.put("findSummariesFirstPage", new Bounded(() -> memberRepository.findSummariesFirstPage(BASE, to, Limit.of(PAGE_LIMIT)), PAGE_LIMIT + 1));
+		calls.put("findSummariesFirstPageByRole", new Bounded(() -> memberRepository.findSummariesFirstPageByRole(Member.MemberRole.ADMIN, BASE, to, Limit.of(PAGE_LIMIT)), PAGE_LIMIT + 1));
+		calls.put("findSummariesAfter", new Bounded(() -> memberRepository.findSummariesAfter(BASE, to, BASE.plusSeconds(500), 500L, Limit.of(PAGE_LIMIT)), PAGE_LIMIT + 1));
+		calls.put("findSummariesAfter(deep)", new Bounded(() -> memberRepository.findSummariesAfter(BASE, to, deepCursor, 15_000L, Limit.of(PAGE_LIMIT)), PAGE_LIMIT + 1));
+		calls.put("findSummariesAfterByRole", new Bounded(() -> memberRepository.findSummariesAfterByRole(Member.MemberRole.ADMIN, BASE, to, BASE.plusSeconds(500), 500L, Limit.of(PAGE_LIMIT)), PAGE_LIMIT + 1));
+		calls.put("findSummariesAfterByRole(deep)", new Bounded(() -> memberRepository.findSummariesAfterByRole(Member.MemberRole.ADMIN, BASE, to, deepCursor, 15_000L, Limit.of(PAGE_LIMIT)), PAGE_LIMIT + 1));
+		// 일괄 처리 대상: id 순 키셋, 조건에 맞지 않는 행(ADMIN 1%)을 건너뛰는 만큼만 limit보다 더 읽음
+		calls.put("findIdsByFilter", new Bounded(() -> memberRepository.findIdsByFilter(0L, Member.MemberRole.USER, to, null, Limit.of(CHUNK_LIMIT)), CHUNK_LIMIT + CHUNK_LIMIT / 10));
+		calls.put("findIdsByFilter(deep)", new Bounded(() -> memberRepository.findIdsByFilter(15_000L, Member.MemberRole.USER, to, null, Limit.of(CHUNK_LIMIT)), CHUNK_LIMIT + CHUNK_LIMIT / 10));
+		calls.put("lockForDelete", new Bounded(() -> memberRepository.lockForDelete(List.of(14L, 15L), "admin"), 2 + 1));
+		calls.put("lockIdsForRoleChange", new Bounded(() -> memberRepository.lockIdsForRoleChange(List.of(16L, 17L), Member.MemberRole.ADMIN, "admin"), 2 + 1));
+		calls.put("deleteByIdIn", new Bounded(() -> memberRepository.deleteByIdIn(List.of(10L, 11L), "admin"), 2 + 1));
+		calls.put("updateRoleByIdIn", new Bounded(() -> memberRepository.updateRoleByIdIn(List.of(12L, 13L), Member.MemberRole.ADMIN, "admin"), 2 + 1));
+		calls.put("streamAllForExport", new Bounded(() -> {
+			try (var rows = memberRepository.streamAllForExport()) {
+				rows.limit(1).forEach(row -> { });
+			}
+		}, UNBOUNDED));
+		calls.put("searchMembersByNameIgnoreCase", new Bounded(() -> memberRepository.searchMembersByNameIgnoreCase("me50", Limit.of(20)), UNBOUNDED));
+
+		SoftAssertions softly = new SoftAssertions();
+		calls.forEach((name, bounded) -> {
+			List<CapturedStatement> statements = capture(bounded.call());
+			softly.assertThat(statements).as("%s: 실행된 members 쿼리", name).isNotEmpty();
+			if (bounded.maxScanned() == UNBOUNDED) {
+				return;
+			}
+			for (CapturedStatement statement : statements) {
+				String plan = explainAnalyze(statement);
+				softly.assertThat(plan).as("%s 실행 계획%n%s", name, plan).doesNotContain("tableScan");
+				softly.assertThat(scanned(plan)).as("%s 읽은 행 수%n%s", name, plan).isLessThanOrEqualTo(bounded.maxScanned());
+			}
+		});
+		softly.assertAll();
+	}
+
+	// 계획에 나온 모든 테이블 접근의 scanCount 합 (UNION 등 여러 접근이 있을 수 있음)
+	private static long scanned(String plan) {
+		Matcher matcher = SCAN_COUNT.matcher(plan);
+		long total = 0;
+		while (matcher.find()) {
+			total += Long.parseLong(matcher.group(1));
+		}
+		return total;
+	}
+
+	private List<CapturedStatement> capture(Runnable call) {
+		List<CapturedStatement> statements;
+		// 이전 호출이 읽은 엔티티가 1차/2차 캐시에 남아 있으면 쿼리 없이 반환되므로 비움
+		entityManager.clear();
+		entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getCache().evictAllRegions();
+		StatementRecorder.start();
+		try {
+			call.run();
+		} finally {
+			statements = StatementRecorder.drain();
+		}
+		return statements.stream()
+				.filter(statement -> statement.sql().toLowerCase(Locale.ROOT).contains("members"))
+				.toList();
+	}
+
+	// 문장을 실제로 실행하며 계획과 읽은 행 수를 기록 (DML도 실행되지만 테스트 트랜잭션이 끝나면 롤백)
+	private String explainAnalyze(CapturedStatement statement) {
+		// 테스트 트랜잭션의 커넥션을 사용해야 같은 데이터를 봄
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		try (PreparedStatement ps = connection.prepareStatement("EXPLAIN ANALYZE " + statement.sql())) {
+			for (Map.Entry<Integer, Object> parameter : statement.parameters().entrySet()) {
+				ps.setObject(parameter.getKey(), parameter.getValue());
+			}
+			StringBuilder plan = new StringBuilder();
+			try (ResultSet rs = ps.executeQuery()) {
+				while (rs.next()) {
+					plan.append(rs.getString(1));
+				}
+			}
+			return plan.toString();
+		} catch (SQLException e) {
+			throw new IllegalStateException("EXPLAIN ANALYZE 실패: " + statement.sql(), e);
+		} finally {
+			DataSourceUtils.releaseConnection(connection, dataSource);
+		}
+	}
+
+	record CapturedStatement(String sql, Map<Integer, Object> parameters) {
+	}
+
+	/**
+	 * 기록 중일 때 실행된 PreparedStatement의 SQL과 바인딩 값을 모음
+	 */
+	static final class StatementRecorder {
+
+		private static final ThreadLocal<List<CapturedStatement>> RECORDED = new ThreadLocal<>();
+
+		static void start() {
+			RECORDED.set(new ArrayList<>());
+		}
+
+		static List<CapturedStatement> drain() {
+			List<CapturedStatement> statements = RECORDED.get();
+			RECORDED.remove();
+			return statements == null ? List.of() : statements;
+		}
+
+		static boolean recording() {
+			return RECORDED.get() != null;
+		}
+
+		static void record(String sql, Map<Integer, Object> parameters) {
+			List<CapturedStatement> statements = RECORDED.get();
+			if (statements != null) {
+				statements.add(new CapturedStatement(sql, new TreeMap<>(parameters)));
+			}
+		}
+	}
+
+	/**
+	 * DataSource → Connection → PreparedStatement를 JDK 프록시로 감싸 SQL/파라미터 기록
+	 */
+	@TestConfiguration
+	static class RecordingDataSourceConfig {
+
+		@Bean
+		static BeanPostProcessor recordingDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					if (bean instanceof DataSource target) {
+						return proxy(DataSource.class, target, (method, args, result) ->
+								result instanceof Connection connection ? recordingConnection(connection) : result);
+					}
+					return bean;
+				}
+			};
+		}
+
+		private static Connection recordingConnection(Connection target) {
+			return proxy(Connection.class, target, (method, args, result) -> {
+				if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+					return recordingStatement(statement, (String) args[0]);
+				}
+				return result;
+			});
+		}
+
+		private static PreparedStatement recordingStatement(PreparedStatement target, String sql) {
+			Map<Integer, Object> parameters = new TreeMap<>();
+			return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+					new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+						String name = method.getName();
+						if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+							parameters.put(index, name.equals("setNull") ? null : args[1]);
+						} else if (name.startsWith("execute") && StatementRecorder.recording()) {
+							StatementRecorder.record(sql, parameters);
+						}
+						return invoke(target, method, args);
+					});
+		}
+
+		@FunctionalInterface
+		private interface ResultWrapper {
+			Object wrap(Method method, Object[] args, Object result);
+		}
+
+		private static <T> T proxy(Class<T> type, T target, ResultWrapper wrapper) {
+			InvocationHandler handler = (proxy, method, args) -> wrapper.wrap(method, args, invoke(target, method, args));
+			return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+		}
+
+		private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+	}
+}
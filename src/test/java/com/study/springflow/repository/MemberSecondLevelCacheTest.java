@@ -0,0 +1,66 @@
+package com.study.springflow.repository;
+
+import com.study.springflow.entity.Member;
+import com.study.springflow.service.MemberService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시 / natural-id 캐시 경로 확인 (Hibernate Statistics로 DB 조회 여부 판단)
+ * - 같은 컨텍스트의 백그라운드 작업(인덱스 구축 등)도 SQL을 실행하므로 전체 SQL 수 대신 Member 엔티티/natural-id 통계를 봄
+ */
+@SpringBootTest
+class MemberSecondLevelCacheTest {
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void repeatedUsernameLookupIsServedFromTheCacheWithoutSql() {
+		memberService.findByUsername("admin").orElseThrow();
+
+		statistics.clear();
+		Member admin = memberService.findByUsername("admin").orElseThrow();
+
+		assertThat(admin.getUsername()).isEqualTo("admin");
+		assertThat(statistics.getNaturalIdStatistics(Member.class.getName()).getExecutionCount()).isZero();
+		assertThat(statistics.getEntityStatistics(Member.class.getName()).getLoadCount()).isZero();
+		assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+		assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void bulkUpdateEvictsTheCachedMember() {
+		Long userId = memberService.findByUsername("user").orElseThrow().getId();
+		memberService.findById(userId);
+
+		memberService.changeRoleByIds(List.of(userId), Member.MemberRole.ADMIN, "admin");
+		try {
+			statistics.clear();
+			assertThat(memberService.findById(userId)).get()
+					.extracting(Member::getRole).isEqualTo(Member.MemberRole.ADMIN);
+			assertThat(statistics.getEntityStatistics(Member.class.getName()).getLoadCount()).isEqualTo(1);
+		} finally {
+			memberService.changeRoleByIds(List.of(userId), Member.MemberRole.USER, "admin");
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package com.study.springflow.repository.sharding;
+
+import com.study.springflow.entity.Member;
+import com.study.springflow.repository.projection.MemberName;
+import com.study.springflow.service.DuplicateMemberException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardedMemberRepositoryTest {
+
+	private static final int SHARDS = 4;
+
+	private DataSource directory;
+	private List<DataSource> shards;
+	private ShardedMemberRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		// 테스트마다 별도 이름의 H2 메모리 DB (디렉터리 1개 + 샤드 4개)
+		String prefix = "sharding-" + UUID.randomUUID();
+		directory = h2(prefix + "-directory");
+		shards = IntStream.range(0, SHARDS)
+				.mapToObj(i -> h2(prefix + "-shard" + i))
+				.toList();
+		repository = new ShardedMemberRepository(directory, shards);
+		repository.initializeSchema();
+	}
+
+	// DB_CLOSE_DELAY=-1 메모리 DB는 명시적으로 닫아야 테스트 JVM에서 사라짐
+	@AfterEach
+	void tearDown() throws Exception {
+		repository.close();
+		Stream.concat(Stream.of(directory), shards.stream())
+				.forEach(dataSource -> new JdbcTemplate(dataSource).execute("SHUTDOWN"));
+	}
+
+	@Test
+	void spreadsMembersAcrossShardsAndRoutesLookupsByIdAndUsername() {
+		for (int i = 0; i < 200; i++) {
+			repository.save(member("user" + i, i % 10 == 0 ? Member.MemberRole.ADMIN : Member.MemberRole.USER));
+		}
+
+		Member found = repository.findByUsername("user42").orElseThrow();
+		assertThat(repository.findById(found.getId())).get()
+				.extracting(Member::getUsername).isEqualTo("user42");
+		assertThat(MemberShardKeys.shardOf(found.getId()))
+				.isEqualTo(MemberShardKeys.placementShard("user42", SHARDS));
+
+		Set<Integer> usedShards = IntStream.range(0, 200)
+				.mapToObj(i -> repository.findByUsername("user" + i).orElseThrow().getId())
+				.map(MemberShardKeys::shardOf)
+				.collect(Collectors.toSet());
+		assertThat(usedShards).hasSize(SHARDS);
+
+		assertThat(repository.count()).isEqualTo(200);
+		assertThat(repository.findById(MemberShardKeys.composeId(1, SHARDS + 1))).isEmpty();
+		assertThat(repository.findByUsername("missing")).isEmpty();
+	}
+
+	@Test
+	void scatterGatherMergesResultsFromEveryShard() {
+		for (int i = 0; i < 40; i++) {
+			repository.save(member("user" + i, i % 4 == 0 ? Member.MemberRole.ADMIN : Member.MemberRole.USER));
+		}
+
+		List<Member> admins = repository.findByRole(Member.MemberRole.ADMIN);
+		assertThat(admins).hasSize(10)
+				.allMatch(member -> member.getRole() == Member.MemberRole.ADMIN)
+				.isSortedAccordingTo((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
+		assertThat(admins).extracting(member -> MemberShardKeys.shardOf(member.getId())).hasSizeGreaterThan(1);
+
+		assertThat(repository.searchByName("NAME1", 100)).extracting(MemberName::getName)
+				.containsExactlyInAnyOrder("name1", "name10", "name11", "name12", "name13", "name14",
+						"name15", "name16", "name17", "name18", "name19");
+	}
+
+	@Test
+	void rejectsDuplicatesAcrossShardsThroughTheDirectory() {
+		repository.save(member("alice", Member.MemberRole.USER));
+
+		// 이메일 대소문자만 다른 중복도 정규화 후 디렉터리에서 걸러짐 (다른 샤드에 배치될 사용자명이어도)
+		Member sameEmail = member("bob", Member.MemberRole.USER);
+		sameEmail.setEmail(" ALICE@example.com ");
+		assertThatThrownBy(() -> repository.save(sameEmail))
+				.isInstanceOfSatisfying(DuplicateMemberException.class,
+						e -> assertThat(e.getField()).isEqualTo(DuplicateMemberException.Field.EMAIL));
+
+		Member sameUsername = member("alice", Member.MemberRole.USER);
+		sameUsername.setEmail("other@example.com");
+		assertThatThrownBy(() -> repository.save(sameUsername))
+				.isInstanceOfSatisfying(DuplicateMemberException.class,
+						e -> assertThat(e.getField()).isEqualTo(DuplicateMemberException.Field.USERNAME));
+
+		assertThat(repository.count()).isEqualTo(1);
+		assertThat(repository.findByUsername("bob")).isEmpty();
+	}
+
+	@Test
+	void clearsDirectoryRowsLeftByInterruptedWrites() {
+		// 디렉터리 등록 후 샤드 INSERT 전에 프로세스가 죽은 가입 (pending 행만 남음)
+		LocalDateTime crashedAt = LocalDateTime.now().minus(ShardedMemberRepository.PENDING_TIMEOUT).minusSeconds(1);
+		reserveOnly("carol", crashedAt);
+		reserveOnly("dave", crashedAt);
+		reserveOnly("erin", LocalDateTime.now());
+
+		// 같은 이름으로 다시 가입하면 중단된 예약을 정리하고 성공
+		assertThat(repository.save(member("carol", Member.MemberRole.USER)).getId()).isNotNull();
+		assertThat(repository.findByUsername("carol")).isPresent();
+
+		// 시작 시 정리: 오래된 예약만 제거, 진행 중일 수 있는 최근 예약은 유지
+		repository.initializeSchema();
+		assertThat(repository.existsByUsername("dave")).isFalse();
+		assertThat(repository.existsByUsername("erin")).isTrue();
+		assertThatThrownBy(() -> repository.save(member("erin", Member.MemberRole.USER)))
+				.isInstanceOf(DuplicateMemberException.class);
+	}
+
+	private void reserveOnly(String username, LocalDateTime reservedAt) {
+		new JdbcTemplate(directory).update("INSERT INTO member_shard_directory " +
+						"(username, email, shard_id, pending, reserved_at) VALUES (?, ?, ?, TRUE, ?)",
+				username, username + "@example.com", MemberShardKeys.placementShard(username, SHARDS),
+				Timestamp.valueOf(reservedAt));
+	}
+
+	private static Member member(String username, Member.MemberRole role) {
+		return Member.builder()
+				.username(username)
+				.password("{noop}password")
+				.name("name" + username.replace("user", ""))
+				.email(username + "@example.com")
+				.role(role)
+				.createdAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(username.hashCode() & 0xFFFF))
+				.build();
+	}
+
+	private static DataSource h2(String name) {
+		return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+	}
+}
@@ -0,0 +1,37 @@
+package com.study.springflow.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexBuildBufferTest {
+
+	@Test
+	void changesDuringTheScanAreReplayedAfterItAndAFailedScanIsRetried() {
+		IndexBuildBuffer buffer = new IndexBuildBuffer("test");
+		List<String> index = new ArrayList<>();
+		AtomicInteger attempts = new AtomicInteger();
+
+		long rows = buffer.build(() -> {
+			index.add("member1");
+			// 커서가 member1을 지나간 뒤 삭제 커밋 → 바로 반영되면 재시도 스캔이 다시 넣어 되살아남
+			buffer.apply(() -> index.remove("member1"));
+			if (attempts.incrementAndGet() == 1) {
+				throw new IllegalStateException("connection reset");
+			}
+			return 1;
+		}, index::clear);
+
+		assertThat(rows).isEqualTo(1);
+		assertThat(attempts).hasValue(2);
+		assertThat(buffer.isReady()).isTrue();
+		assertThat(index).isEmpty();
+
+		buffer.apply(() -> index.add("member2"));
+		assertThat(index).containsExactly("member2");
+	}
+}
@@ -0,0 +1,103 @@
+package com.study.springflow.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RadixTrieTest {
+
+	@Test
+	void returnsKeysUnderPrefixInLexicographicOrder() {
+		RadixTrie trie = new RadixTrie();
+		trie.add("romane", 1);
+		trie.add("romanus", 2);
+		trie.add("romulus", 3);
+		trie.add("rubens", 4);
+		trie.add("ruber", 5);
+		trie.add("rom", 6);
+
+		assertThat(keys(trie.prefix("rom", 10))).containsExactly("rom", "romane", "romanus", "romulus");
+		assertThat(keys(trie.prefix("roma", 10))).containsExactly("romane", "romanus");
+		assertThat(keys(trie.prefix("r", 2))).containsExactly("rom", "romane");
+		assertThat(keys(trie.prefix("rx", 10))).isEmpty();
+		assertThat(keys(trie.prefix("romanesque", 10))).isEmpty();
+		assertThat(trie.size()).isEqualTo(6);
+	}
+
+	@Test
+	void keepsMultipleValuesPerKey() {
+		RadixTrie trie = new RadixTrie();
+		trie.add("shared@example.com", 7);
+		trie.add("shared@example.com", 3);
+		trie.add("shared@example.com", 3);
+
+		assertThat(trie.prefix("shared", 10))
+				.containsExactly(new RadixTrie.Match("shared@example.com", 3), new RadixTrie.Match("shared@example.com", 7));
+		assertThat(trie.size()).isEqualTo(1);
+	}
+
+	@Test
+	void removeCollapsesNodesBackToCompactForm() {
+		RadixTrie trie = new RadixTrie();
+		trie.add("test", 1);
+		int compactNodes = trie.nodeCount();
+
+		trie.add("team", 2);
+		trie.add("tester", 3);
+		assertThat(trie.nodeCount()).isGreaterThan(compactNodes);
+
+		assertThat(trie.remove("team", 2)).isTrue();
+		assertThat(trie.remove("tester", 3)).isTrue();
+		assertThat(trie.remove("tester", 3)).isFalse();
+		assertThat(trie.remove("tes", 1)).isFalse();
+
+		assertThat(trie.nodeCount()).isEqualTo(compactNodes);
+		assertThat(keys(trie.prefix("te", 10))).containsExactly("test");
+		assertThat(trie.size()).isEqualTo(1);
+	}
+
+	@Test
+	void emptyKeyIsCountedAndRemovedLikeAnyOtherKey() {
+		RadixTrie trie = new RadixTrie();
+		trie.add("", 1);
+		trie.add("a", 2);
+		assertThat(trie.size()).isEqualTo(2);
+
+		assertThat(trie.remove("", 1)).isTrue();
+		assertThat(trie.size()).isEqualTo(1);
+		assertThat(keys(trie.prefix("", 10))).containsExactly("a");
+	}
+
+	@Test
+	void valuesBeyondIntRangeAreKeptAsIs() {
+		long large = (3_000_000L << 10) | 5;
+		RadixTrie trie = new RadixTrie();
+		trie.add("sharded", large);
+
+		assertThat(trie.prefix("sha", 10)).containsExactly(new RadixTrie.Match("sharded", large));
+		assertThat(trie.remove("sharded", large)).isTrue();
+		assertThat(trie.size()).isZero();
+	}
+
+	@Test
+	void clearRemovesEveryKey() {
+		RadixTrie trie = new RadixTrie();
+		trie.add("test", 1);
+		trie.add("team", 2);
+		int emptyNodes = new RadixTrie().nodeCount();
+
+		trie.clear();
+
+		assertThat(trie.prefix("", 10)).isEmpty();
+		assertThat(trie.size()).isZero();
+		assertThat(trie.nodeCount()).isEqualTo(emptyNodes);
+		trie.add("team", 3);
+		assertThat(trie.prefix("te", 10)).containsExactly(new RadixTrie.Match("team", 3));
+	}
+
+	private static List<String> keys(List<RadixTrie.Match> matches) {
+		return matches.stream().map(RadixTrie.Match::key).toList();
+	}
+}
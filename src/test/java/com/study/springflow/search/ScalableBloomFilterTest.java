@@ -0,0 +1,53 @@
+package com.study.springflow.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScalableBloomFilterTest {
+
+	@Test
+	void neverReportsAddedKeysAsMissing() {
+		ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+		for (int i = 0; i < 20_000; i++) {
+			filter.add("user" + i);
+		}
+
+		for (int i = 0; i < 20_000; i++) {
+			assertThat(filter.mightContain("user" + i)).isTrue();
+		}
+	}
+
+	@Test
+	void addsLayersAsItFillsAndKeepsFalsePositivesBounded() {
+		ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+		for (int i = 0; i < 20_000; i++) {
+			filter.add("user" + i);
+		}
+
+		// 1,000 → 2,000 → 4,000 → 8,000 → 16,000 용량 층
+		assertThat(filter.layerCount()).isEqualTo(5);
+		assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+
+		int falsePositives = 0;
+		int probes = 100_000;
+		for (int i = 0; i < probes; i++) {
+			if (filter.mightContain("absent" + i)) {
+				falsePositives++;
+			}
+		}
+		assertThat((double) falsePositives / probes).isLessThan(0.03);
+	}
+
+	@Test
+	void approximateCountTracksDistinctKeys() {
+		ScalableBloomFilter filter = new ScalableBloomFilter(10_000, 0.01);
+		for (int i = 0; i < 5_000; i++) {
+			filter.add("user" + i);
+			filter.add("user" + i);
+		}
+
+		assertThat(filter.approximateCount()).isBetween(4_900, 5_000);
+		assertThat(filter.layerCount()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,86 @@
+package com.study.springflow.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrigramIndexTest {
+
+	@Test
+	void findsSubstringsCaseInsensitively() {
+		TrigramIndex index = new TrigramIndex();
+		index.put(1, "Alice Kim");
+		index.put(2, "Bob Lee");
+		index.put(3, "alicia");
+
+		assertThat(ids(index.search("LIC", 10))).containsExactly(3L, 1L);
+		assertThat(ids(index.search("ce k", 10))).containsExactly(1L);
+		assertThat(index.search("zzz", 10)).isEmpty();
+	}
+
+	@Test
+	void rejectsCandidatesWhoseTrigramsAreOutOfOrder() {
+		TrigramIndex index = new TrigramIndex();
+		// "abcd" 질의의 트라이그램(abc, bcd)을 모두 갖지만 연속하지 않음
+		index.put(1, "abc-bcd");
+		index.put(2, "xabcdx");
+
+		assertThat(ids(index.search("abcd", 10))).containsExactly(2L);
+	}
+
+	@Test
+	void ranksExactThenPrefixThenShorter() {
+		TrigramIndex index = new TrigramIndex();
+		index.put(1, "the kim family");
+		index.put(2, "kim");
+		index.put(3, "kimberly");
+		index.put(4, "a kim");
+
+		assertThat(ids(index.search("kim", 10))).containsExactly(2L, 3L, 4L, 1L);
+		assertThat(ids(index.search("kim", 2))).containsExactly(2L, 3L);
+	}
+
+	@Test
+	void putReplacesPreviousTextAndRemoveDropsPostings() {
+		TrigramIndex index = new TrigramIndex();
+		index.put(1, "홍길동");
+		index.put(2, "홍길순");
+
+		index.put(1, "김철수");
+		assertThat(ids(index.search("홍길동", 10))).isEmpty();
+		assertThat(ids(index.search("김철수", 10))).containsExactly(1L);
+
+		index.remove(2);
+		assertThat(index.search("홍길순", 10)).isEmpty();
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(index.gramCount()).isEqualTo(1);
+	}
+
+	@Test
+	void idsBeyondIntRangeAreKeptAsIs() {
+		// 샤딩 ID: (시퀀스 << 10) | 샤드 → 시퀀스가 약 210만을 넘으면 int 범위를 벗어남
+		long large = (3_000_000L << 10) | 5;
+		TrigramIndex index = new TrigramIndex();
+		index.put(large, "long id member");
+		index.put(large + 1024, "long id member two");
+
+		assertThat(ids(index.search("long id", 10))).containsExactly(large, large + 1024);
+		index.remove(large);
+		assertThat(ids(index.search("long id", 10))).containsExactly(large + 1024);
+	}
+
+	@Test
+	void shortQueriesAreNotSearchable() {
+		assertThat(TrigramIndex.isSearchable("ab")).isFalse();
+		assertThat(TrigramIndex.isSearchable("abc")).isTrue();
+		assertThatThrownBy(() -> new TrigramIndex().search("ab", 10))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static List<Long> ids(List<TrigramIndex.Match> matches) {
+		return matches.stream().map(TrigramIndex.Match::id).toList();
+	}
+}
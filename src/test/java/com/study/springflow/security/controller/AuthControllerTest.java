@@ -0,0 +1,86 @@
+package com.study.springflow.security.controller;
+
+import com.study.springflow.entity.Member;
+import com.study.springflow.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Test
+	void concurrentLoginsToTheSameAccountAllSucceed() throws Exception {
+		Member before = memberRepository.findByUsername("user").orElseThrow();
+		int logins = 40;
+		CountDownLatch ready = new CountDownLatch(logins);
+		Callable<Integer> login = () -> {
+			ready.countDown();
+			ready.await();
+			return mockMvc.perform(post("/api/auth/login")
+							.contentType(MediaType.APPLICATION_JSON)
+							.content("{\"username\":\"user\",\"password\":\"user123\"}"))
+					.andReturn().getResponse().getStatus();
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(logins);
+		try {
+			List<Future<Integer>> statuses = executor.invokeAll(IntStream.range(0, logins).mapToObj(i -> login).toList());
+			for (Future<Integer> status : statuses) {
+				assertThat(status.get()).isEqualTo(200);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// 로그인 시간만 바뀌고 버전은 그대로 (낙관적 락 제외)
+		Member after = memberRepository.findByUsername("user").orElseThrow();
+		assertThat(after.getVersion()).isEqualTo(before.getVersion());
+		assertThat(after.getLastLoginAt()).isNotNull().isNotEqualTo(before.getLastLoginAt());
+	}
+
+	@Test
+	void duplicateUsernameOrEmailIsRejectedWithTheConflictingField() throws Exception {
+		mockMvc.perform(register("dup-owner", "Dup.Owner@example.com"))
+				.andExpect(status().isOk());
+
+		mockMvc.perform(register("dup-owner", "another@example.com"))
+				.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.field").value("username"));
+		// 이메일은 정규화(소문자)한 값으로 비교 → 대소문자만 다른 주소도 중복
+		mockMvc.perform(register("dup-other", "DUP.OWNER@EXAMPLE.COM"))
+				.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.field").value("email"));
+	}
+
+	private static MockHttpServletRequestBuilder register(String username, String email) {
+		return post("/api/auth/register")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"username\":\"%s\",\"password\":\"password\",\"name\":\"%s\",\"email\":\"%s\",\"role\":\"USER\"}"
+						.formatted(username, username, email));
+	}
+}
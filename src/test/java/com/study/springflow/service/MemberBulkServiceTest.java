@@ -0,0 +1,327 @@
+package com.study.springflow.service;
+
+import com.study.springflow.dto.BulkChangeResponse;
+import com.study.springflow.dto.BulkMemberChangeRequest;
+import com.study.springflow.dto.BulkRegisterResponse;
+import com.study.springflow.dto.BulkRegisterResult;
+import com.study.springflow.entity.Member;
+import com.study.springflow.repository.MemberRepository;
+import com.study.springflow.search.MemberNameIndex;
+import com.study.springflow.search.MemberSuggestIndex;
+import com.study.springflow.search.RadixTrie;
+import com.study.springflow.search.TrigramIndex;
+import com.study.springflow.service.event.MemberBulkChangeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 대량 등록 / 일괄 삭제 / 역할 변경 (청크 크기 2, 요청당 최대 7건)
+ * - 등록: 스트리밍 파싱 중 청크마다 커밋, 항목별 결과(INVALID / DUPLICATE / FAILED), 최대 건수에서 중단
+ * - 삭제/역할 변경: 요청 ID 목록과 필터 키셋 순회가 청크 단위로 끝까지 진행되는지
+ *   요청한 관리자 본인 제외, 실제로 바뀐 ID만 이벤트로 발행, 2차 캐시 / 이름 인덱스 반영
+ */
+@SpringBootTest(properties = {
+		"springflow.bulk.chunk-size=2",
+		"springflow.bulk.max-items=7"
+})
+@RecordApplicationEvents
+class MemberBulkServiceTest {
+
+	// 다른 테스트가 만든 회원과 겹치지 않는 가입일 (필터 조건 대상)
+	private static final LocalDateTime OLD = LocalDateTime.of(1990, 1, 1, 0, 0);
+
+	@Autowired
+	private MemberBulkService memberBulkService;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private MemberNameIndex memberNameIndex;
+
+	@Autowired
+	private MemberSuggestIndex memberSuggestIndex;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ApplicationEvents events;
+
+	private final List<Long> created = new ArrayList<>();
+
+	@AfterEach
+	void deleteCreatedMembers() {
+		created.forEach(id -> memberRepository.findById(id).ifPresent(memberRepository::delete));
+		memberRepository.findAll().stream()
+				.filter(member -> member.getUsername().startsWith("reg-"))
+				.forEach(memberRepository::delete);
+	}
+
+	@Test
+	void registerAllReportsEveryItemAndSkipsInvalidAndDuplicates() throws Exception {
+		BulkRegisterResponse response = memberBulkService.registerAll(body(
+				item("reg-a", "reg-a@example.com"),
+				"{\"username\":\"reg-b\",\"name\":\"reg-b\",\"email\":\"reg-b@example.com\"}",
+				item("reg-c", "reg-c@example.com"),
+				item("reg-c", "reg-c2@example.com"),
+				item("admin", "reg-admin@example.com"),
+				item("reg-d", "REG-A@example.com")));
+
+		assertThat(response.getError()).isNull();
+		assertThat(response.getResults()).extracting(BulkRegisterResult::getIndex, BulkRegisterResult::getStatus)
+				.containsExactly(
+						tuple(0, BulkRegisterResult.Status.CREATED),
+						tuple(1, BulkRegisterResult.Status.INVALID),
+						tuple(2, BulkRegisterResult.Status.CREATED),
+						// 같은 청크 안의 중복
+						tuple(3, BulkRegisterResult.Status.DUPLICATE),
+						// DB에 이미 있는 사용자명
+						tuple(4, BulkRegisterResult.Status.DUPLICATE),
+						// 앞 청크에서 커밋된 이메일 (정규화 후 비교)
+						tuple(5, BulkRegisterResult.Status.DUPLICATE));
+		assertThat(response.getResults().get(5).getMessage()).isEqualTo("이미 사용 중인 이메일입니다.");
+		assertThat(response.getCreated()).isEqualTo(2);
+		assertThat(response.getFailed()).isEqualTo(4);
+
+		Member saved = memberRepository.findByUsername("reg-a").orElseThrow();
+		assertThat(saved.getId()).isEqualTo(response.getResults().get(0).getId());
+		assertThat(saved.getPassword()).isNotEqualTo("password");
+		assertThat(memberRepository.findByUsername("reg-b")).isEmpty();
+		assertThat(memberRepository.findByUsername("reg-d")).isEmpty();
+	}
+
+	@Test
+	void failedInsertRollsBackOnlyItsChunk() throws Exception {
+		BulkRegisterResponse response = memberBulkService.registerAll(body(
+				item("reg-ok", "reg-ok@example.com"),
+				// 이름 컬럼 길이(255) 초과 → 검증은 통과하지만 INSERT 실패
+				"{\"username\":\"reg-long\",\"password\":\"password\",\"name\":\"" + "x".repeat(300) +
+						"\",\"email\":\"reg-long@example.com\"}",
+				item("reg-next", "reg-next@example.com")));
+
+		assertThat(response.getResults()).extracting(BulkRegisterResult::getStatus).containsExactly(
+				BulkRegisterResult.Status.FAILED, BulkRegisterResult.Status.FAILED, BulkRegisterResult.Status.CREATED);
+		assertThat(memberRepository.findByUsername("reg-ok")).isEmpty();
+		assertThat(memberRepository.findByUsername("reg-next")).isPresent();
+	}
+
+	@Test
+	void parsingStopsAtMaxItemsAfterCommittingEarlierChunks() throws Exception {
+		String[] items = IntStream.range(0, 8).mapToObj(i -> item("reg-max" + i, "reg-max" + i + "@example.com"))
+				.toArray(String[]::new);
+
+		BulkRegisterResponse response = memberBulkService.registerAll(body(items));
+
+		assertThat(response.getError()).isEqualTo("요청당 최대 7건까지 등록할 수 있습니다.");
+		assertThat(response.getTotal()).isEqualTo(7);
+		assertThat(response.getCreated()).isEqualTo(7);
+		assertThat(memberRepository.findByUsername("reg-max6")).isPresent();
+		assertThat(memberRepository.findByUsername("reg-max7")).isEmpty();
+	}
+
+	@Test
+	void chunksReadBeforeABrokenStreamAreKept() throws Exception {
+		// 세 번째 항목까지 읽은 뒤 연결이 끊긴 것처럼 실패하는 본문 → 배열 전체를 읽기 전에 청크를 처리했어야 결과가 남음
+		byte[] head = ("[" + item("reg-s0", "reg-s0@example.com") + "," + item("reg-s1", "reg-s1@example.com") + ","
+				+ item("reg-s2", "reg-s2@example.com") + ",").getBytes(StandardCharsets.UTF_8);
+		InputStream broken = new SequenceInputStream(new ByteArrayInputStream(head), new InputStream() {
+			@Override
+			public int read() throws IOException {
+				throw new IOException("connection reset");
+			}
+		});
+
+		BulkRegisterResponse response = memberBulkService.registerAll(broken);
+
+		assertThat(response.getError()).contains("connection reset");
+		assertThat(response.getResults()).extracting(BulkRegisterResult::getStatus)
+				.containsOnly(BulkRegisterResult.Status.CREATED).hasSize(3);
+		assertThat(memberRepository.findByUsername("reg-s2")).isPresent();
+	}
+
+	@Test
+	void bodyMustBeAJsonArray() {
+		assertThatThrownBy(() -> memberBulkService.registerAll(
+				new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void deleteByIdsWalksChunksAndPublishesOnlyDeletedIds() {
+		List<Long> ids = createMembers("bulk-del", 5, Member.MemberRole.USER);
+		Long requester = ids.get(0);
+		long missing = ids.get(ids.size() - 1) + 1_000_000;
+
+		List<Long> requested = new ArrayList<>(ids);
+		requested.add(missing);
+		requested.add(ids.get(1)); // 중복 ID는 한 번만 처리
+		BulkChangeResponse response = memberBulkService.deleteAll(
+				BulkMemberChangeRequest.builder().ids(requested).build(), "bulk-del0");
+
+		// 고유 ID 6개 → 청크 3개, 요청자 본인과 없는 ID는 삭제 수에서 빠짐
+		assertThat(response.getChunks()).isEqualTo(3);
+		assertThat(response.getAffected()).isEqualTo(4);
+		assertThat(memberRepository.findById(requester)).isPresent();
+		assertThat(ids.subList(1, 5)).allMatch(id -> memberRepository.findById(id).isEmpty());
+
+		assertThat(bulkEvents(MemberBulkChangeEvent.Type.DELETED))
+				.containsExactlyInAnyOrderElementsOf(ids.subList(1, 5))
+				.doesNotContain(requester, missing);
+	}
+
+	@Test
+	void deleteByFilterWalksKeysetUntilNoMatchesRemain() {
+		List<Long> ids = createMembers("bulk-filter", 5, Member.MemberRole.USER);
+		ids.forEach(id -> jdbcTemplate.update("UPDATE members SET created_at = ? WHERE id = ?", OLD, id));
+
+		BulkChangeResponse response = memberBulkService.deleteAll(
+				BulkMemberChangeRequest.builder().createdBefore(OLD.plusDays(1)).build(), "bulk-filter2");
+
+		// 대상 5건 → 청크 [2, 2, 1] (요청자 본인은 조회되지만 삭제되지 않음)
+		assertThat(response.getChunks()).isEqualTo(3);
+		assertThat(response.getAffected()).isEqualTo(4);
+		assertThat(memberRepository.findById(ids.get(2))).isPresent();
+		assertThat(memberService.findIdsByFilter(0L, null, OLD.plusDays(1), null, 10)).containsExactly(ids.get(2));
+		assertThat(bulkEvents(MemberBulkChangeEvent.Type.DELETED)).hasSize(4).doesNotContain(ids.get(2));
+	}
+
+	@Test
+	void deletedMembersLeaveTheSecondLevelCacheAndNameIndex() {
+		List<Long> ids = createMembers("bulk-cache", 2, Member.MemberRole.USER);
+		awaitNameIndex();
+		assertThat(memberService.findById(ids.get(1))).isPresent(); // 2차 캐시에 적재
+		assertThat(nameIndexIds("bulk-cache1")).contains(ids.get(1));
+
+		memberBulkService.deleteAll(BulkMemberChangeRequest.builder().ids(List.of(ids.get(1))).build(), "admin");
+
+		assertThat(memberService.findById(ids.get(1))).isEmpty();
+		assertThat(nameIndexIds("bulk-cache1")).doesNotContain(ids.get(1));
+	}
+
+	@Test
+	void bulkDeletedMembersLeaveTheSuggestIndex() {
+		List<Long> ids = createMembers("bulk-suggest", 2, Member.MemberRole.USER);
+		awaitSuggestIndex();
+		assertThat(memberSuggestIndex.suggest("bulk-suggest", 10)).extracting(RadixTrie.Match::value)
+				.containsExactlyInAnyOrder(ids.get(0), ids.get(0), ids.get(1), ids.get(1));
+
+		memberBulkService.deleteAll(BulkMemberChangeRequest.builder().ids(List.of(ids.get(1))).build(), "admin");
+
+		// 사용자명과 이메일 키 모두 이벤트에 담긴 값으로 제거됨
+		assertThat(memberSuggestIndex.suggest("bulk-suggest", 10))
+				.containsExactly(new RadixTrie.Match("bulk-suggest0", ids.get(0)),
+						new RadixTrie.Match("bulk-suggest0@example.com", ids.get(0)));
+		assertThat(bulkDeleted()).extracting(MemberBulkChangeEvent.DeletedMember::username, MemberBulkChangeEvent.DeletedMember::email)
+				.containsExactly(tuple("bulk-suggest1", "bulk-suggest1@example.com"));
+	}
+
+	@Test
+	void changeRoleBumpsVersionOfChangedMembersOnly() {
+		List<Long> users = createMembers("bulk-role", 3, Member.MemberRole.USER);
+		List<Long> admins = createMembers("bulk-admin", 1, Member.MemberRole.ADMIN);
+		List<Long> ids = new ArrayList<>(users);
+		ids.addAll(admins);
+		ids.forEach(memberService::findById); // 2차 캐시에 이전 역할/버전 적재
+
+		BulkChangeResponse response = memberBulkService.changeRole(BulkMemberChangeRequest.builder()
+				.ids(ids).newRole(Member.MemberRole.ADMIN).build(), "bulk-role0");
+
+		// 요청자 본인(bulk-role0)과 이미 ADMIN인 회원은 변경 수와 이벤트에서 빠짐
+		assertThat(response.getChunks()).isEqualTo(2);
+		assertThat(response.getAffected()).isEqualTo(2);
+		assertThat(bulkEvents(MemberBulkChangeEvent.Type.ROLE_CHANGED)).containsExactlyInAnyOrder(users.get(1), users.get(2));
+
+		assertThat(memberService.findById(users.get(0))).get()
+				.extracting(Member::getRole, Member::getVersion).containsExactly(Member.MemberRole.USER, 0L);
+		for (Long id : users.subList(1, 3)) {
+			assertThat(memberService.findById(id)).get()
+					.extracting(Member::getRole, Member::getVersion).containsExactly(Member.MemberRole.ADMIN, 1L);
+		}
+		assertThat(memberService.findById(admins.get(0))).get().extracting(Member::getVersion).isEqualTo(0L);
+	}
+
+	private static InputStream body(String... items) {
+		return new ByteArrayInputStream(("[" + String.join(",", items) + "]").getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String item(String username, String email) {
+		return "{\"username\":\"" + username + "\",\"password\":\"password\",\"name\":\"" + username +
+				"\",\"email\":\"" + email + "\"}";
+	}
+
+	private List<Long> createMembers(String prefix, int count, Member.MemberRole role) {
+		List<Long> ids = IntStream.range(0, count)
+				.mapToObj(i -> memberRepository.saveAndFlush(Member.builder()
+						.username(prefix + i)
+						.password("{noop}password")
+						.name(prefix + i)
+						.email(prefix + i + "@example.com")
+						.role(role)
+						.build()).getId())
+				.toList();
+		created.addAll(ids);
+		return ids;
+	}
+
+	private List<Long> bulkEvents(MemberBulkChangeEvent.Type type) {
+		return events.stream(MemberBulkChangeEvent.class)
+				.filter(event -> event.type() == type)
+				.flatMap(event -> event.ids().stream())
+				.toList();
+	}
+
+	private List<MemberBulkChangeEvent.DeletedMember> bulkDeleted() {
+		return events.stream(MemberBulkChangeEvent.class).flatMap(event -> event.deleted().stream()).toList();
+	}
+
+	private void awaitSuggestIndex() {
+		for (int i = 0; i < 100 && !memberSuggestIndex.isReady(); i++) {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	// 이름 인덱스는 시작 후 비동기로 구축됨
+	private void awaitNameIndex() {
+		for (int i = 0; i < 100 && memberNameIndex.search("bulk", 1).isEmpty(); i++) {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private List<Long> nameIndexIds(String name) {
+		return memberNameIndex.search(name, 10).map(matches -> matches.stream().map(TrigramIndex.Match::id).toList())
+				.orElseThrow();
+	}
+}
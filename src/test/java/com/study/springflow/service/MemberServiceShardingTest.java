@@ -0,0 +1,83 @@
+package com.study.springflow.service;
+
+import com.study.springflow.entity.Member;
+import com.study.springflow.repository.MemberRepository;
+import com.study.springflow.repository.MemberStore;
+import com.study.springflow.repository.sharding.MemberShardKeys;
+import com.study.springflow.repository.sharding.ShardedMemberRepository;
+import com.study.springflow.repository.sharding.ShardedMemberStore;
+import com.study.springflow.search.TrigramIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * sharded 프로필에서 회원 읽기/쓰기가 JPA 단일 DB가 아닌 샤드로 가는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("sharded")
+class MemberServiceShardingTest {
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private ShardedMemberRepository shardedMemberRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private MemberStore memberStore;
+
+	@Autowired
+	private UserDetailsService userDetailsService;
+
+	@Test
+	void membersAreWrittenToAndReadFromTheShards() {
+		assertThat(memberStore).isInstanceOf(ShardedMemberStore.class);
+
+		Member saved = memberService.register(Member.builder()
+				.username("sharded-member")
+				.password("password")
+				.name("샤드 회원")
+				.email("sharded-member@example.com")
+				.role(Member.MemberRole.USER)
+				.build());
+
+		assertThat(MemberShardKeys.shardOf(saved.getId()))
+				.isEqualTo(MemberShardKeys.placementShard("sharded-member", shardedMemberRepository.shardCount()));
+		assertThat(shardedMemberRepository.findById(saved.getId())).isPresent();
+		assertThat(memberRepository.findByUsername("sharded-member")).isEmpty();
+
+		assertThat(memberService.findByUsername("sharded-member")).get().extracting(Member::getId).isEqualTo(saved.getId());
+		assertThat(userDetailsService.loadUserByUsername("sharded-member").getUsername()).isEqualTo("sharded-member");
+
+		Member loggedIn = memberService.updateLastLogin(saved.getId());
+		assertThat(shardedMemberRepository.findById(saved.getId())).get()
+				.extracting(Member::getLastLoginAt).isEqualTo(loggedIn.getLastLoginAt());
+	}
+
+	@Test
+	void likeWildcardsInTheSearchTermMatchLiterally() {
+		memberService.register(member("rate-literal", "rate_50%"));
+		memberService.register(member("rate-wildcard", "rateX500"));
+
+		assertThat(memberService.searchByNameInDb("e_50%", 20).getItems())
+				.extracting(TrigramIndex.Match::text).containsExactly("rate_50%");
+	}
+
+	private static Member member(String username, String name) {
+		return Member.builder()
+				.username(username)
+				.password("password")
+				.name(name)
+				.email(username + "@example.com")
+				.role(Member.MemberRole.USER)
+				.build();
+	}
+}
@@ -0,0 +1,204 @@
+package com.study.springflow.service;
+
+import com.study.springflow.entity.Member;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberWriteCoalescerTest {
+
+	private final AtomicLong ids = new AtomicLong();
+
+	private MemberService memberService;
+	private SimpleMeterRegistry registry;
+	private MemberWriteCoalescer coalescer;
+
+	@BeforeEach
+	void setUp() {
+		memberService = mock(MemberService.class);
+		registry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		coalescer.close();
+	}
+
+	@Test
+	void concurrentRegistrationsCommitInOneBatch() {
+		start(10);
+		when(memberService.registerAll(anyList())).thenAnswer(invocation -> {
+			List<Member> members = invocation.getArgument(0);
+			members.forEach(member -> member.setId(ids.incrementAndGet()));
+			return members;
+		});
+
+		List<CompletableFuture<Member>> results = IntStream.range(0, 10)
+				.mapToObj(i -> coalescer.register(member("user" + i)))
+				.toList();
+
+		assertThat(results).allSatisfy(result ->
+				assertThat(MemberWriteCoalescer.await(result).getId()).isNotNull());
+		assertThat(MemberWriteCoalescer.await(results.get(3)).getPassword()).isEqualTo("{noop}password");
+		verify(memberService, times(1)).registerAll(anyList());
+		verify(memberService, never()).registerEncoded(any());
+		assertThat(registry.get("springflow.member.write.batches").tag("result", "committed").counter().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	void failedBatchIsRetriedPerRequestAndOnlyTheDuplicateFails() {
+		start(3);
+		when(memberService.registerAll(anyList())).thenThrow(new DataIntegrityViolationException("uk_members_username"));
+		when(memberService.registerEncoded(any())).thenAnswer(invocation -> {
+			Member member = invocation.getArgument(0);
+			if (member.getUsername().equals("taken")) {
+				throw new DuplicateMemberException(DuplicateMemberException.Field.USERNAME, "이미 존재하는 사용자명입니다: taken", null);
+			}
+			member.setId(ids.incrementAndGet());
+			return member;
+		});
+
+		CompletableFuture<Member> first = coalescer.register(member("first"));
+		CompletableFuture<Member> taken = coalescer.register(member("taken"));
+		CompletableFuture<Member> second = coalescer.register(member("second"));
+
+		assertThat(MemberWriteCoalescer.await(first).getId()).isNotNull();
+		assertThat(MemberWriteCoalescer.await(second).getId()).isNotNull();
+		assertThatThrownBy(() -> MemberWriteCoalescer.await(taken))
+				.isInstanceOf(DuplicateMemberException.class);
+		assertThat(registry.get("springflow.member.write.batches").tag("result", "split").counter().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	void repeatedLoginsOfTheSameMemberAreWrittenOnce() {
+		start(3);
+		when(memberService.updateLastLoginAll(anyMap())).thenAnswer(invocation -> {
+			Map<Long, LocalDateTime> loginTimes = invocation.getArgument(0);
+			return loginTimes.entrySet().stream()
+					.map(entry -> Member.builder().id(entry.getKey()).lastLoginAt(entry.getValue()).build())
+					.toList();
+		});
+
+		List<CompletableFuture<Member>> results = List.of(
+				coalescer.updateLastLogin(1L), coalescer.updateLastLogin(2L), coalescer.updateLastLogin(1L));
+
+		assertThat(results).extracting(MemberWriteCoalescer::await).extracting(Member::getId)
+				.containsExactly(1L, 2L, 1L);
+		verify(memberService, times(1)).updateLastLoginAll(argThat(loginTimes -> loginTimes.size() == 2));
+	}
+
+	@Test
+	void closeWaitsForQueuedRequestsInsteadOfFailingThem() throws Exception {
+		start(1);
+		when(memberService.registerEncoded(any())).thenAnswer(invocation -> {
+			Thread.sleep(100);
+			Member member = invocation.getArgument(0);
+			member.setId(ids.incrementAndGet());
+			return member;
+		});
+
+		List<CompletableFuture<Member>> results = IntStream.range(0, 3)
+				.mapToObj(i -> coalescer.register(member("user" + i)))
+				.toList();
+		coalescer.close();
+
+		assertThat(results).allSatisfy(result -> assertThat(result).isCompleted().isNotCompletedExceptionally());
+		verify(memberService, times(3)).registerEncoded(any());
+	}
+
+	@Test
+	void errorInBatchFailsOnlyThatBatchAndWriterKeepsRunning() {
+		start(1);
+		when(memberService.registerEncoded(any()))
+				.thenThrow(new OutOfMemoryError("simulated"))
+				.thenAnswer(invocation -> {
+					Member member = invocation.getArgument(0);
+					member.setId(ids.incrementAndGet());
+					return member;
+				});
+
+		CompletableFuture<Member> failed = coalescer.register(member("first"));
+		assertThatThrownBy(failed::join).hasCauseInstanceOf(OutOfMemoryError.class);
+
+		assertThat(MemberWriteCoalescer.await(coalescer.register(member("second"))).getId()).isNotNull();
+	}
+
+	@Test
+	void awaitGivesUpAfterTimeoutAndQueuedRequestIsNotExecuted() throws Exception {
+		start(1, 200);
+		CountDownLatch release = new CountDownLatch(1);
+		when(memberService.registerEncoded(any())).thenAnswer(invocation -> {
+			release.await();
+			Member member = invocation.getArgument(0);
+			member.setId(ids.incrementAndGet());
+			return member;
+		});
+
+		CompletableFuture<Member> stuck = coalescer.register(member("stuck"));
+		CompletableFuture<Member> queued = coalescer.register(member("queued"));
+
+		assertThatThrownBy(() -> MemberWriteCoalescer.await(queued))
+				.isInstanceOf(IllegalStateException.class)
+				.hasCauseInstanceOf(TimeoutException.class);
+		assertThatThrownBy(() -> MemberWriteCoalescer.await(stuck)).isInstanceOf(IllegalStateException.class);
+
+		release.countDown();
+		coalescer.close();
+		// 쓰기 스레드가 이미 꺼낸 요청만 실행되고, 큐에 있던 요청은 취소됨
+		verify(memberService, times(1)).registerEncoded(argThat(member -> member.getUsername().equals("stuck")));
+		verify(memberService, never()).registerEncoded(argThat(member -> member.getUsername().equals("queued")));
+	}
+
+	private void start(int maxBatch) {
+		start(maxBatch, 5_000);
+	}
+
+	// 배치가 maxBatch건으로 바로 닫히도록 대기 시간은 길게 (요청 수 = maxBatch)
+	private void start(int maxBatch, long awaitTimeoutMs) {
+		PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+		when(passwordEncoder.encode(any())).thenAnswer(invocation -> "{noop}" + invocation.getArgument(0));
+		coalescer = new MemberWriteCoalescer(memberService, passwordEncoder, transactionManager, registry,
+				10_000, maxBatch, 100, awaitTimeoutMs);
+		coalescer.start();
+	}
+
+	private static Member member(String username) {
+		return Member.builder()
+				.username(username)
+				.password("password")
+				.name(username)
+				.email(username + "@example.com")
+				.role(Member.MemberRole.USER)
+				.build();
+	}
+}
@@ -0,0 +1,88 @@
+package com.study.springflow.service;
+
+import com.study.springflow.entity.Member;
+import com.study.springflow.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.lang.Nullable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.ConfigurableTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * coalesce 프로필의 실제 트랜잭션 매니저/DB로 배치 하나가 트랜잭션 한 번에 커밋되는지 확인
+ * - 배치는 max-batch(5)건이 모이면 바로 닫힘 (max-wait은 BCrypt 계산 시간보다 넉넉하게)
+ */
+@SpringBootTest(properties = {
+		"springflow.write-coalescer.max-wait-ms=10000",
+		"springflow.write-coalescer.max-batch=5"
+})
+@ActiveProfiles("coalesce")
+class MemberWriteCoalescerTransactionTest {
+
+	@Autowired
+	private MemberWriteCoalescer coalescer;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Test
+	void batchOfRegistrationsIsCommittedInOneTransaction() {
+		WriterTransactions transactions = new WriterTransactions();
+		((ConfigurableTransactionManager) transactionManager).addListener(transactions);
+
+		List<CompletableFuture<Member>> results = IntStream.range(0, 5)
+				.mapToObj(i -> coalescer.register(Member.builder()
+						.username("coalesced" + i)
+						.password("password")
+						.name("묶음 회원 " + i)
+						.email("coalesced" + i + "@example.com")
+						.role(Member.MemberRole.USER)
+						.build()))
+				.toList();
+
+		assertThat(results).extracting(MemberWriteCoalescer::await).extracting(Member::getId).doesNotContainNull();
+		assertThat(transactions.begun).hasValue(1);
+		assertThat(transactions.committed).hasValue(1);
+		assertThat(IntStream.range(0, 5).mapToObj(i -> memberRepository.findByUsername("coalesced" + i)))
+				.allMatch(Optional::isPresent);
+	}
+
+	// 쓰기 스레드에서 시작/커밋된 트랜잭션만 셈 (인덱스 구축 등 다른 스레드의 트랜잭션 제외)
+	private static class WriterTransactions implements TransactionExecutionListener {
+		private final AtomicInteger begun = new AtomicInteger();
+		private final AtomicInteger committed = new AtomicInteger();
+
+		@Override
+		public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+			if (onWriter() && beginFailure == null) {
+				begun.incrementAndGet();
+			}
+		}
+
+		@Override
+		public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+			if (onWriter() && commitFailure == null) {
+				committed.incrementAndGet();
+			}
+		}
+
+		private static boolean onWriter() {
+			return Thread.currentThread().getName().equals("member-write-coalescer");
+		}
+	}
+}